@@ -203,7 +203,13 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
         private ChangeListener<? super T>[] changeListeners;
         private int invalidationSize;
         private int changeSize;
-        private boolean locked;
+        // The number of notifications in progress, and whether the listener
+        // arrays are still used by one of them, in which case they are copied
+        // before they are modified. This way, the arrays are copied at most once
+        // per notification, and not at all if no listener is added or removed.
+        private int notifying;
+        private boolean invalidationShared;
+        private boolean changeShared;
         private T currentValue;
 
         private Generic(ObservableValue<T> observable, InvalidationListener listener0, InvalidationListener listener1) {
@@ -235,9 +241,10 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                 invalidationSize = 1;
             } else {
                 final int oldCapacity = invalidationListeners.length;
-                if (locked) {
+                if (invalidationShared) {
                     final int newCapacity = (invalidationSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
                     invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
+                    invalidationShared = false;
                 } else if (invalidationSize == oldCapacity) {
                     invalidationSize = trim(invalidationSize, invalidationListeners);
                     if (invalidationSize == oldCapacity) {
@@ -255,29 +262,21 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
             if (invalidationListeners != null) {
                 for (int index = 0; index < invalidationSize; index++) {
                     if (listener.equals(invalidationListeners[index])) {
-                        if (invalidationSize == 1) {
-                            if (changeSize == 1) {
-                                return new SingleChange<>(observable, currentValue, changeListeners[0]);
-                            }
-                            invalidationListeners = null;
-                            invalidationSize = 0;
-                        } else if ((invalidationSize == 2) && (changeSize == 0)) {
-                            return new SingleInvalidation<>(observable, invalidationListeners[1-index]);
-                        } else {
-                            final int numMoved = invalidationSize - index - 1;
-                            final InvalidationListener[] oldListeners = invalidationListeners;
-                            if (locked) {
-                                invalidationListeners = new InvalidationListener[invalidationListeners.length];
-                                System.arraycopy(oldListeners, 0, invalidationListeners, 0, index);
-                            }
-                            if (numMoved > 0) {
-                                System.arraycopy(oldListeners, index+1, invalidationListeners, index, numMoved);
-                            }
-                            invalidationSize--;
-                            if (!locked) {
-                                invalidationListeners[invalidationSize] = null; // Let gc do its work
-                            }
+                        if ((invalidationSize == 1) && (changeSize == 0)) {
+                            return null;
                         }
+                        final int numMoved = invalidationSize - index - 1;
+                        final InvalidationListener[] oldListeners = invalidationListeners;
+                        if (invalidationShared) {
+                            invalidationListeners = new InvalidationListener[invalidationListeners.length];
+                            System.arraycopy(oldListeners, 0, invalidationListeners, 0, index);
+                            invalidationShared = false;
+                        }
+                        if (numMoved > 0) {
+                            System.arraycopy(oldListeners, index+1, invalidationListeners, index, numMoved);
+                        }
+                        invalidationSize--;
+                        invalidationListeners[invalidationSize] = null; // Let gc do its work
                         break;
                     }
                 }
@@ -292,9 +291,10 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                 changeSize = 1;
             } else {
                 final int oldCapacity = changeListeners.length;
-                if (locked) {
+                if (changeShared) {
                     final int newCapacity = (changeSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
                     changeListeners = Arrays.copyOf(changeListeners, newCapacity);
+                    changeShared = false;
                 } else if (changeSize == oldCapacity) {
                     changeSize = trim(changeSize, changeListeners);
                     if (changeSize == oldCapacity) {
@@ -315,29 +315,23 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
             if (changeListeners != null) {
                 for (int index = 0; index < changeSize; index++) {
                     if (listener.equals(changeListeners[index])) {
-                        if (changeSize == 1) {
-                            if (invalidationSize == 1) {
-                                return new SingleInvalidation<>(observable, invalidationListeners[0]);
-                            }
-                            changeListeners = null;
-                            changeSize = 0;
+                        if ((changeSize == 1) && (invalidationSize == 0)) {
+                            return null;
+                        }
+                        final int numMoved = changeSize - index - 1;
+                        final ChangeListener<? super T>[] oldListeners = changeListeners;
+                        if (changeShared) {
+                            changeListeners = new ChangeListener[changeListeners.length];
+                            System.arraycopy(oldListeners, 0, changeListeners, 0, index);
+                            changeShared = false;
+                        }
+                        if (numMoved > 0) {
+                            System.arraycopy(oldListeners, index+1, changeListeners, index, numMoved);
+                        }
+                        changeSize--;
+                        changeListeners[changeSize] = null; // Let gc do its work
+                        if (changeSize == 0) {
                             currentValue = null;  // clear current value to avoid stale reference
-                        } else if ((changeSize == 2) && (invalidationSize == 0)) {
-                            return new SingleChange<>(observable, currentValue, changeListeners[1-index]);
-                        } else {
-                            final int numMoved = changeSize - index - 1;
-                            final ChangeListener<? super T>[] oldListeners = changeListeners;
-                            if (locked) {
-                                changeListeners = new ChangeListener[changeListeners.length];
-                                System.arraycopy(oldListeners, 0, changeListeners, 0, index);
-                            }
-                            if (numMoved > 0) {
-                                System.arraycopy(oldListeners, index+1, changeListeners, index, numMoved);
-                            }
-                            changeSize--;
-                            if (!locked) {
-                                changeListeners[changeSize] = null; // Let gc do its work
-                            }
                         }
                         break;
                     }
@@ -354,18 +348,20 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
             final int curChangeSize = changeSize;
 
             try {
-                locked = true;
+                notifying++;
+                invalidationShared = true;
+                changeShared = true;
 
                 final T oldValue = currentValue;
 
                 if (curChangeSize > 0) {
 
                     /*
-                     * Because invalidation listeners may get removed during notification, this may
-                     * change the Helper type from Generic to SingleChange. When this transition
-                     * occurs, it is essential the correct current value is passed to the new
-                     * SingleChange instance. This is why the currentValue is already obtained
-                     * before notifying the invalidation listeners.
+                     * The new value is obtained before notifying the invalidation listeners, which
+                     * may add or remove listeners. Those changes never turn this helper into another
+                     * type, and the listener arrays used by this notification are copied before they
+                     * are modified, so the notification completes with the listeners and the value
+                     * it started with.
                      */
 
                     currentValue = observable.getValue();
@@ -395,7 +391,10 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                     }
                 }
             } finally {
-                locked = false;
+                if (--notifying == 0) {
+                    invalidationShared = false;
+                    changeShared = false;
+                }
             }
         }
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -36,6 +36,7 @@ import javafx.beans.binding.IntegerBinding;
 import javafx.beans.binding.LongBinding;
 import javafx.beans.binding.ObjectBinding;
 import javafx.beans.binding.StringBinding;
+import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableBooleanValue;
 import javafx.beans.value.ObservableNumberValue;
 import javafx.beans.value.ObservableValue;
@@ -58,6 +59,12 @@ import java.util.Arrays;
  * With a SelectBinding, "a" must always exist. Usually "a" will refer to
  * "this", or some concrete object. "b"* will be some intermediate step in the
  * select binding.
+ * <p>
+ * The chain is only observed once the binding is evaluated. When a step
+ * changes, only the steps after it stop being observed, and the next
+ * evaluation resolves the chain from that step on. An object binding
+ * observes the chain only while it has listeners, and does not cache its
+ * value otherwise.
  */
 public class SelectBinding {
 
@@ -77,18 +84,42 @@ public class SelectBinding {
 
         @Override
         public void dispose() {
-            helper.unregisterListener();
+            helper.dispose();
+        }
+
+        @Override
+        public void removeListener(InvalidationListener listener) {
+            super.removeListener(listener);
+            stopObservingIfUnobserved();
+        }
+
+        @Override
+        public void removeListener(ChangeListener<? super T> listener) {
+            super.removeListener(listener);
+            stopObservingIfUnobserved();
+        }
+
+        /**
+         * Stops observing the chain when the last listener of this binding
+         * was removed. The chain is observed again, and the value cached,
+         * once the binding has a listener and is evaluated.
+         */
+        private void stopObservingIfUnobserved() {
+            if (!isObserved()) {
+                helper.unregisterListener();
+                invalidate();
+            }
         }
 
         @Override
-        protected void onInvalidating() {
-            helper.unregisterListener();
+        protected boolean allowValidation() {
+            return isObserved();
         }
 
         @SuppressWarnings("unchecked")
         @Override
         protected T computeValue() {
-            final ObservableValue<?> observable = helper.getObservableValue();
+            final ObservableValue<?> observable = helper.getObservableValue(isObserved());
             if (observable == null) {
                 return null;
             }
@@ -121,12 +152,7 @@ public class SelectBinding {
 
         @Override
         public void dispose() {
-            helper.unregisterListener();
-        }
-
-        @Override
-        protected void onInvalidating() {
-            helper.unregisterListener();
+            helper.dispose();
         }
 
         @Override
@@ -172,12 +198,7 @@ public class SelectBinding {
 
         @Override
         public void dispose() {
-            helper.unregisterListener();
-        }
-
-        @Override
-        protected void onInvalidating() {
-            helper.unregisterListener();
+            helper.dispose();
         }
 
         @Override
@@ -223,12 +244,7 @@ public class SelectBinding {
 
         @Override
         public void dispose() {
-            helper.unregisterListener();
-        }
-
-        @Override
-        protected void onInvalidating() {
-            helper.unregisterListener();
+            helper.dispose();
         }
 
         @Override
@@ -274,12 +290,7 @@ public class SelectBinding {
 
         @Override
         public void dispose() {
-            helper.unregisterListener();
-        }
-
-        @Override
-        protected void onInvalidating() {
-            helper.unregisterListener();
+            helper.dispose();
         }
 
         @Override
@@ -325,12 +336,7 @@ public class SelectBinding {
 
         @Override
         public void dispose() {
-            helper.unregisterListener();
-        }
-
-        @Override
-        protected void onInvalidating() {
-            helper.unregisterListener();
+            helper.dispose();
         }
 
         @Override
@@ -376,12 +382,7 @@ public class SelectBinding {
 
         @Override
         public void dispose() {
-            helper.unregisterListener();
-        }
-
-        @Override
-        protected void onInvalidating() {
-            helper.unregisterListener();
+            helper.dispose();
         }
 
         @Override
@@ -415,6 +416,13 @@ public class SelectBinding {
         private final PropertyReference<?>[] propRefs;
         private final WeakInvalidationListener observer;
 
+        // The number of steps that are observed, starting with the root. The
+        // values of these steps did not change since they were resolved,
+        // except maybe for the last one, so the chain only has to be resolved
+        // again from the last one on. Apart from the root, properties[] only
+        // holds the observed steps.
+        private int observed;
+
         private ObservableList<ObservableValue<?>> dependencies;
 
         private SelectBindingHelper(Binding<?> binding, ObservableValue<?> firstProperty, String... steps) {
@@ -440,7 +448,6 @@ public class SelectBinding {
             propRefs = new PropertyReference<?>[n];
             properties = new ObservableValue<?>[n + 1];
             properties[0] = firstProperty;
-            properties[0].addListener(observer);
         }
 
         private static ObservableValue<?> checkAndCreateFirstStep(Object root, String[] steps) {
@@ -460,15 +467,37 @@ public class SelectBinding {
 
         @Override
         public void invalidated(Observable observable) {
+            // the steps after the one that changed may now be different
+            for (int i = 0; i < observed; i++) {
+                if (properties[i] == observable) {
+                    unregisterListeners(i + 1);
+                    break;
+                }
+            }
             binding.invalidate();
         }
 
         public ObservableValue<?> getObservableValue() {
+            return getObservableValue(true);
+        }
+
+        public ObservableValue<?> getObservableValue(boolean observe) {
             // Step through each of the steps, and at each step add a listener as
-            // appropriate, accumulating the result.
+            // appropriate, accumulating the result. The steps that are already
+            // observed did not change, so stepping starts at the last of them.
             final int n = properties.length;
-            for (int i = 0; i < n - 1; i++) {
-                final Object obj = properties[i].getValue();
+            int start = 0;
+            if (observe) {
+                if (observed == 0) {
+                    properties[0].addListener(observer);
+                    observed = 1;
+                }
+                start = observed - 1;
+            }
+            ObservableValue<?> current = properties[start];
+            for (int i = start; i < n - 1; i++) {
+                final Object obj = current.getValue();
+                final ObservableValue<?> next;
                 try {
                     if ((propRefs[i] == null)
                             || (!obj.getClass().equals(
@@ -477,9 +506,9 @@ public class SelectBinding {
                                 propertyNames[i]);
                     }
                     if (propRefs[i].hasProperty()) {
-                        properties[i + 1] = propRefs[i].getProperty(obj);
+                        next = propRefs[i].getProperty(obj);
                     } else {
-                        properties[i + 1] = JavaBeanAccessHelper.createReadOnlyJavaBeanProperty(obj, propRefs[i].getName());
+                        next = JavaBeanAccessHelper.createReadOnlyJavaBeanProperty(obj, propRefs[i].getName());
                     }
                 } catch (NoSuchMethodException ex) {
                     Logging.getLogger().warning("Exception while evaluating select-binding " + stepsToString(), ex);
@@ -495,7 +524,7 @@ public class SelectBinding {
                             logger.warning("Property '" + propertyNames[i] + "' does not exist in " + obj.getClass(), ex);
                         } else if (ex instanceof NullPointerException) {
                             logger.fine(msg);
-                            logger.fine("Property '" + propertyNames[i] + "' in " + properties[i] + " is null", ex);
+                            logger.fine("Property '" + propertyNames[i] + "' in " + current + " is null", ex);
                         } else {
                             logger.warning(msg, ex);
                         }
@@ -504,30 +533,46 @@ public class SelectBinding {
                     updateDependencies();
                     return null;
                 }
-                properties[i + 1].addListener(observer);
+                if (observe) {
+                    next.addListener(observer);
+                    properties[i + 1] = next;
+                    observed = i + 2;
+                }
+                current = next;
             }
             updateDependencies();
-            final ObservableValue<?> result = properties[n-1];
-            if (result == null) {
-                Logging.getLogger().fine("Property '" + propertyNames[n-1] + "' in " + properties[n-1] + " is null", new NullPointerException());
+            if (current == null) {
+                Logging.getLogger().fine("Property '" + propertyNames[n-2] + "' in " + properties[n-2] + " is null", new NullPointerException());
             }
-            return result;
+            return current;
         }
 
         private String stepsToString() {
             return Arrays.toString(propertyNames);
         }
 
+        private void dispose() {
+            unregisterListener();
+        }
+
         private void unregisterListener() {
-            final int n = properties.length;
-            for (int i = 1; i < n; i++) {
-                if (properties[i] == null) {
-                    break;
-                }
+            unregisterListeners(0);
+        }
+
+        /**
+         * Stops observing the steps from the given one on.
+         */
+        private void unregisterListeners(int from) {
+            for (int i = from; i < observed; i++) {
                 properties[i].removeListener(observer);
-                properties[i] = null;
+                if (i > 0) {
+                    properties[i] = null;
+                }
+            }
+            if (from < observed) {
+                observed = from;
+                updateDependencies();
             }
-            updateDependencies();
         }
 
         private void updateDependencies() {
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.collections;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import javafx.collections.ModifiableObservableListBase;
+import javafx.collections.ObservableDoubleList;
+
+/**
+ * ObservableDoubleList default implementation, backed by a {@code double[]}.
+ */
+public class ObservableDoubleListImpl extends ModifiableObservableListBase<Double>
+        implements ObservableDoubleList, RandomAccess {
+
+    private static final double[] INITIAL = new double[0];
+
+    private double[] array = INITIAL;
+    private int size = 0;
+
+    public ObservableDoubleListImpl() {
+    }
+
+    public ObservableDoubleListImpl(double... elements) {
+        array = elements.clone();
+        size = elements.length;
+    }
+
+    @Override
+    public Double get(int index) {
+        return getDouble(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public double getDouble(int index) {
+        Objects.checkIndex(index, size);
+        return array[index];
+    }
+
+    @Override
+    public double setDouble(int index, double value) {
+        Objects.checkIndex(index, size);
+        double old = array[index];
+        array[index] = value;
+        beginChange();
+        nextSet(index, old);
+        endChange();
+        return old;
+    }
+
+    @Override
+    public void addDouble(double value) {
+        addDouble(size, value);
+    }
+
+    @Override
+    public void addDouble(int index, double value) {
+        insert(index, value);
+        beginChange();
+        nextAdd(index, index + 1);
+        ++modCount;
+        endChange();
+    }
+
+    @Override
+    public void addAll(double[] values) {
+        addAll(values, 0, values.length);
+    }
+
+    @Override
+    public void addAll(double[] src, int srcIndex, int length) {
+        Objects.checkFromIndexSize(srcIndex, length, src.length);
+        if (length == 0) {
+            return;
+        }
+        ensureCapacity(size + length);
+        System.arraycopy(src, srcIndex, array, size, length);
+        size += length;
+        beginChange();
+        nextAdd(size - length, size);
+        ++modCount;
+        endChange();
+    }
+
+    @Override
+    public void setAll(double[] values) {
+        setAll(values, 0, values.length);
+    }
+
+    @Override
+    public void setAll(double[] src, int srcIndex, int length) {
+        Objects.checkFromIndexSize(srcIndex, length, src.length);
+        if (length == 0 && size == 0) {
+            return;
+        }
+        beginChange();
+        if (size > 0 && hasListeners()) {
+            nextRemove(0, boxed(Arrays.copyOf(array, size)));
+        }
+        if (array.length < length) {
+            // the old values have been copied already, if needed
+            array = new double[length];
+        }
+        System.arraycopy(src, srcIndex, array, 0, length);
+        size = length;
+        if (length > 0) {
+            nextAdd(0, length);
+        }
+        ++modCount;
+        endChange();
+    }
+
+    @Override
+    public void copyTo(int srcIndex, double[] dest, int destIndex, int length) {
+        Objects.checkFromIndexSize(srcIndex, length, size);
+        System.arraycopy(array, srcIndex, dest, destIndex, length);
+    }
+
+    @Override
+    public double[] toArray(double[] dest) {
+        if (dest == null || dest.length < size) {
+            dest = new double[size];
+        }
+        System.arraycopy(array, 0, dest, 0, size);
+        return dest;
+    }
+
+    @Override
+    protected void doAdd(int index, Double element) {
+        insert(index, Objects.requireNonNull(element));
+    }
+
+    @Override
+    protected Double doSet(int index, Double element) {
+        Objects.requireNonNull(element);
+        Objects.checkIndex(index, size);
+        double old = array[index];
+        array[index] = element;
+        return old;
+    }
+
+    @Override
+    protected Double doRemove(int index) {
+        Objects.checkIndex(index, size);
+        double old = array[index];
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        --size;
+        return old;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        if (fromIndex == toIndex) {
+            return;
+        }
+        beginChange();
+        if (hasListeners()) {
+            nextRemove(fromIndex, boxed(Arrays.copyOfRange(array, fromIndex, toIndex)));
+        }
+        System.arraycopy(array, toIndex, array, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+        ++modCount;
+        endChange();
+    }
+
+    @Override
+    public void clear() {
+        removeRange(0, size);
+    }
+
+    private void insert(int index, double value) {
+        Objects.checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        System.arraycopy(array, index, array, index + 1, size - index);
+        array[index] = value;
+        ++size;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (array.length < capacity) {
+            int newLength = Math.max(capacity, array.length + (array.length >> 1) + 1);
+            array = Arrays.copyOf(array, newLength);
+        }
+    }
+
+    /**
+     * Wraps the given values as a list, which boxes them only when they are
+     * accessed. Used to report removed values.
+     */
+    private static List<Double> boxed(double[] values) {
+        class BoxedList extends AbstractList<Double> implements RandomAccess {
+            @Override
+            public Double get(int index) {
+                return values[index];
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+        }
+        return new BoxedList();
+    }
+}
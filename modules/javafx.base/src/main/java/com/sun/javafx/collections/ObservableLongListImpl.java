@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.collections;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import javafx.collections.ModifiableObservableListBase;
+import javafx.collections.ObservableLongList;
+
+/**
+ * ObservableLongList default implementation, backed by a {@code long[]}.
+ */
+public class ObservableLongListImpl extends ModifiableObservableListBase<Long>
+        implements ObservableLongList, RandomAccess {
+
+    private static final long[] INITIAL = new long[0];
+
+    private long[] array = INITIAL;
+    private int size = 0;
+
+    public ObservableLongListImpl() {
+    }
+
+    public ObservableLongListImpl(long... elements) {
+        array = elements.clone();
+        size = elements.length;
+    }
+
+    @Override
+    public Long get(int index) {
+        return getLong(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long getLong(int index) {
+        Objects.checkIndex(index, size);
+        return array[index];
+    }
+
+    @Override
+    public long setLong(int index, long value) {
+        Objects.checkIndex(index, size);
+        long old = array[index];
+        array[index] = value;
+        beginChange();
+        nextSet(index, old);
+        endChange();
+        return old;
+    }
+
+    @Override
+    public void addLong(long value) {
+        addLong(size, value);
+    }
+
+    @Override
+    public void addLong(int index, long value) {
+        insert(index, value);
+        beginChange();
+        nextAdd(index, index + 1);
+        ++modCount;
+        endChange();
+    }
+
+    @Override
+    public void addAll(long[] values) {
+        addAll(values, 0, values.length);
+    }
+
+    @Override
+    public void addAll(long[] src, int srcIndex, int length) {
+        Objects.checkFromIndexSize(srcIndex, length, src.length);
+        if (length == 0) {
+            return;
+        }
+        ensureCapacity(size + length);
+        System.arraycopy(src, srcIndex, array, size, length);
+        size += length;
+        beginChange();
+        nextAdd(size - length, size);
+        ++modCount;
+        endChange();
+    }
+
+    @Override
+    public void setAll(long[] values) {
+        setAll(values, 0, values.length);
+    }
+
+    @Override
+    public void setAll(long[] src, int srcIndex, int length) {
+        Objects.checkFromIndexSize(srcIndex, length, src.length);
+        if (length == 0 && size == 0) {
+            return;
+        }
+        beginChange();
+        if (size > 0 && hasListeners()) {
+            nextRemove(0, boxed(Arrays.copyOf(array, size)));
+        }
+        if (array.length < length) {
+            // the old values have been copied already, if needed
+            array = new long[length];
+        }
+        System.arraycopy(src, srcIndex, array, 0, length);
+        size = length;
+        if (length > 0) {
+            nextAdd(0, length);
+        }
+        ++modCount;
+        endChange();
+    }
+
+    @Override
+    public void copyTo(int srcIndex, long[] dest, int destIndex, int length) {
+        Objects.checkFromIndexSize(srcIndex, length, size);
+        System.arraycopy(array, srcIndex, dest, destIndex, length);
+    }
+
+    @Override
+    public long[] toArray(long[] dest) {
+        if (dest == null || dest.length < size) {
+            dest = new long[size];
+        }
+        System.arraycopy(array, 0, dest, 0, size);
+        return dest;
+    }
+
+    @Override
+    protected void doAdd(int index, Long element) {
+        insert(index, Objects.requireNonNull(element));
+    }
+
+    @Override
+    protected Long doSet(int index, Long element) {
+        Objects.requireNonNull(element);
+        Objects.checkIndex(index, size);
+        long old = array[index];
+        array[index] = element;
+        return old;
+    }
+
+    @Override
+    protected Long doRemove(int index) {
+        Objects.checkIndex(index, size);
+        long old = array[index];
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        --size;
+        return old;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        if (fromIndex == toIndex) {
+            return;
+        }
+        beginChange();
+        if (hasListeners()) {
+            nextRemove(fromIndex, boxed(Arrays.copyOfRange(array, fromIndex, toIndex)));
+        }
+        System.arraycopy(array, toIndex, array, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+        ++modCount;
+        endChange();
+    }
+
+    @Override
+    public void clear() {
+        removeRange(0, size);
+    }
+
+    private void insert(int index, long value) {
+        Objects.checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        System.arraycopy(array, index, array, index + 1, size - index);
+        array[index] = value;
+        ++size;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (array.length < capacity) {
+            int newLength = Math.max(capacity, array.length + (array.length >> 1) + 1);
+            array = Arrays.copyOf(array, newLength);
+        }
+    }
+
+    /**
+     * Wraps the given values as a list, which boxes them only when they are
+     * accessed. Used to report removed values.
+     */
+    private static List<Long> boxed(long[] values) {
+        class BoxedList extends AbstractList<Long> implements RandomAccess {
+            @Override
+            public Long get(int index) {
+                return values[index];
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+        }
+        return new BoxedList();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -171,7 +171,13 @@ public abstract class SetListenerHelper<E> extends ExpressionHelperBase {
         private SetChangeListener<? super E>[] changeListeners;
         private int invalidationSize;
         private int changeSize;
-        private boolean locked;
+        // The number of notifications in progress, and whether the listener
+        // arrays are still used by one of them, in which case they are copied
+        // before they are modified. This way, the arrays are copied at most once
+        // per notification, and not at all if no listener is added or removed.
+        private int notifying;
+        private boolean invalidationShared;
+        private boolean changeShared;
 
         private Generic(InvalidationListener listener0, InvalidationListener listener1) {
             this.invalidationListeners = new InvalidationListener[] {listener0, listener1};
@@ -197,9 +203,10 @@ public abstract class SetListenerHelper<E> extends ExpressionHelperBase {
                 invalidationSize = 1;
             } else {
                 final int oldCapacity = invalidationListeners.length;
-                if (locked) {
+                if (invalidationShared) {
                     final int newCapacity = (invalidationSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
                     invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
+                    invalidationShared = false;
                 } else if (invalidationSize == oldCapacity) {
                     invalidationSize = trim(invalidationSize, invalidationListeners);
                     if (invalidationSize == oldCapacity) {
@@ -217,29 +224,21 @@ public abstract class SetListenerHelper<E> extends ExpressionHelperBase {
             if (invalidationListeners != null) {
                 for (int index = 0; index < invalidationSize; index++) {
                     if (listener.equals(invalidationListeners[index])) {
-                        if (invalidationSize == 1) {
-                            if (changeSize == 1) {
-                                return new SingleChange<>(changeListeners[0]);
-                            }
-                            invalidationListeners = null;
-                            invalidationSize = 0;
-                        } else if ((invalidationSize == 2) && (changeSize == 0)) {
-                            return new SingleInvalidation<>(invalidationListeners[1-index]);
-                        } else {
-                            final int numMoved = invalidationSize - index - 1;
-                            final InvalidationListener[] oldListeners = invalidationListeners;
-                            if (locked) {
-                                invalidationListeners = new InvalidationListener[invalidationListeners.length];
-                                System.arraycopy(oldListeners, 0, invalidationListeners, 0, index);
-                            }
-                            if (numMoved > 0) {
-                                System.arraycopy(oldListeners, index+1, invalidationListeners, index, numMoved);
-                            }
-                            invalidationSize--;
-                            if (!locked) {
-                                invalidationListeners[invalidationSize] = null; // Let gc do its work
-                            }
+                        if ((invalidationSize == 1) && (changeSize == 0)) {
+                            return null;
                         }
+                        final int numMoved = invalidationSize - index - 1;
+                        final InvalidationListener[] oldListeners = invalidationListeners;
+                        if (invalidationShared) {
+                            invalidationListeners = new InvalidationListener[invalidationListeners.length];
+                            System.arraycopy(oldListeners, 0, invalidationListeners, 0, index);
+                            invalidationShared = false;
+                        }
+                        if (numMoved > 0) {
+                            System.arraycopy(oldListeners, index+1, invalidationListeners, index, numMoved);
+                        }
+                        invalidationSize--;
+                        invalidationListeners[invalidationSize] = null; // Let gc do its work
                         break;
                     }
                 }
@@ -254,9 +253,10 @@ public abstract class SetListenerHelper<E> extends ExpressionHelperBase {
                 changeSize = 1;
             } else {
                 final int oldCapacity = changeListeners.length;
-                if (locked) {
+                if (changeShared) {
                     final int newCapacity = (changeSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
                     changeListeners = Arrays.copyOf(changeListeners, newCapacity);
+                    changeShared = false;
                 } else if (changeSize == oldCapacity) {
                     changeSize = trim(changeSize, changeListeners);
                     if (changeSize == oldCapacity) {
@@ -274,29 +274,21 @@ public abstract class SetListenerHelper<E> extends ExpressionHelperBase {
             if (changeListeners != null) {
                 for (int index = 0; index < changeSize; index++) {
                     if (listener.equals(changeListeners[index])) {
-                        if (changeSize == 1) {
-                            if (invalidationSize == 1) {
-                                return new SingleInvalidation<>(invalidationListeners[0]);
-                            }
-                            changeListeners = null;
-                            changeSize = 0;
-                        } else if ((changeSize == 2) && (invalidationSize == 0)) {
-                            return new SingleChange<>(changeListeners[1-index]);
-                        } else {
-                            final int numMoved = changeSize - index - 1;
-                            final SetChangeListener<? super E>[] oldListeners = changeListeners;
-                            if (locked) {
-                                changeListeners = new SetChangeListener[changeListeners.length];
-                                System.arraycopy(oldListeners, 0, changeListeners, 0, index);
-                            }
-                            if (numMoved > 0) {
-                                System.arraycopy(oldListeners, index+1, changeListeners, index, numMoved);
-                            }
-                            changeSize--;
-                            if (!locked) {
-                                changeListeners[changeSize] = null; // Let gc do its work
-                            }
+                        if ((changeSize == 1) && (invalidationSize == 0)) {
+                            return null;
+                        }
+                        final int numMoved = changeSize - index - 1;
+                        final SetChangeListener<? super E>[] oldListeners = changeListeners;
+                        if (changeShared) {
+                            changeListeners = new SetChangeListener[changeListeners.length];
+                            System.arraycopy(oldListeners, 0, changeListeners, 0, index);
+                            changeShared = false;
                         }
+                        if (numMoved > 0) {
+                            System.arraycopy(oldListeners, index+1, changeListeners, index, numMoved);
+                        }
+                        changeSize--;
+                        changeListeners[changeSize] = null; // Let gc do its work
                         break;
                     }
                 }
@@ -312,7 +304,9 @@ public abstract class SetListenerHelper<E> extends ExpressionHelperBase {
             final int curChangeSize = changeSize;
 
             try {
-                locked = true;
+                notifying++;
+                invalidationShared = true;
+                changeShared = true;
                 for (int i = 0; i < curInvalidationSize; i++) {
                     try {
                         curInvalidationList[i].invalidated(change.getSet());
@@ -328,7 +322,10 @@ public abstract class SetListenerHelper<E> extends ExpressionHelperBase {
                     }
                 }
             } finally {
-                locked = false;
+                if (--notifying == 0) {
+                    invalidationShared = false;
+                    changeShared = false;
+                }
             }
         }
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -35,6 +35,10 @@ public class Logger {
     public void renderEnd() {}
     public void addMessage(String message) {}
     public void incrementCounter(String counter) {}
+    public void incrementCounter(String counter, int amount) {}
+    public void sampleValue(String name, long value) {}
     public void newPhase(String name) {}
     public void newInput(String name) {}
+    public void textureUploadStart(int width, int height, String pixelFormat) {}
+    public void textureUploadEnd() {}
 }
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.logging;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Gathers the phase timings, counters and sampled values of every pulse and
+ * delivers them as {@link PulseMetrics} to the listeners registered with
+ * {@link PulseLogger#addMetricsListener}. This logger is enabled by setting
+ * the system property javafx.pulseLogger.metrics to true.
+ * <p>
+ * As with the other loggers, half of a pulse occurs on the FX thread and half
+ * on the render thread. The metrics of a pulse are published once both the FX
+ * thread part of the pulse has ended and, if rendering was started for the
+ * pulse, rendering has ended, regardless of which of the two finishes first.
+ */
+final class MetricsLogger extends Logger {
+
+    private final List<Consumer<PulseMetrics>> listeners = new CopyOnWriteArrayList<>();
+
+    private final ThreadLocal<PhaseData> phaseData = ThreadLocal.withInitial(PhaseData::new);
+
+    private Thread fxThread;
+    private int pulseCount;
+    private long lastPulseStartTime;
+
+    /**
+     * The data for the pulse currently being processed on the FX thread and
+     * on the render thread respectively.
+     */
+    private volatile PulseData fxData, renderData;
+
+    public static Logger createInstance() {
+        if (PulseLogger.isPulseMetricsRequested()) {
+            return new MetricsLogger();
+        }
+        return null;
+    }
+
+    MetricsLogger() {
+    }
+
+    void addListener(Consumer<PulseMetrics> listener) {
+        if (listener == null) {
+            throw new NullPointerException("listener cannot be null");
+        }
+        listeners.add(listener);
+    }
+
+    void removeListener(Consumer<PulseMetrics> listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public void pulseStart() {
+        if (fxThread == null) {
+            fxThread = Thread.currentThread();
+        }
+        long now = System.nanoTime();
+        long interval = lastPulseStartTime > 0 ? now - lastPulseStartTime : 0;
+        lastPulseStartTime = now;
+        fxData = new PulseData(++pulseCount, now, interval);
+    }
+
+    @Override
+    public void pulseEnd() {
+        newPhase(null);
+        PulseData data = fxData;
+        fxData = null;
+        if (data != null) {
+            data.fxEndTime = System.nanoTime();
+            finish(data);
+        }
+    }
+
+    @Override
+    public void renderStart() {
+        newPhase(null); // finish the current phase on the FX thread
+        PulseData data = fxData;
+        if (data != null) {
+            data.pending.incrementAndGet();
+            data.rendered = true;
+            data.renderStartTime = System.nanoTime();
+        }
+        renderData = data;
+    }
+
+    @Override
+    public void renderEnd() {
+        newPhase(null); // finish the current phase on the render thread
+        PulseData data = renderData;
+        renderData = null;
+        if (data != null) {
+            data.renderEndTime = System.nanoTime();
+            finish(data);
+        }
+    }
+
+    @Override
+    public void incrementCounter(String counter) {
+        incrementCounter(counter, 1);
+    }
+
+    @Override
+    public void incrementCounter(String counter, int amount) {
+        PulseData data = getPulseData();
+        if (data != null) {
+            data.addCount(counter, amount);
+        }
+    }
+
+    @Override
+    public void sampleValue(String name, long value) {
+        PulseData data = getPulseData();
+        if (data != null) {
+            data.setValue(name, value);
+        }
+    }
+
+    @Override
+    public void newPhase(String name) {
+        long now = System.nanoTime();
+        PhaseData phase = phaseData.get();
+        if (phase.name != null) {
+            PulseData data = getPulseData();
+            if (data != null) {
+                data.addPhase(phase.name, now - phase.start);
+            }
+        }
+        phase.name = name;
+        phase.start = now;
+    }
+
+    private PulseData getPulseData() {
+        return (fxThread == null || Thread.currentThread() == fxThread) ? fxData : renderData;
+    }
+
+    private void finish(PulseData data) {
+        if (data.pending.decrementAndGet() != 0 || listeners.isEmpty()) {
+            return;
+        }
+        PulseMetrics metrics = data.toMetrics();
+        for (Consumer<PulseMetrics> listener : listeners) {
+            try {
+                listener.accept(metrics);
+            } catch (Exception e) {
+                Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+            }
+        }
+    }
+
+    private static final class PhaseData {
+        String name;
+        long start;
+    }
+
+    /**
+     * The data we collect for a single pulse. The FX thread part of the pulse
+     * and rendering each hold one pending reference, and the pulse is complete
+     * once both have been released.
+     */
+    private static final class PulseData {
+        final int pulseNumber;
+        final long startTime;
+        final long interval;
+        final AtomicInteger pending = new AtomicInteger(1);
+        volatile boolean rendered;
+        volatile long fxEndTime;
+        volatile long renderStartTime;
+        volatile long renderEndTime;
+        private final Map<String, Long> phases = new LinkedHashMap<>();
+        private final Map<String, Integer> counters = new LinkedHashMap<>();
+        private final Map<String, Long> values = new LinkedHashMap<>();
+
+        PulseData(int pulseNumber, long startTime, long interval) {
+            this.pulseNumber = pulseNumber;
+            this.startTime = startTime;
+            this.interval = interval;
+        }
+
+        synchronized void addPhase(String name, long duration) {
+            phases.merge(name, duration, Long::sum);
+        }
+
+        synchronized void addCount(String name, int amount) {
+            counters.merge(name, amount, Integer::sum);
+        }
+
+        synchronized void setValue(String name, long value) {
+            values.put(name, value);
+        }
+
+        synchronized PulseMetrics toMetrics() {
+            long renderDuration = rendered ? renderEndTime - renderStartTime : 0;
+            long endTime = rendered ? Math.max(fxEndTime, renderEndTime) : fxEndTime;
+            return new PulseMetrics(pulseNumber, startTime, interval,
+                                    fxEndTime - startTime, renderDuration, endTime - startTime, rendered,
+                                    new LinkedHashMap<>(phases),
+                                    new LinkedHashMap<>(counters),
+                                    new LinkedHashMap<>(values));
+        }
+    }
+}
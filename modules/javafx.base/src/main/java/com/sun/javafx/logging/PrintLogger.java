@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -278,6 +278,44 @@ class PrintLogger extends Logger {
      */
     @Override
     public void incrementCounter(String counter) {
+        incrementCounter(counter, 1);
+    }
+
+    /**
+     * Increments the given named per-pulse counter by the given amount.
+     * @param counter The name for the counter.
+     * @param amount The amount to add to the counter.
+     */
+    @Override
+    public void incrementCounter(String counter, int amount) {
+        PulseData pulseData = getPulseData();
+        if (pulseData == null) {
+            return;
+        }
+        Map<String,Counter> counters = pulseData.counters;
+        Counter cval = counters.get(counter);
+        if (cval == null) {
+            cval = new Counter();
+            counters.put(counter, cval);
+        }
+        cval.value += amount;
+    }
+
+    /**
+     * Records the most recent value of the given named per-pulse value.
+     * @param name The name for the value.
+     * @param value The value.
+     */
+    @Override
+    public void sampleValue(String name, long value) {
+        PulseData pulseData = getPulseData();
+        if (pulseData == null) {
+            return;
+        }
+        pulseData.values.put(name, value);
+    }
+
+    private PulseData getPulseData() {
         PulseData pulseData;
         if (fxThread == null || Thread.currentThread() == fxThread) {
             if (fxData == null) {
@@ -288,16 +326,7 @@ class PrintLogger extends Logger {
         else {
             pulseData = renderData;
         }
-        if (pulseData == null) {
-            return;
-        }
-        Map<String,Counter> counters = pulseData.counters;
-        Counter cval = counters.get(counter);
-        if (cval == null) {
-            cval = new Counter();
-            counters.put(counter, cval);
-        }
-        cval.value += 1;
+        return pulseData;
     }
 
     @Override
@@ -343,6 +372,7 @@ class PrintLogger extends Logger {
         boolean pushedRender;
         StringBuffer message = new StringBuffer();
         Map<String,Counter> counters = new ConcurrentHashMap<>();
+        Map<String,Long> values = new ConcurrentHashMap<>();
 
         void init(int n) {
             state = INCOMPLETE;
@@ -387,12 +417,21 @@ class PrintLogger extends Logger {
                         System.err.println("\t" + entry.getKey() + ": " + entry.getValue().value);
                     }
                 }
+                if (!values.isEmpty()) {
+                    System.err.println("Values:");
+                    List<Map.Entry<String,Long>> entries = new ArrayList<>(values.entrySet());
+                    Collections.sort(entries, (a, b) -> a.getKey().compareTo(b.getKey()));
+                    for (Map.Entry<String, Long> entry : entries) {
+                        System.err.println("\t" + entry.getKey() + ": " + entry.getValue());
+                    }
+                }
                 wrapCount = 0;
             }
 
             // Reset the state
             message.setLength(0);
             counters.clear();
+            values.clear();
             state = AVAILABLE;
             if (EXIT_ON_PULSE > 0 && pulseCount >= EXIT_ON_PULSE) {
                 System.err.println("Exiting after pulse #" + pulseCount);
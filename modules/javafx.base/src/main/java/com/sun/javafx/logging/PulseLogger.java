@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -29,22 +29,30 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class PulseLogger {
     public static final boolean PULSE_LOGGING_ENABLED;
 
-    private static final String [] DEFAULT_LOGGERS = {"com.sun.javafx.logging.PrintLogger", "com.sun.javafx.logging.jfr.JFRPulseLogger"};
+    private static final String [] DEFAULT_LOGGERS = {"com.sun.javafx.logging.PrintLogger", "com.sun.javafx.logging.jfr.JFRPulseLogger",
+                                                      "com.sun.javafx.logging.MetricsLogger"};
     private static final Logger[] loggers;
+    private static final MetricsLogger metricsLogger;
 
     static {
         List<Logger> list = new ArrayList<>();
+        MetricsLogger metrics = null;
         for (String loggerClass : DEFAULT_LOGGERS) {
             Logger logger = loadLogger(loggerClass);
             if (logger != null) {
                 list.add(logger);
+                if (logger instanceof MetricsLogger m) {
+                    metrics = m;
+                }
             }
         }
         loggers = list.toArray(new Logger[list.size()]);
+        metricsLogger = metrics;
         PULSE_LOGGING_ENABLED = loggers.length > 0;
     }
 
@@ -84,6 +92,18 @@ public class PulseLogger {
         }
     }
 
+    public static void incrementCounter(String counter, int amount) {
+        for (Logger logger: loggers) {
+            logger.incrementCounter(counter, amount);
+        }
+    }
+
+    public static void sampleValue(String name, long value) {
+        for (Logger logger: loggers) {
+            logger.sampleValue(name, value);
+        }
+    }
+
     public static void newPhase(String name) {
         for (Logger logger: loggers) {
             logger.newPhase(name);
@@ -96,6 +116,18 @@ public class PulseLogger {
         }
     }
 
+    public static void textureUploadStart(int width, int height, String pixelFormat) {
+        for (Logger logger: loggers) {
+            logger.textureUploadStart(width, height, pixelFormat);
+        }
+    }
+
+    public static void textureUploadEnd() {
+        for (Logger logger: loggers) {
+            logger.textureUploadEnd();
+        }
+    }
+
     /**
      * @return true if the user requested pulse logging by setting the system
      *         property javafx.pulseLogger to true, false otherwise.
@@ -104,6 +136,43 @@ public class PulseLogger {
         return Boolean.getBoolean("javafx.pulseLogger");
     }
 
+    /**
+     * @return true if the user requested per-pulse metrics by setting the
+     *         system property javafx.pulseLogger.metrics to true, false otherwise.
+     */
+    public static boolean isPulseMetricsRequested() {
+        return Boolean.getBoolean("javafx.pulseLogger.metrics");
+    }
+
+    /**
+     * Adds a listener which is notified with the {@link PulseMetrics} of every
+     * pulse once the pulse has been completely processed, including rendering.
+     * The listener is called on the thread that finished the pulse, which is
+     * either the FX application thread or the render thread, so it must not
+     * block and must not access the scene graph.
+     *
+     * @param listener the listener to add, must not be null
+     * @throws IllegalStateException if per-pulse metrics were not enabled with
+     *         the javafx.pulseLogger.metrics system property
+     */
+    public static void addMetricsListener(Consumer<PulseMetrics> listener) {
+        if (metricsLogger == null) {
+            throw new IllegalStateException("Pulse metrics are not enabled, set javafx.pulseLogger.metrics=true");
+        }
+        metricsLogger.addListener(listener);
+    }
+
+    /**
+     * Removes a listener previously added with {@link #addMetricsListener}.
+     *
+     * @param listener the listener to remove
+     */
+    public static void removeMetricsListener(Consumer<PulseMetrics> listener) {
+        if (metricsLogger != null) {
+            metricsLogger.removeListener(listener);
+        }
+    }
+
     // Loading known loggers reflectively, in case an expected module isn't available
     private static Logger loadLogger(String className) {
         try {
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.logging;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * An immutable snapshot of the metrics gathered for a single pulse, for use by
+ * code that wants to process pulse statistics programmatically, for example to
+ * send them to a monitoring system or to detect pulses that take too long.
+ * <p>
+ * All times are in nanoseconds, as returned by {@link System#nanoTime()}. The
+ * phase durations are keyed on the phase names passed to
+ * {@link PulseLogger#newPhase(String)}, such as "CSS Pass", "Layout Pass",
+ * "Copy state to render graph" or "Painting", and are in the order in which
+ * the phases first occurred. If a phase occurs more than once in a pulse, for
+ * example once per dirty scene, its durations are added up. The counters are
+ * those passed to {@link PulseLogger#incrementCounter(String)}, and the values
+ * are the last values passed to {@link PulseLogger#sampleValue(String, long)}
+ * during the pulse.
+ *
+ * @see PulseLogger#addMetricsListener
+ */
+public final class PulseMetrics {
+    private final int pulseNumber;
+    private final long startTime;
+    private final long interval;
+    private final long fxDuration;
+    private final long renderDuration;
+    private final long totalDuration;
+    private final boolean rendered;
+    private final Map<String, Long> phaseDurations;
+    private final Map<String, Integer> counters;
+    private final Map<String, Long> values;
+
+    PulseMetrics(int pulseNumber, long startTime, long interval,
+                 long fxDuration, long renderDuration, long totalDuration, boolean rendered,
+                 Map<String, Long> phaseDurations,
+                 Map<String, Integer> counters,
+                 Map<String, Long> values) {
+        this.pulseNumber = pulseNumber;
+        this.startTime = startTime;
+        this.interval = interval;
+        this.fxDuration = fxDuration;
+        this.renderDuration = renderDuration;
+        this.totalDuration = totalDuration;
+        this.rendered = rendered;
+        this.phaseDurations = Collections.unmodifiableMap(phaseDurations);
+        this.counters = Collections.unmodifiableMap(counters);
+        this.values = Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * @return the number of the pulse, starting at 1
+     */
+    public int getPulseNumber() {
+        return pulseNumber;
+    }
+
+    /**
+     * @return the time at which the pulse started
+     */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * @return the time between the start of the previous pulse and the start
+     *         of this pulse, or 0 for the first pulse
+     */
+    public long getInterval() {
+        return interval;
+    }
+
+    /**
+     * @return the time spent in the pulse on the FX application thread
+     */
+    public long getFxDuration() {
+        return fxDuration;
+    }
+
+    /**
+     * @return the time between the start and the end of rendering, or 0 if
+     *         the pulse did not require rendering
+     */
+    public long getRenderDuration() {
+        return renderDuration;
+    }
+
+    /**
+     * @return the time between the start of the pulse and the end of either
+     *         the FX application thread part of the pulse or the rendering,
+     *         whichever ended last
+     */
+    public long getTotalDuration() {
+        return totalDuration;
+    }
+
+    /**
+     * @return whether the pulse required rendering
+     */
+    public boolean isRendered() {
+        return rendered;
+    }
+
+    /**
+     * @return the durations of the phases of the pulse, keyed on phase name
+     */
+    public Map<String, Long> getPhaseDurations() {
+        return phaseDurations;
+    }
+
+    /**
+     * @return the counters incremented during the pulse, keyed on name
+     */
+    public Map<String, Integer> getCounters() {
+        return counters;
+    }
+
+    /**
+     * @return the values sampled during the pulse, keyed on name
+     */
+    public Map<String, Long> getValues() {
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return "PulseMetrics[pulse=" + pulseNumber +
+               ", interval=" + interval +
+               ", fx=" + fxDuration +
+               ", render=" + renderDuration +
+               ", total=" + totalDuration +
+               ", phases=" + phaseDurations +
+               ", counters=" + counters +
+               ", values=" + values + "]";
+    }
+}
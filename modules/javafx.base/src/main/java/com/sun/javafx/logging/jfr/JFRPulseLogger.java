@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -32,6 +32,9 @@ import jdk.jfr.FlightRecorder;
 public final class JFRPulseLogger extends Logger {
     private final ThreadLocal<JFRPulsePhaseEvent> currentPulsePhaseEvent;
     private final ThreadLocal<JFRInputEvent> currentInputEvent;
+    private final ThreadLocal<JFRTextureUploadEvent> currentTextureUploadEvent;
+    private JFRPulseEvent currentPulseEvent;
+    private volatile JFRRenderEvent currentRenderEvent;
 
     private int pulseNumber;
     private int fxPulseNumber;
@@ -48,6 +51,9 @@ public final class JFRPulseLogger extends Logger {
     private JFRPulseLogger() {
         FlightRecorder.register(JFRInputEvent.class);
         FlightRecorder.register(JFRPulsePhaseEvent.class);
+        FlightRecorder.register(JFRPulseEvent.class);
+        FlightRecorder.register(JFRRenderEvent.class);
+        FlightRecorder.register(JFRTextureUploadEvent.class);
         currentPulsePhaseEvent = new ThreadLocal<>() {
             @Override
             public JFRPulsePhaseEvent initialValue() {
@@ -60,6 +66,12 @@ public final class JFRPulseLogger extends Logger {
                 return new JFRInputEvent();
             }
         };
+        currentTextureUploadEvent = new ThreadLocal<>() {
+            @Override
+            public JFRTextureUploadEvent initialValue() {
+                return new JFRTextureUploadEvent();
+            }
+        };
     }
 
     @Override
@@ -69,26 +81,79 @@ public final class JFRPulseLogger extends Logger {
         if (fxThread == null) {
             fxThread = Thread.currentThread();
         }
+        JFRPulseEvent event = new JFRPulseEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            event.setPulseId(pulseNumber);
+            currentPulseEvent = event;
+        }
         newPhase("Pulse start");
     }
 
     @Override
     public void pulseEnd() {
         newPhase(null);
+        JFRPulseEvent event = currentPulseEvent;
+        if (event != null) {
+            event.commit();
+            currentPulseEvent = null;
+        }
         fxPulseNumber = 0;
     }
 
     @Override
     public void renderStart() {
         renderPulseNumber = fxPulseNumber;
+        if (currentPulseEvent != null) {
+            currentPulseEvent.setRendered(true);
+        }
+        JFRRenderEvent event = new JFRRenderEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            event.setPulseId(renderPulseNumber);
+            currentRenderEvent = event;
+        }
     }
 
     @Override
     public void renderEnd() {
         newPhase(null);
+        JFRRenderEvent event = currentRenderEvent;
+        if (event != null) {
+            event.commit();
+            currentRenderEvent = null;
+        }
         renderPulseNumber = 0;
     }
 
+    @Override
+    public void textureUploadStart(int width, int height, String pixelFormat) {
+        JFRTextureUploadEvent event = currentTextureUploadEvent.get();
+
+        /* Cleanup if no longer enabled */
+        if (!event.isEnabled()) {
+            event.setPixelFormat(null);
+            return;
+        }
+
+        event = new JFRTextureUploadEvent();
+        event.begin();
+        event.setPulseId(Thread.currentThread() == fxThread ? fxPulseNumber : renderPulseNumber);
+        event.setWidth(width);
+        event.setHeight(height);
+        event.setPixelFormat(pixelFormat);
+        currentTextureUploadEvent.set(event);
+    }
+
+    @Override
+    public void textureUploadEnd() {
+        JFRTextureUploadEvent event = currentTextureUploadEvent.get();
+        if (event.getPixelFormat() != null) {
+            event.commit();
+            event.setPixelFormat(null);
+        }
+    }
+
     /**
      * Finishes the current phase and starts a new one if phaseName is not null.
      *
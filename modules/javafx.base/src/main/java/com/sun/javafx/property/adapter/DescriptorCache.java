@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.property.adapter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A cache of the property descriptors of each bean class, shared by all
+ * builders. Finding the getter, setter and listener methods of a property
+ * takes several reflective lookups, which would otherwise be repeated for
+ * every adapter that is created with a new builder (for example by
+ * {@link JavaBeanQuickAccessor} for each step of a select binding).
+ *
+ * Only descriptors that use the default accessor names are cached. The
+ * descriptors are immutable, so they can be shared between threads. The
+ * cache is attached to the bean class, so it does not prevent the class
+ * from being unloaded.
+ */
+final class DescriptorCache {
+
+    private static final ClassValue<Map<String, ReadOnlyPropertyDescriptor<?>>> READ_ONLY = new ClassValue<>() {
+        @Override
+        protected Map<String, ReadOnlyPropertyDescriptor<?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final ClassValue<Map<String, PropertyDescriptor<?>>> READ_WRITE = new ClassValue<>() {
+        @Override
+        protected Map<String, PropertyDescriptor<?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private DescriptorCache() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> ReadOnlyPropertyDescriptor<T> getReadOnly(Class<?> beanClass, String propertyName) {
+        return (ReadOnlyPropertyDescriptor<T>) READ_ONLY.get(beanClass).get(propertyName);
+    }
+
+    static void putReadOnly(ReadOnlyPropertyDescriptor<?> descriptor) {
+        READ_ONLY.get(descriptor.beanClass).putIfAbsent(descriptor.getName(), descriptor);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> PropertyDescriptor<T> get(Class<?> beanClass, String propertyName) {
+        return (PropertyDescriptor<T>) READ_WRITE.get(beanClass).get(propertyName);
+    }
+
+    static void put(PropertyDescriptor<?> descriptor) {
+        READ_WRITE.get(descriptor.beanClass).putIfAbsent(descriptor.getName(), descriptor);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -112,6 +112,15 @@ public class JavaBeanPropertyBuilderHelper<T> {
             if (propertyName.isEmpty()) {
                 throw new IllegalArgumentException("Property name cannot be empty");
             }
+            final boolean defaultAccessors = (getter == null) && (setter == null)
+                    && ((getterName == null) || getterName.isEmpty())
+                    && ((setterName == null) || setterName.isEmpty());
+            if (defaultAccessors && (beanClass != null)) {
+                descriptor = DescriptorCache.get(beanClass, propertyName);
+                if (descriptor != null) {
+                    return descriptor;
+                }
+            }
             final String capitalizedName = ReadOnlyPropertyDescriptor.capitalizedName(propertyName);
             Method getterMethod = getter;
             if (getterMethod == null) {
@@ -135,6 +144,9 @@ public class JavaBeanPropertyBuilderHelper<T> {
                 }
             }
             descriptor = new PropertyDescriptor<>(propertyName, beanClass, getterMethod, setterMethod);
+            if (defaultAccessors) {
+                DescriptorCache.put(descriptor);
+            }
         }
         return descriptor;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -34,6 +34,8 @@ import javafx.beans.value.ObservableValue;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyVetoException;
 import java.beans.VetoableChangeListener;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
@@ -51,6 +53,9 @@ public class PropertyDescriptor<T> extends ReadOnlyPropertyDescriptor<T> {
     private static final int REMOVE_VETOABLE_LISTENER_TAKES_NAME = 2;
 
     private final Method setter;
+    private final MethodHandle setterHandle;
+    private final Class<?> setterValueType;
+    private final boolean setterTakesPrimitive;
     private final Method addVetoListener;
     private final Method removeVetoListener;
     private final int flags;
@@ -60,6 +65,10 @@ public class PropertyDescriptor<T> extends ReadOnlyPropertyDescriptor<T> {
     public PropertyDescriptor(String propertyName, Class<?> beanClass, Method getter, Method setter) {
         super(propertyName, beanClass, getter);
         this.setter = setter;
+        this.setterHandle = toMethodHandle(setter, MethodType.methodType(void.class, Object.class, Object.class));
+        final Class<?> valueType = setter.getParameterTypes().length == 1 ? setter.getParameterTypes()[0] : Object.class;
+        this.setterTakesPrimitive = valueType.isPrimitive();
+        this.setterValueType = MethodType.methodType(valueType).wrap().returnType();
 
         Method tmpAddVetoListener = null;
         Method tmpRemoveVetoListener = null;
@@ -104,6 +113,32 @@ public class PropertyDescriptor<T> extends ReadOnlyPropertyDescriptor<T> {
         flags = tmpFlags;
     }
 
+    /**
+     * Calls the setter of this property on the given bean.
+     *
+     * @param bean the bean
+     * @param value the new value, boxed if the setter takes a primitive
+     * @throws IllegalAccessException if the setter is not accessible
+     * @throws InvocationTargetException if the setter throws an exception
+     */
+    public void invokeSetter(Object bean, Object value) throws IllegalAccessException, InvocationTargetException {
+        // Values that need a conversion (or are rejected) by reflection, like
+        // an Integer passed to a long setter, still go through reflection
+        if (setterHandle == null || !acceptsValue(value)) {
+            MethodHelper.invoke(setter, bean, new Object[] {value});
+            return;
+        }
+        try {
+            setterHandle.invokeExact(bean, value);
+        } catch (Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    private boolean acceptsValue(Object value) {
+        return (value == null) ? !setterTakesPrimitive : setterValueType.isInstance(value);
+    }
+
     @Override
     public void addListener(ReadOnlyListener listener) {
         super.addListener(listener);
@@ -158,7 +193,7 @@ public class PropertyDescriptor<T> extends ReadOnlyPropertyDescriptor<T> {
             } else if (!updating) {
                 updating = true;
                 try {
-                    MethodHelper.invoke(setter, bean, new Object[] {newValue});
+                    invokeSetter(bean, newValue);
                     property.fireValueChangedEvent();
                 } catch (IllegalAccessException e) {
                     // ignore
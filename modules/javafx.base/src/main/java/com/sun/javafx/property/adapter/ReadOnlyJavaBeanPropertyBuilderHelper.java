@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -95,6 +95,14 @@ public class ReadOnlyJavaBeanPropertyBuilderHelper<T> {
             if (propertyName.isEmpty()) {
                 throw new IllegalArgumentException("Property name cannot be empty");
             }
+            final boolean defaultAccessors = (getter == null) && ((getterName == null) || getterName.isEmpty());
+            if (defaultAccessors) {
+                descriptor = DescriptorCache.getReadOnly(beanClass, propertyName);
+                if (descriptor != null) {
+                    getter = descriptor.getGetter();
+                    return descriptor;
+                }
+            }
             final String capitalizedName = ReadOnlyPropertyDescriptor.capitalizedName(propertyName);
             if (getter == null) {
                 if ((getterName != null) && !getterName.isEmpty()) {
@@ -108,6 +116,9 @@ public class ReadOnlyJavaBeanPropertyBuilderHelper<T> {
                 }
             }
             descriptor = new ReadOnlyPropertyDescriptor<>(propertyName, beanClass, getter);
+            if (defaultAccessors) {
+                DescriptorCache.putReadOnly(descriptor);
+            }
         }
         return descriptor;
     }
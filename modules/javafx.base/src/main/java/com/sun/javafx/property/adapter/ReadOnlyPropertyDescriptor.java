@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -30,10 +30,15 @@ import javafx.beans.property.adapter.ReadOnlyJavaBeanProperty;
 
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
+import com.sun.javafx.property.MethodHelper;
 import com.sun.javafx.reflect.ReflectUtil;
 
 import static java.util.Locale.ENGLISH;
@@ -54,6 +59,7 @@ public class ReadOnlyPropertyDescriptor<T> {
     protected final String name;
     protected final Class<?> beanClass;
     private final Method getter;
+    private final MethodHandle getterHandle;
     private final Class<?> type;
 
     private final Method addChangeListener;
@@ -70,6 +76,7 @@ public class ReadOnlyPropertyDescriptor<T> {
         this.name = propertyName;
         this.beanClass = beanClass;
         this.getter = getter;
+        this.getterHandle = toMethodHandle(getter, MethodType.methodType(Object.class, Object.class));
         this.type = getter.getReturnType();
 
         Method tmpAddChangeListener = null;
@@ -117,6 +124,40 @@ public class ReadOnlyPropertyDescriptor<T> {
         return ((name == null) || (name.length() == 0))? name : name.substring(0, 1).toUpperCase(ENGLISH) + name.substring(1);
     }
 
+    /**
+     * Returns a method handle for the given method, adapted to the given type,
+     * or null if the method is not publicly accessible. Calling the method
+     * through the handle avoids the reflective call (and the access checks it
+     * performs) on every invocation. Methods that cannot be looked up this way
+     * are called through {@link MethodHelper} instead.
+     */
+    static MethodHandle toMethodHandle(Method method, MethodType type) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method).asType(type);
+        } catch (IllegalAccessException | WrongMethodTypeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Calls the getter of this property on the given bean.
+     *
+     * @param bean the bean
+     * @return the value returned by the getter, boxed if it is a primitive
+     * @throws IllegalAccessException if the getter is not accessible
+     * @throws InvocationTargetException if the getter throws an exception
+     */
+    public Object invokeGetter(Object bean) throws IllegalAccessException, InvocationTargetException {
+        if (getterHandle == null) {
+            return MethodHelper.invoke(getter, bean, null);
+        }
+        try {
+            return (Object) getterHandle.invokeExact(bean);
+        } catch (Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
     public void addListener(ReadOnlyListener listener) {
         if (addChangeListener != null) {
             try {
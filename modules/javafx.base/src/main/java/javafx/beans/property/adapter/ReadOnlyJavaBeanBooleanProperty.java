@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,7 +25,6 @@
 
 package javafx.beans.property.adapter;
 
-import com.sun.javafx.property.MethodHelper;
 import com.sun.javafx.property.adapter.Disposer;
 import com.sun.javafx.property.adapter.ReadOnlyPropertyDescriptor;
 import javafx.beans.property.ReadOnlyBooleanPropertyBase;
@@ -98,7 +97,7 @@ public final class ReadOnlyJavaBeanBooleanProperty extends ReadOnlyBooleanProper
     @Override
     public boolean get() {
         try {
-            return (Boolean)MethodHelper.invoke(descriptor.getGetter(), getBean(), (Object[])null);
+            return (Boolean)descriptor.invokeGetter(getBean());
         } catch (IllegalAccessException e) {
             throw new UndeclaredThrowableException(e);
         } catch (InvocationTargetException e) {
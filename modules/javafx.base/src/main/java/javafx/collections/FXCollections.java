@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -44,6 +44,7 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
 
@@ -55,6 +56,9 @@ import com.sun.javafx.collections.ObservableSetWrapper;
 import com.sun.javafx.collections.MapAdapterChange;
 import com.sun.javafx.collections.ObservableFloatArrayImpl;
 import com.sun.javafx.collections.ObservableIntegerArrayImpl;
+import com.sun.javafx.collections.ObservableDoubleListImpl;
+import com.sun.javafx.collections.ObservableIntegerListImpl;
+import com.sun.javafx.collections.ObservableLongListImpl;
 import com.sun.javafx.collections.ObservableSequentialListWrapper;
 import com.sun.javafx.collections.SetAdapterChange;
 import com.sun.javafx.collections.SortableList;
@@ -307,6 +311,69 @@ public class FXCollections {
         return new ObservableFloatArrayImpl(array);
     }
 
+    /**
+     * Creates a new empty observable list of {@code int} values, which
+     * stores its values without boxing them.
+     * @return a newly created ObservableIntegerList
+     * @since 28
+     */
+    public static ObservableIntegerList observableIntegerList() {
+        return new ObservableIntegerListImpl();
+    }
+
+    /**
+     * Creates a new observable list of {@code int} values with a copy of
+     * {@code values} set to it.
+     * @param values the values that will be in the new list
+     * @return a newly created ObservableIntegerList
+     * @since 28
+     */
+    public static ObservableIntegerList observableIntegerList(int... values) {
+        return new ObservableIntegerListImpl(values);
+    }
+
+    /**
+     * Creates a new empty observable list of {@code long} values, which
+     * stores its values without boxing them.
+     * @return a newly created ObservableLongList
+     * @since 28
+     */
+    public static ObservableLongList observableLongList() {
+        return new ObservableLongListImpl();
+    }
+
+    /**
+     * Creates a new observable list of {@code long} values with a copy of
+     * {@code values} set to it.
+     * @param values the values that will be in the new list
+     * @return a newly created ObservableLongList
+     * @since 28
+     */
+    public static ObservableLongList observableLongList(long... values) {
+        return new ObservableLongListImpl(values);
+    }
+
+    /**
+     * Creates a new empty observable list of {@code double} values, which
+     * stores its values without boxing them.
+     * @return a newly created ObservableDoubleList
+     * @since 28
+     */
+    public static ObservableDoubleList observableDoubleList() {
+        return new ObservableDoubleListImpl();
+    }
+
+    /**
+     * Creates a new observable list of {@code double} values with a copy of
+     * {@code values} set to it.
+     * @param values the values that will be in the new list
+     * @return a newly created ObservableDoubleList
+     * @since 28
+     */
+    public static ObservableDoubleList observableDoubleList(double... values) {
+        return new ObservableDoubleListImpl(values);
+    }
+
     /**
      * Creates a new empty observable list that is backed by an array list.
      * @see #observableList(java.util.List)
@@ -698,6 +765,52 @@ public class FXCollections {
         }
     }
 
+    /**
+     * Runs the given action and reports all of the changes it makes to the list as a
+     * single change notification.
+     * <p>
+     * Without a batch, every call of a mutating method such as {@code add} or {@code remove}
+     * notifies the listeners of the list on its own. Inside a batch, these changes are
+     * merged into one minimal {@link ListChangeListener.Change}, which is fired when the
+     * action returns. If the merged change only moves elements around, it is reported as a
+     * permutation. An element is considered moved, rather than removed and added again,
+     * only if the very same instance was removed and added.
+     * <p>
+     * Batches may be nested; the notification is fired when the outermost batch ends.
+     * If the action throws an exception, the changes made until then are still reported.
+     * Changes are only coalesced for lists created by this class and for subclasses
+     * of {@link ObservableListBase}; for any other list the action is simply run.
+     *
+     * <pre>{@code
+     * FXCollections.batch(list, () -> {
+     *     for (Item item : updates) {
+     *         list.remove(item.getOldIndex());
+     *         list.add(item.getNewIndex(), item);
+     *     }
+     * });
+     * }</pre>
+     *
+     * @param list the list whose changes are coalesced
+     * @param action the action that modifies the list
+     * @throws NullPointerException if {@code list} or {@code action} is {@code null}
+     * @since 28
+     */
+    public static void batch(ObservableList<?> list, Runnable action) {
+        Objects.requireNonNull(list, "list cannot be null");
+        Objects.requireNonNull(action, "action cannot be null");
+        if (list instanceof SynchronizedObservableList<?> synchronizedList) {
+            synchronized (synchronizedList.mutex) {
+                batch(synchronizedList.backingList, action);
+            }
+        } else if (list instanceof CheckedObservableList<?> checkedList) {
+            batch(checkedList.list, action);
+        } else if (list instanceof ObservableListBase<?> base) {
+            base.batch(action);
+        } else {
+            action.run();
+        }
+    }
+
     private static class EmptyObservableList<E> extends AbstractList<E> implements ObservableList<E> {
 
         private final ListIterator<E> iterator = new ListIterator<>() {
@@ -26,9 +26,12 @@
 package javafx.collections;
 
 import com.sun.javafx.collections.ChangeHelper;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -41,6 +44,9 @@ final class ListChangeBuilder<E> {
     private static final int[] EMPTY_PERM = new int[0];
     private final ObservableListBase<E> list;
     private int changeLock;
+    private int batchLock;
+    // true if the pending change was (partly) recorded in a batch
+    private boolean batched;
     private List<SubChange<E>> addRemoveChanges;
     private List<SubChange<E>> updateChanges;
     private SubChange<E> permutationChange;
@@ -469,7 +475,118 @@ final class ListChangeBuilder<E> {
         }
     }
 
+    /**
+     * Converts the pending add / remove changes to a permutation, if the
+     * elements that were added are exactly the elements that were removed.
+     * Elements are matched by identity, so that an element replaced by an
+     * equal, but different instance is still reported as replaced.
+     */
+    private void detectPermutation() {
+        trimPermutation();
+        if (addRemoveChanges == null || addRemoveChanges.isEmpty() || permutationChange != null
+                || (updateChanges != null && !updateChanges.isEmpty())) {
+            return;
+        }
+        int numAdded = 0;
+        int numRemoved = 0;
+        for (int i = 0, sz = addRemoveChanges.size(); i < sz; ++i) {
+            SubChange<E> change = addRemoveChanges.get(i);
+            numAdded += change.to - change.from;
+            numRemoved += change.removed != null ? change.removed.size() : 0;
+        }
+        if (numAdded != numRemoved) {
+            return;
+        }
+
+        Map<E, ArrayDeque<Integer>> addedIndexes = new IdentityHashMap<>();
+        for (int i = 0, sz = addRemoveChanges.size(); i < sz; ++i) {
+            SubChange<E> change = addRemoveChanges.get(i);
+            for (int j = change.from; j < change.to; ++j) {
+                addedIndexes.computeIfAbsent(list.get(j), e -> new ArrayDeque<>()).add(j);
+            }
+        }
+        // the new index of every removed element, in the order of the original list
+        int[] movedTo = new int[numRemoved];
+        int ptr = 0;
+        for (int i = 0, sz = addRemoveChanges.size(); i < sz; ++i) {
+            SubChange<E> change = addRemoveChanges.get(i);
+            if (change.removed != null) {
+                for (E e : change.removed) {
+                    ArrayDeque<Integer> indexes = addedIndexes.get(e);
+                    if (indexes == null || indexes.isEmpty()) {
+                        return;
+                    }
+                    movedTo[ptr++] = indexes.poll();
+                }
+            }
+        }
+
+        int[] perm = new int[list.size()];
+        int last = 0;
+        int offset = 0;
+        ptr = 0;
+        for (int i = 0, sz = addRemoveChanges.size(); i < sz; ++i) {
+            SubChange<E> change = addRemoveChanges.get(i);
+            for (int j = last; j < change.from; ++j) {
+                perm[j + offset] = j;
+            }
+            int removedSize = change.removed != null ? change.removed.size() : 0;
+            for (int j = 0; j < removedSize; ++j) {
+                perm[change.from + offset + j] = movedTo[ptr++];
+            }
+            last = change.to;
+            offset += removedSize - (change.to - change.from);
+        }
+        for (int j = last; j < perm.length; ++j) {
+            perm[j + offset] = j;
+        }
+
+        int from = 0;
+        int to = perm.length;
+        while (from < to && perm[from] == from) {
+            from++;
+        }
+        while (to > from && perm[to - 1] == to - 1) {
+            to--;
+        }
+        addRemoveChanges.clear();
+        if (from < to) {
+            permutationChange = new SubChange<>(from, to, null, Arrays.copyOfRange(perm, from, to), false);
+        }
+    }
+
+    /**
+     * Shrinks the pending permutation to the range of elements that actually
+     * moved, or drops it if no element moved at all.
+     */
+    private void trimPermutation() {
+        if (permutationChange == null) {
+            return;
+        }
+        final int[] perm = permutationChange.perm;
+        final int base = permutationChange.from;
+        int from = 0;
+        int to = perm.length;
+        while (from < to && perm[from] == base + from) {
+            from++;
+        }
+        while (to > from && perm[to - 1] == base + to - 1) {
+            to--;
+        }
+        if (from == to) {
+            permutationChange = null;
+        } else if (from > 0 || to < perm.length) {
+            permutationChange.perm = Arrays.copyOfRange(perm, from, to);
+            permutationChange.from = base + from;
+            permutationChange.to = base + to;
+        }
+    }
+
     private void commit() {
+        if (changeLock == 0 && batched) {
+            batched = false;
+            detectPermutation();
+        }
         final boolean addRemoveNotEmpty = addRemoveChanges != null && !addRemoveChanges.isEmpty();
         final boolean updateNotEmpty = updateChanges != null && !updateChanges.isEmpty();
         if (changeLock == 0
@@ -542,6 +659,52 @@ final class ListChangeBuilder<E> {
         commit();
     }
 
+    public void beginBatch() {
+        batchLock++;
+        batched = true;
+        beginChange();
+    }
+
+    public void endBatch() {
+        batchLock--;
+        endChange();
+    }
+
+    public boolean isBatching() {
+        return batchLock > 0;
+    }
+
+    /**
+     * Records a change that was constructed outside of this builder, so that
+     * it becomes part of the pending change.
+     */
+    public void nextChange(Change<? extends E> c) {
+        checkState();
+        while (c.next()) {
+            final int from = c.getFrom();
+            final int to = c.getTo();
+            if (c.wasPermutated()) {
+                int[] perm = new int[to - from];
+                for (int i = from; i < to; ++i) {
+                    perm[i - from] = c.getPermutation(i);
+                }
+                nextPermutation(from, to, perm);
+            } else if (c.wasUpdated()) {
+                for (int i = from; i < to; ++i) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (c.wasRemoved()) {
+                    nextRemove(from, c.getRemoved());
+                }
+                if (c.wasAdded()) {
+                    nextAdd(from, to);
+                }
+            }
+        }
+        c.reset();
+    }
+
     private static <E> SubChange<E>[] finalizeSubChangeArray(final SubChange<E>[] changes) {
         for (SubChange<E> c : changes) {
             finalizeSubChange(c);
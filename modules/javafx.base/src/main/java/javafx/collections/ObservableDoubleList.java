@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.collections;
+
+/**
+ * An {@code ObservableList} of {@code Double} values that stores them in a
+ * {@code double[]} array, without boxing them.
+ * <p>
+ * In addition to the {@link java.util.List} methods, which box and unbox the
+ * values, this list offers methods that access single values and bulk ranges
+ * of values as {@code double}s. Bulk operations add or replace all of the
+ * values with a single change notification. Elements of the list are never
+ * {@code null}; adding or setting a {@code null} value throws a
+ * {@code NullPointerException}.
+ *
+ * @see FXCollections#observableDoubleList()
+ * @since 28
+ */
+public interface ObservableDoubleList extends ObservableList<Double> {
+
+    /**
+     * Gets the value at the given index without boxing it.
+     * @param index the index of the value
+     * @return the value at the given index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public double getDouble(int index);
+
+    /**
+     * Replaces the value at the given index.
+     * @param index the index of the value to replace
+     * @param value the new value
+     * @return the value previously at the given index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public double setDouble(int index, double value);
+
+    /**
+     * Appends the given value to the end of this list.
+     * @param value the value to append
+     */
+    public void addDouble(double value);
+
+    /**
+     * Inserts the given value at the given index.
+     * @param index the index at which to insert the value
+     * @param value the value to insert
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public void addDouble(int index, double value);
+
+    /**
+     * Appends all of the given values to the end of this list.
+     * @param values the values to append
+     * @throws NullPointerException if {@code values} is null
+     */
+    public void addAll(double[] values);
+
+    /**
+     * Appends a range of the given array to the end of this list.
+     * @param src the array with the values to append
+     * @param srcIndex the start of the range in {@code src}
+     * @param length the number of values to append
+     * @throws NullPointerException if {@code src} is null
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code src}
+     */
+    public void addAll(double[] src, int srcIndex, int length);
+
+    /**
+     * Replaces the content of this list with the given values.
+     * @param values the new values
+     * @throws NullPointerException if {@code values} is null
+     */
+    public void setAll(double[] values);
+
+    /**
+     * Replaces the content of this list with a range of the given array.
+     * @param src the array with the new values
+     * @param srcIndex the start of the range in {@code src}
+     * @param length the number of values
+     * @throws NullPointerException if {@code src} is null
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code src}
+     */
+    public void setAll(double[] src, int srcIndex, int length);
+
+    /**
+     * Copies a range of this list into the given array.
+     * @param srcIndex the start of the range in this list
+     * @param dest the destination array
+     * @param destIndex the start position in the destination array
+     * @param length the number of values to copy
+     * @throws IndexOutOfBoundsException if either range is out of bounds
+     */
+    public void copyTo(int srcIndex, double[] dest, int destIndex, int length);
+
+    /**
+     * Returns an array containing the values of this list. If the values fit
+     * in the given array, they are copied into it, otherwise a new array is
+     * allocated.
+     * @param dest the array to copy the values into, or null
+     * @return an array containing the values of this list
+     */
+    public double[] toArray(double[] dest);
+}
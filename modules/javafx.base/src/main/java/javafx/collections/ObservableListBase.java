@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -240,12 +240,32 @@ public abstract class ObservableListBase<E> extends AbstractList<E>  implements
 
     /**
      * Notifies all listeners of a change
+     * <p>If the list is inside a batch started by {@link FXCollections#batch(ObservableList, Runnable)},
+     * the change is merged into the pending change of the batch instead.
      * @param change an object representing the change that was done
      */
     protected final void fireChange(ListChangeListener.Change<? extends E> change) {
+        if (changeBuilder != null && changeBuilder.isBatching()) {
+            changeBuilder.nextChange(change);
+            return;
+        }
         ListListenerHelper.fireValueChangedEvent(listenerHelper, change);
     }
 
+    /**
+     * Runs the action inside a single change block, so that all of the
+     * changes it makes are reported to the listeners as one {@code Change}.
+     */
+    final void batch(Runnable action) {
+        ListChangeBuilder<E> builder = getListChangeBuilder();
+        builder.beginBatch();
+        try {
+            action.run();
+        } finally {
+            builder.endBatch();
+        }
+    }
+
     /**
      * Returns true if there are some listeners registered for this list.
      * @return true if there is a listener for this list
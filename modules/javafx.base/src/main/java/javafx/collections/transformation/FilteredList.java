@@ -33,7 +33,9 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 import javafx.beans.NamedArg;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ObjectPropertyBase;
@@ -44,6 +46,13 @@ import javafx.collections.ObservableList;
  * Wraps an ObservableList and filters its content using the provided Predicate.
  * All changes in the ObservableList are propagated immediately
  * to the FilteredList.
+ * <p>
+ * When the predicate changes, all elements of the source list are tested again. For a
+ * source list whose size is at least the {@linkplain #setParallelFilterThreshold(int)
+ * parallel filter threshold}, the elements are tested in parallel. If the new predicate
+ * only accepts elements that are also accepted by the current predicate, for example
+ * when a search text is extended, it can be set with {@link #narrowPredicate(Predicate)}
+ * so that only the elements currently in this list are tested again.
  *
  * @param <E> the list element type
  * @see TransformationList
@@ -56,6 +65,9 @@ public final class FilteredList<E> extends TransformationList<E, E>{
 
     private SortHelper helper;
 
+    private int parallelFilterThreshold = Integer.MAX_VALUE;
+    private boolean narrowing;
+
     /**
      * Constructs a new FilteredList wrapper around the source list.
      * The provided predicate will match the elements in the source list that will be visible.
@@ -100,7 +112,11 @@ public final class FilteredList<E> extends TransformationList<E, E>{
             predicate = new ObjectPropertyBase<>() {
                 @Override
                 protected void invalidated() {
-                    refilter();
+                    if (narrowing) {
+                        refilterNarrowed();
+                    } else {
+                        refilter();
+                    }
                 }
 
                 @Override
@@ -126,6 +142,62 @@ public final class FilteredList<E> extends TransformationList<E, E>{
         predicateProperty().set(predicate);
     }
 
+    /**
+     * Sets a predicate that is at least as restrictive as the current predicate.
+     * <p>
+     * The new predicate must only accept elements that are also accepted by the
+     * current predicate. Only the elements that are currently in this list are
+     * tested with the new predicate, and the elements that it rejects are removed.
+     * Elements that were rejected by the current predicate are not tested again,
+     * even if the new predicate would accept them.
+     *
+     * @param predicate the new predicate, must not be null
+     * @throws NullPointerException if the predicate is null
+     * @throws RuntimeException if the {@link #predicateProperty() predicate} is bound
+     * @since 28
+     */
+    public final void narrowPredicate(Predicate<? super E> predicate) {
+        Objects.requireNonNull(predicate, "predicate must not be null");
+        narrowing = true;
+        try {
+            setPredicate(predicate);
+        } finally {
+            narrowing = false;
+        }
+    }
+
+    /**
+     * Gets the minimum size of the source list for which the predicate is
+     * evaluated in parallel when it changes.
+     *
+     * @return the parallel filter threshold
+     * @see #setParallelFilterThreshold(int)
+     * @since 28
+     */
+    public final int getParallelFilterThreshold() {
+        return parallelFilterThreshold;
+    }
+
+    /**
+     * Sets the minimum size of the source list for which the predicate is
+     * evaluated in parallel when it changes. Parallel evaluation is only used
+     * for source lists that implement {@link RandomAccess}, and the predicate
+     * must be safe to use from multiple threads.
+     * <p>
+     * The default value is {@link Integer#MAX_VALUE}, which means that the
+     * predicate is always evaluated sequentially.
+     *
+     * @param threshold the parallel filter threshold
+     * @throws IllegalArgumentException if the threshold is negative
+     * @since 28
+     */
+    public final void setParallelFilterThreshold(int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("threshold must not be negative: " + threshold);
+        }
+        parallelFilterThreshold = threshold;
+    }
+
     private Predicate<? super E> getPredicateImpl() {
         if (getPredicate() != null) {
             return getPredicate();
@@ -323,18 +395,75 @@ public final class FilteredList<E> extends TransformationList<E, E>{
             removed = new ArrayList<>(this);
         }
         size = 0;
-        int i = 0;
         Predicate<? super E> pred = getPredicateImpl();
-        for (Iterator<? extends E> it = getSource().iterator();it.hasNext(); ) {
-            final E next = it.next();
-            if (pred.test(next)) {
-                filtered[size++] = i;
+        final List<? extends E> source = getSource();
+        if (isParallel(source.size())) {
+            int[] matches = IntStream.range(0, source.size()).parallel()
+                    .filter(i -> pred.test(source.get(i)))
+                    .toArray();
+            System.arraycopy(matches, 0, filtered, 0, matches.length);
+            size = matches.length;
+        } else {
+            int i = 0;
+            for (Iterator<? extends E> it = source.iterator();it.hasNext(); ) {
+                final E next = it.next();
+                if (pred.test(next)) {
+                    filtered[size++] = i;
+                }
+                ++i;
             }
-            ++i;
         }
         if (hasListeners()) {
             fireChange(new GenericAddRemoveChange<>(0, size, removed, this));
         }
     }
 
+    /**
+     * Tests only the elements currently in this list with the predicate, which
+     * is known to be at least as restrictive as the previous one.
+     */
+    private void refilterNarrowed() {
+        final List<? extends E> source = getSource();
+        if (!(source instanceof RandomAccess)) {
+            refilter();
+            return;
+        }
+        Predicate<? super E> pred = getPredicateImpl();
+        final int[] filtered = this.filtered;
+        final int oldSize = size;
+        int[] kept = null;
+        if (isParallel(oldSize)) {
+            kept = IntStream.range(0, oldSize).parallel()
+                    .filter(i -> pred.test(source.get(filtered[i])))
+                    .toArray();
+        }
+
+        beginChange();
+        int pos = 0;
+        int k = 0;
+        for (int i = 0; i < oldSize; ++i) {
+            final int sourceIndex = filtered[i];
+            final boolean keep;
+            if (kept != null) {
+                keep = k < kept.length && kept[k] == i;
+                if (keep) {
+                    ++k;
+                }
+            } else {
+                keep = pred.test(source.get(sourceIndex));
+            }
+            if (keep) {
+                filtered[pos++] = sourceIndex;
+            } else {
+                nextRemove(pos, source.get(sourceIndex));
+            }
+        }
+        size = pos;
+        endChange();
+    }
+
+    private boolean isParallel(int count) {
+        return count >= parallelFilterThreshold && getSource() instanceof RandomAccess;
+    }
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -34,6 +34,9 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import javafx.beans.NamedArg;
 import javafx.beans.property.ObjectProperty;
@@ -48,6 +51,12 @@ import javafx.collections.ObservableList;
  *
  * Note: invalid SortedList (as a result of broken comparison) doesn't send any notification to listeners on becoming
  * valid again.
+ * <p>
+ * Sorting a very large list can take a long time. A full sort of a list whose size is at least the
+ * {@linkplain #setParallelSortThreshold(int) parallel sort threshold} is done with
+ * {@link Arrays#parallelSort(Object[], int, int, Comparator)}, and {@link #setComparatorAsync(Comparator, Executor)}
+ * sorts the list on a background thread before the new comparator is applied. In both cases the resulting
+ * permutation change is the same as with a sequential sort, since all sorts used by this class are stable.
  *
  * @param <E> the list element type
  * @see TransformationList
@@ -64,6 +73,12 @@ public final class SortedList<E> extends TransformationList<E, E>{
 
     private final Element<E> tempElement = new Element<>(null, -1);
 
+    private int parallelSortThreshold = Integer.MAX_VALUE;
+
+    // Incremented on every change of the source or the comparator, used to detect stale asynchronous sorts
+    private int modCount;
+    private int asyncSortRequest;
+    private Element<E>[] presorted;
 
     /**
      * Creates a new SortedList wrapped around the source list.
@@ -99,6 +114,7 @@ public final class SortedList<E> extends TransformationList<E, E>{
 
     @Override
     protected void sourceChanged(Change<? extends E> c) {
+        modCount++;
         if (elementComparator != null) {
             beginChange();
             while (c.next()) {
@@ -129,6 +145,7 @@ public final class SortedList<E> extends TransformationList<E, E>{
 
                 @Override
                 protected void invalidated() {
+                    modCount++;
                     Comparator<? super E> current = get();
                     elementComparator = current != null ? new ElementComparator<>(current) : null;
                     doSortWithPermutationChange();
@@ -157,6 +174,102 @@ public final class SortedList<E> extends TransformationList<E, E>{
         comparatorProperty().set(comparator);
     }
 
+    /**
+     * Sets the comparator after sorting this list with it on a background thread.
+     * <p>
+     * A snapshot of this list is sorted on a background thread, and the result is then applied
+     * on a thread of the given executor, typically {@code Platform::runLater}. Applying the result
+     * sets the {@link #comparatorProperty() comparator} and fires a single permutation change, just
+     * like {@link #setComparator(Comparator)} would, but without sorting the list again.
+     * <p>
+     * If the source list changes before the result is applied, the snapshot is discarded and the
+     * list is sorted again when the comparator is set. If this method is called again before the
+     * result is applied, the returned future is cancelled and the comparator is not set.
+     * <p>
+     * This method must be called on the thread that modifies this list and its source, and the
+     * executor must run the result on that same thread. The comparator must be safe to use from
+     * multiple threads.
+     *
+     * @param comparator the comparator to use, or null for an unordered list
+     * @param executor the executor on which the sorted result is applied
+     * @return a future that is completed once the comparator has been set
+     * @throws NullPointerException if the executor is null
+     * @since 28
+     */
+    public final CompletableFuture<Void> setComparatorAsync(Comparator<? super E> comparator, Executor executor) {
+        Objects.requireNonNull(executor, "executor must not be null");
+        final int request = ++asyncSortRequest;
+        final int snapshotModCount = modCount;
+        final Element<E>[] snapshot = Arrays.copyOf(sorted, size);
+        final Comparator<Element<E>> snapshotComparator =
+                comparator != null ? new ElementComparator<>(comparator) : null;
+        final boolean parallel = size >= parallelSortThreshold;
+
+        final CompletableFuture<Void> result = new CompletableFuture<>();
+        CompletableFuture.runAsync(() -> {
+            if (snapshotComparator == null) {
+                return;
+            }
+            if (parallel) {
+                Arrays.parallelSort(snapshot, snapshotComparator);
+            } else {
+                Arrays.sort(snapshot, snapshotComparator);
+            }
+        }).whenCompleteAsync((v, ex) -> {
+            if (ex != null) {
+                result.completeExceptionally(ex instanceof CompletionException && ex.getCause() != null ?
+                        ex.getCause() : ex);
+                return;
+            }
+            if (request != asyncSortRequest) {
+                result.cancel(false);
+                return;
+            }
+            if (snapshotModCount == modCount) {
+                presorted = snapshot;
+            }
+            try {
+                setComparator(comparator);
+                result.complete(null);
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            } finally {
+                presorted = null;
+            }
+        }, executor);
+        return result;
+    }
+
+    /**
+     * Gets the minimum size of this list for which a full sort is done in parallel.
+     *
+     * @return the parallel sort threshold
+     * @see #setParallelSortThreshold(int)
+     * @since 28
+     */
+    public final int getParallelSortThreshold() {
+        return parallelSortThreshold;
+    }
+
+    /**
+     * Sets the minimum size of this list for which a full sort, for example after the comparator
+     * has changed, is done with {@link Arrays#parallelSort(Object[], int, int, Comparator)}. The
+     * comparator must be safe to use from multiple threads when a parallel sort is used.
+     * <p>
+     * The default value is {@link Integer#MAX_VALUE}, which means that the list is always sorted
+     * sequentially.
+     *
+     * @param threshold the parallel sort threshold
+     * @throws IllegalArgumentException if the threshold is negative
+     * @since 28
+     */
+    public final void setParallelSortThreshold(int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("threshold must not be negative: " + threshold);
+        }
+        parallelSortThreshold = threshold;
+    }
+
     /**
      * Returns the element at the specified position in this list.
      *
@@ -183,7 +296,7 @@ public final class SortedList<E> extends TransformationList<E, E>{
 
     private void doSortWithPermutationChange() {
         if (elementComparator != null) {
-            int[] perm = helper.sort(sorted, 0, size, elementComparator);
+            int[] perm = sortElements(presorted);
             for (int i = 0; i < size; i++) {
                 this.perm[sorted[i].index] = i;
             }
@@ -220,6 +333,26 @@ public final class SortedList<E> extends TransformationList<E, E>{
         }
     }
 
+    /**
+     * Sorts the elements with the current comparator, or takes them from the given
+     * presorted array, and returns the permutation of the view indexes. The perm
+     * array must be up to date when this method is called, and is not updated.
+     */
+    private int[] sortElements(Element<E>[] presorted) {
+        if (presorted != null) {
+            System.arraycopy(presorted, 0, sorted, 0, size);
+        } else if (size >= parallelSortThreshold) {
+            Arrays.parallelSort(sorted, 0, size, elementComparator);
+        } else {
+            return helper.sort(sorted, 0, size, elementComparator);
+        }
+        int[] permutation = new int[size];
+        for (int i = 0; i < size; i++) {
+            permutation[perm[sorted[i].index]] = i;
+        }
+        return permutation;
+    }
+
     @Override
     public int getSourceIndex(int index) {
         Objects.checkIndex(index, size);
@@ -362,8 +495,9 @@ public final class SortedList<E> extends TransformationList<E, E>{
         size = to;
         for (int i = 0; i < to; ++i) {
             sorted[i] = new Element<>(list.get(i), i);
+            this.perm[i] = i;
         }
-        int[] perm = helper.sort(sorted, 0, size, elementComparator);  // elementComparator is never null here
+        int[] perm = sortElements(null);  // elementComparator is never null here
         System.arraycopy(perm, 0, this.perm, 0, size);
         nextAdd(0, size);
     }
@@ -389,7 +523,7 @@ public final class SortedList<E> extends TransformationList<E, E>{
     }
 
     private void update(Change<? extends E> c) {
-        int[] perm = helper.sort(sorted, 0, size, elementComparator);  // elementComparator is never null here
+        int[] perm = sortElements(null);  // elementComparator is never null here
         for (int i = 0; i < size; i++) {
             this.perm[sorted[i].index] = i;
         }
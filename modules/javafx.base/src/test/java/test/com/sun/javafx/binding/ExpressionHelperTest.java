@@ -27,6 +27,7 @@ package test.com.sun.javafx.binding;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -938,4 +939,80 @@ public class ExpressionHelperTest {
         assertEquals(DATA_2, newValueRef.get(), "listenerB should observe the new non-null value," +
                 " even if listenerA removed all the change listeners during the notification");
     }
+
+    @Test
+    public void testHelperIsReusedWhenListenerCountChanges() {
+        helper = ExpressionHelper.addListener(helper, observable, invalidationListener[0]);
+        helper = ExpressionHelper.addListener(helper, observable, invalidationListener[1]);
+        final ExpressionHelper generic = helper;
+
+        helper = ExpressionHelper.removeListener(helper, invalidationListener[1]);
+        assertSame(generic, helper);
+        helper = ExpressionHelper.addListener(helper, observable, changeListener[0]);
+        assertSame(generic, helper);
+        helper = ExpressionHelper.removeListener(helper, invalidationListener[0]);
+        assertSame(generic, helper);
+
+        observable.set(DATA_2);
+        ExpressionHelper.fireValueChangedEvent(helper);
+        invalidationListener[0].check(null, 0);
+        invalidationListener[1].check(null, 0);
+        changeListener[0].check(observable, DATA_1, DATA_2, 1);
+
+        helper = ExpressionHelper.removeListener(helper, changeListener[0]);
+        assertEquals(null, helper);
+    }
+
+    @Test
+    public void testSeveralListenersAddedAndRemovedDuringNotification() {
+        final InvalidationListener remover = new InvalidationListener() {
+            @Override
+            public void invalidated(Observable o) {
+                helper = ExpressionHelper.removeListener(helper, invalidationListener[1]);
+                helper = ExpressionHelper.addListener(helper, observable, invalidationListener[2]);
+                helper = ExpressionHelper.removeListener(helper, invalidationListener[0]);
+                helper = ExpressionHelper.addListener(helper, observable, invalidationListener[3]);
+                helper = ExpressionHelper.removeListener(helper, this);
+            }
+        };
+        helper = ExpressionHelper.addListener(helper, observable, remover);
+        helper = ExpressionHelper.addListener(helper, observable, invalidationListener[0]);
+        helper = ExpressionHelper.addListener(helper, observable, invalidationListener[1]);
+
+        ExpressionHelper.fireValueChangedEvent(helper);
+        invalidationListener[0].check(observable, 1);
+        invalidationListener[1].check(observable, 1);
+        invalidationListener[2].check(null, 0);
+        invalidationListener[3].check(null, 0);
+
+        ExpressionHelper.fireValueChangedEvent(helper);
+        invalidationListener[0].check(null, 0);
+        invalidationListener[1].check(null, 0);
+        invalidationListener[2].check(observable, 1);
+        invalidationListener[3].check(observable, 1);
+    }
+
+    @Test
+    public void testListenerRemovedDuringNestedNotification() {
+        final AtomicInteger depth = new AtomicInteger();
+        final InvalidationListener nested = o -> {
+            if (depth.getAndIncrement() == 0) {
+                ExpressionHelper.fireValueChangedEvent(helper);
+                helper = ExpressionHelper.removeListener(helper, invalidationListener[0]);
+            }
+        };
+        helper = ExpressionHelper.addListener(helper, observable, nested);
+        helper = ExpressionHelper.addListener(helper, observable, invalidationListener[0]);
+        helper = ExpressionHelper.addListener(helper, observable, invalidationListener[1]);
+
+        ExpressionHelper.fireValueChangedEvent(helper);
+
+        // notified by both the nested and the outer notification
+        invalidationListener[0].check(observable, 2);
+        invalidationListener[1].check(observable, 2);
+
+        ExpressionHelper.fireValueChangedEvent(helper);
+        invalidationListener[0].check(null, 0);
+        invalidationListener[1].check(observable, 1);
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,17 +25,19 @@
 package test.com.sun.javafx.binding;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.junit.jupiter.api.Assertions.fail;
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 
+import javafx.beans.InvalidationListener;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.BooleanBinding;
 import javafx.beans.binding.DoubleBinding;
@@ -44,6 +46,8 @@ import javafx.beans.binding.IntegerBinding;
 import javafx.beans.binding.LongBinding;
 import javafx.beans.binding.ObjectBinding;
 import javafx.beans.binding.StringBinding;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
 import javafx.collections.ObservableList;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -52,6 +56,7 @@ import org.junit.jupiter.api.Test;
 import test.javafx.beans.Person;
 import test.javafx.binding.Variable;
 import test.javafx.util.OutputRedirect;
+import test.util.memory.JMemoryBuddy;
 
 public class SelectBindingTest {
 
@@ -100,6 +105,26 @@ public class SelectBindingTest {
 
     }
 
+    public static class CountingBean {
+
+        private final StringProperty name;
+        private int lookups;
+
+        public CountingBean(String name) {
+            this.name = new SimpleStringProperty(name);
+        }
+
+        public String getName() {
+            return name.get();
+        }
+
+        public StringProperty nameProperty() {
+            lookups++;
+            return name;
+        }
+
+    }
+
     private Variable a;
     private Variable b;
     private Variable c;
@@ -435,7 +460,7 @@ public class SelectBindingTest {
     @Test
     public void testAllMembersHaveListeners() {
         // As yet, there should still be no listeners registered
-        assertEquals(1, a.numChangedListenersForNext);
+        assertEquals(0, a.numChangedListenersForNext);
         assertEquals(0, a.numChangedListenersForName);
         assertEquals(0, b.numChangedListenersForNext);
         assertEquals(0, b.numChangedListenersForName);
@@ -455,6 +480,86 @@ public class SelectBindingTest {
         assertEquals(Arrays.asList(a.nextProperty(), b.nextProperty(), c.nameProperty()), dependencies);
     }
 
+    @Test
+    public void testUnchangedStepIsNotResolvedAgain() {
+        final CountingBean bean = new CountingBean("x");
+        a.setNext(bean);
+        final StringBinding binding = Bindings.selectString(a.nextProperty(), "name");
+        assertEquals("x", binding.get());
+        assertEquals(1, bean.lookups);
+
+        bean.name.set("y");
+        assertEquals("y", binding.get());
+        bean.name.set("z");
+        assertEquals("z", binding.get());
+        assertEquals(1, bean.lookups);
+        assertEquals(Arrays.asList(a.nextProperty(), bean.name), binding.getDependencies());
+    }
+
+    @Test
+    public void testChangedStepIsResolvedAgain() {
+        final CountingBean bean1 = new CountingBean("x");
+        final CountingBean bean2 = new CountingBean("y");
+        a.setNext(bean1);
+        final StringBinding binding = Bindings.selectString(a.nextProperty(), "name");
+        assertEquals("x", binding.get());
+
+        a.setNext(bean2);
+        assertEquals("y", binding.get());
+        assertEquals(1, bean2.lookups);
+        assertEquals(Arrays.asList(a.nextProperty(), bean2.name), binding.getDependencies());
+
+        a.setNext(bean1);
+        assertEquals("x", binding.get());
+        assertEquals(2, bean1.lookups);
+
+        bean2.name.set("z");
+        assertTrue(binding.isValid());
+    }
+
+    @Test
+    public void testObjectBindingObservesChainOnlyWhileObserved() {
+        final ObjectBinding<Object> binding = Bindings.select(a.nextProperty(), "next", "name");
+        assertEquals("c", binding.get());
+        // without listeners, nothing is observed and the value is not cached
+        assertFalse(binding.isValid());
+        assertEquals(0, a.numChangedListenersForNext);
+        assertEquals(0, b.numChangedListenersForNext);
+        assertEquals(0, c.numChangedListenersForName);
+        c.setName("x");
+        assertEquals("x", binding.get());
+
+        final InvalidationListener listener = obs -> {};
+        binding.addListener(listener);
+        assertEquals("x", binding.get());
+        assertTrue(binding.isValid());
+        assertEquals(1, a.numChangedListenersForNext);
+        assertEquals(1, b.numChangedListenersForNext);
+        assertEquals(1, c.numChangedListenersForName);
+
+        binding.removeListener(listener);
+        assertFalse(binding.isValid());
+        assertEquals(0, a.numChangedListenersForNext);
+        assertEquals(0, b.numChangedListenersForNext);
+        assertEquals(0, c.numChangedListenersForName);
+    }
+
+    @Test
+    public void testInvalidBindingDoesNotKeepOldChain() {
+        CountingBean bean = new CountingBean("x");
+        a.setNext(bean);
+        final StringBinding binding = Bindings.selectString(a.nextProperty(), "name");
+        assertEquals("x", binding.get());
+
+        final WeakReference<CountingBean> ref = new WeakReference<>(bean);
+        a.setNext(null);
+        bean = null;
+        assertFalse(binding.isValid());
+        JMemoryBuddy.assertCollectable(ref);
+        assertNull(binding.get());
+        ErrorLoggingUtility.checkFine(NullPointerException.class);
+    }
+
     @Test
     public void testWhenAValidChangeIsBrokenBySettingTheRootToNullThenTheValueIsNull() {
 
@@ -484,7 +589,8 @@ public class SelectBindingTest {
 
         assertEquals("c", select.get());
         b.setNext(null);
-        assertEquals(Arrays.asList(a.nextProperty()), dependencies);
+        // the steps before the one that changed are still observed
+        assertEquals(Arrays.asList(a.nextProperty(), b.nextProperty()), dependencies);
         assertNull(select.get());
         assertEquals(Arrays.asList(a.nextProperty(), b.nextProperty()), dependencies);
         ErrorLoggingUtility.checkFine(NullPointerException.class);
@@ -497,7 +603,7 @@ public class SelectBindingTest {
         select.get();
         ErrorLoggingUtility.reset();
         b.setNext(c);
-        assertEquals(Arrays.asList(a.nextProperty()), dependencies);
+        assertEquals(Arrays.asList(a.nextProperty(), b.nextProperty()), dependencies);
         assertEquals("c", select.get());
         assertEquals(Arrays.asList(a.nextProperty(), b.nextProperty(), c.nameProperty()), dependencies);
         assertTrue(ErrorLoggingUtility.isEmpty());
@@ -508,7 +614,7 @@ public class SelectBindingTest {
         ErrorLoggingUtility.reset();
         assertEquals("c", select.get());
         c.setName("d");
-        assertEquals(Arrays.asList(a.nextProperty()), dependencies);
+        assertEquals(Arrays.asList(a.nextProperty(), b.nextProperty(), c.nameProperty()), dependencies);
         assertEquals("d", select.get());
         assertEquals(Arrays.asList(a.nextProperty(), b.nextProperty(), c.nameProperty()), dependencies);
         assertTrue(ErrorLoggingUtility.isEmpty());
@@ -520,7 +626,7 @@ public class SelectBindingTest {
         c.setName("d");
         select.get();
         c.setName("c");
-        assertEquals(Arrays.asList(a.nextProperty()), dependencies);
+        assertEquals(Arrays.asList(a.nextProperty(), b.nextProperty(), c.nameProperty()), dependencies);
         assertEquals("c", select.get());
         assertEquals(Arrays.asList(a.nextProperty(), b.nextProperty(), c.nameProperty()), dependencies);
         assertTrue(ErrorLoggingUtility.isEmpty());
@@ -565,6 +671,7 @@ public class SelectBindingTest {
         List<String> steps = new ArrayList<>();
 
         Random rand = new Random(System.currentTimeMillis());
+        boolean evaluated = false;
         for (int i = 0; i < 10000; i++) {
             switch (rand.nextInt(20)) {
                 case 0:
@@ -601,28 +708,43 @@ public class SelectBindingTest {
                     break;
                 default:
                     select.get();
+                    evaluated = true;
                     steps.add("Call select.get()");
             }
 
-            // Now validate that the listeners are as we expected
-            int expected = 1;
-            int depsCount = expected;
+            // Now validate that the listeners are as we expected: the binding
+            // observes the steps in its dependencies, which are the current
+            // chain while it is valid
+            List<Object> chain = new ArrayList<>();
+            chain.add(a.nextProperty());
+            if (a.getNext() == b) {
+                chain.add(b.nextProperty());
+                if (b.getNext() == c) {
+                    chain.add(c.nameProperty());
+                }
+            }
+            if (select.isValid()) {
+                if (!chain.equals(dependencies)) {
+                    printSteps(i, steps);
+                }
+                assertEquals(chain, dependencies);
+            }
+
+            int expected = evaluated ? 1 : 0;
             assertEquals(0, a.numChangedListenersForName);
             if (expected != a.numChangedListenersForNext) {
                 printSteps(i, steps);
             }
             assertEquals(expected, a.numChangedListenersForNext);
 
-            expected = select.isValid() && a.getNext() == b ? 1 : 0;
-            depsCount += expected;
+            expected = dependencies.contains(b.nextProperty()) ? 1 : 0;
             assertEquals(0, b.numChangedListenersForName);
             if (expected != b.numChangedListenersForNext) {
                 printSteps(i, steps);
             }
             assertEquals(expected, b.numChangedListenersForNext);
 
-            expected = select.isValid() && a.getNext() == b && b.getNext() == c ? 1 : 0;
-            depsCount += expected;
+            expected = dependencies.contains(c.nameProperty()) ? 1 : 0;
             assertEquals(0, c.numChangedListenersForNext);
             if (expected != c.numChangedListenersForName) {
                 printSteps(i, steps);
@@ -631,21 +753,7 @@ public class SelectBindingTest {
 
             assertEquals(0, d.numChangedListenersForName);
             assertEquals(0, d.numChangedListenersForNext);
-
-            switch (depsCount) {
-                case 0:
-                case 1:
-                    assertEquals(Arrays.asList(a.nextProperty()), dependencies);
-                    break;
-                case 2:
-                    assertEquals(Arrays.asList(a.nextProperty(), b.nextProperty()), dependencies);
-                    break;
-                case 3:
-                    assertEquals(Arrays.asList(a.nextProperty(), b.nextProperty(), c.nameProperty()), dependencies);
-                    break;
-                default:
-                    fail("Should not reach here");
-            }
+            assertEquals(a.nextProperty(), dependencies.get(0));
         }
     }
 
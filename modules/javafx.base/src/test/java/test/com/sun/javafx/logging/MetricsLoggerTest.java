@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.logging;
+
+import com.sun.javafx.logging.Logger;
+import com.sun.javafx.logging.MetricsLoggerShim;
+import com.sun.javafx.logging.PulseMetrics;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MetricsLoggerTest {
+
+    private Logger logger;
+    private List<PulseMetrics> metrics;
+
+    @BeforeEach
+    void setUp() {
+        logger = MetricsLoggerShim.createMetricsLogger();
+        metrics = new ArrayList<>();
+        MetricsLoggerShim.addListener(logger, metrics::add);
+    }
+
+    private void runOnRenderThread(Runnable r) throws InterruptedException {
+        Thread t = new Thread(r);
+        t.start();
+        t.join();
+    }
+
+    @Test
+    void testPulseWithoutRendering() {
+        logger.pulseStart();
+        logger.newPhase("CSS Pass");
+        logger.newPhase("Layout Pass");
+        logger.incrementCounter("Dirty nodes synchronized", 3);
+        logger.incrementCounter("Dirty nodes synchronized");
+        logger.sampleValue("value", 1);
+        logger.sampleValue("value", 2);
+        assertTrue(metrics.isEmpty());
+        logger.pulseEnd();
+
+        assertEquals(1, metrics.size());
+        PulseMetrics m = metrics.get(0);
+        assertEquals(1, m.getPulseNumber());
+        assertFalse(m.isRendered());
+        assertEquals(0, m.getRenderDuration());
+        assertEquals(0, m.getInterval());
+        assertEquals(List.of("CSS Pass", "Layout Pass"), new ArrayList<>(m.getPhaseDurations().keySet()));
+        assertEquals(4, m.getCounters().get("Dirty nodes synchronized"));
+        assertEquals(2L, m.getValues().get("value"));
+        assertEquals(m.getFxDuration(), m.getTotalDuration());
+    }
+
+    @Test
+    void testRepeatedPhasesAreAddedUp() {
+        logger.pulseStart();
+        logger.newPhase("CSS Pass");
+        logger.newPhase("Layout Pass");
+        logger.newPhase("CSS Pass");
+        logger.pulseEnd();
+
+        PulseMetrics m = metrics.get(0);
+        assertEquals(2, m.getPhaseDurations().size());
+        assertTrue(m.getPhaseDurations().get("CSS Pass") >= 0);
+    }
+
+    @Test
+    void testPulseNumbersAndInterval() {
+        logger.pulseStart();
+        logger.pulseEnd();
+        logger.pulseStart();
+        logger.pulseEnd();
+
+        assertEquals(2, metrics.size());
+        assertEquals(1, metrics.get(0).getPulseNumber());
+        assertEquals(2, metrics.get(1).getPulseNumber());
+        assertEquals(metrics.get(1).getStartTime() - metrics.get(0).getStartTime(), metrics.get(1).getInterval());
+    }
+
+    @Test
+    void testRenderingEndsBeforePulse() throws InterruptedException {
+        logger.pulseStart();
+        logger.newPhase("Layout Pass");
+        logger.renderStart();
+        runOnRenderThread(() -> {
+            logger.newPhase("Painting");
+            logger.incrementCounter("Nodes rendered");
+            logger.sampleValue("Texture pool used bytes", 42);
+            logger.renderEnd();
+        });
+        assertTrue(metrics.isEmpty());
+        logger.pulseEnd();
+
+        assertEquals(1, metrics.size());
+        PulseMetrics m = metrics.get(0);
+        assertTrue(m.isRendered());
+        assertTrue(m.getPhaseDurations().containsKey("Layout Pass"));
+        assertTrue(m.getPhaseDurations().containsKey("Painting"));
+        assertEquals(1, m.getCounters().get("Nodes rendered"));
+        assertEquals(42L, m.getValues().get("Texture pool used bytes"));
+        assertTrue(m.getTotalDuration() >= m.getFxDuration());
+    }
+
+    @Test
+    void testRenderingEndsAfterPulse() throws InterruptedException {
+        logger.pulseStart();
+        logger.renderStart();
+        logger.pulseEnd();
+        assertTrue(metrics.isEmpty());
+        runOnRenderThread(() -> {
+            logger.newPhase("Painting");
+            logger.renderEnd();
+        });
+
+        assertEquals(1, metrics.size());
+        assertTrue(metrics.get(0).getPhaseDurations().containsKey("Painting"));
+    }
+
+    @Test
+    void testMetricsAreUnmodifiable() {
+        logger.pulseStart();
+        logger.incrementCounter("counter");
+        logger.pulseEnd();
+
+        PulseMetrics m = metrics.get(0);
+        assertThrows(UnsupportedOperationException.class, () -> m.getCounters().put("other", 1));
+        assertThrows(UnsupportedOperationException.class, () -> m.getPhaseDurations().clear());
+        assertThrows(UnsupportedOperationException.class, () -> m.getValues().clear());
+    }
+
+    @Test
+    void testRemoveListener() {
+        List<PulseMetrics> other = new ArrayList<>();
+        Consumer<PulseMetrics> listener = other::add;
+        MetricsLoggerShim.addListener(logger, listener);
+        logger.pulseStart();
+        logger.pulseEnd();
+        assertEquals(1, other.size());
+
+        MetricsLoggerShim.removeListener(logger, listener);
+        logger.pulseStart();
+        logger.pulseEnd();
+        assertEquals(1, other.size());
+        assertEquals(2, metrics.size());
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.property.adapter;
+
+import com.sun.javafx.property.adapter.JavaBeanPropertyBuilderHelper;
+import com.sun.javafx.property.adapter.PropertyDescriptor;
+import com.sun.javafx.property.adapter.ReadOnlyJavaBeanPropertyBuilderHelper;
+import com.sun.javafx.property.adapter.ReadOnlyPropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.UndeclaredThrowableException;
+import javafx.beans.property.adapter.JavaBeanDoubleProperty;
+import javafx.beans.property.adapter.JavaBeanDoublePropertyBuilder;
+import javafx.beans.property.adapter.JavaBeanObjectProperty;
+import javafx.beans.property.adapter.JavaBeanObjectPropertyBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DescriptorCacheTest {
+
+    public static class Bean {
+        private double x;
+        private Object y;
+
+        public double getX() { return x; }
+        public void setX(double x) { this.x = x; }
+        public Object readX() { return x; }
+        public void writeX(Object x) { this.x = (Double) x; }
+
+        public Object getY() {
+            if (y instanceof RuntimeException e) {
+                throw e;
+            }
+            return y;
+        }
+        public void setY(Object y) { this.y = y; }
+    }
+
+    // Not public, so its methods cannot be called through a public lookup
+    static class HiddenBean {
+        private String name;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+    }
+
+    @Test
+    public void testDescriptorIsSharedBetweenBuilders() throws NoSuchMethodException {
+        final JavaBeanPropertyBuilderHelper<Object> helper1 = new JavaBeanPropertyBuilderHelper<>();
+        helper1.bean(new Bean());
+        helper1.name("x");
+        final JavaBeanPropertyBuilderHelper<Object> helper2 = new JavaBeanPropertyBuilderHelper<>();
+        helper2.beanClass(Bean.class);
+        helper2.name("x");
+        assertSame(helper1.getDescriptor(), helper2.getDescriptor());
+
+        final ReadOnlyJavaBeanPropertyBuilderHelper<Object> helper3 = new ReadOnlyJavaBeanPropertyBuilderHelper<>();
+        helper3.bean(new Bean());
+        helper3.name("x");
+        final ReadOnlyJavaBeanPropertyBuilderHelper<Object> helper4 = new ReadOnlyJavaBeanPropertyBuilderHelper<>();
+        helper4.bean(new Bean());
+        helper4.name("x");
+        assertSame(helper3.getDescriptor(), helper4.getDescriptor());
+    }
+
+    @Test
+    public void testDescriptorWithCustomAccessorsIsNotShared() throws NoSuchMethodException {
+        final JavaBeanPropertyBuilderHelper<Object> helper1 = new JavaBeanPropertyBuilderHelper<>();
+        helper1.beanClass(Bean.class);
+        helper1.name("x");
+        final JavaBeanPropertyBuilderHelper<Object> helper2 = new JavaBeanPropertyBuilderHelper<>();
+        helper2.beanClass(Bean.class);
+        helper2.name("x");
+        helper2.getterName("readX");
+        helper2.setterName("writeX");
+        final PropertyDescriptor<Object> descriptor = helper2.getDescriptor();
+        assertNotSame(helper1.getDescriptor(), descriptor);
+        assertEquals("readX", descriptor.getGetter().getName());
+
+        final JavaBeanPropertyBuilderHelper<Object> helper3 = new JavaBeanPropertyBuilderHelper<>();
+        helper3.beanClass(Bean.class);
+        helper3.name("x");
+        assertSame(helper1.getDescriptor(), helper3.getDescriptor());
+    }
+
+    @Test
+    public void testInvokeAccessors() throws Exception {
+        final Bean bean = new Bean();
+        final JavaBeanPropertyBuilderHelper<Object> helper = new JavaBeanPropertyBuilderHelper<>();
+        helper.bean(bean);
+        helper.name("x");
+        final PropertyDescriptor<Object> descriptor = helper.getDescriptor();
+
+        descriptor.invokeSetter(bean, 3.5);
+        assertEquals(3.5, bean.x);
+        assertEquals(3.5, descriptor.invokeGetter(bean));
+
+        // an Integer needs a widening conversion, which reflection does
+        descriptor.invokeSetter(bean, 2);
+        assertEquals(2.0, bean.x);
+
+        // reflection rejects null for a primitive setter
+        assertThrows(IllegalArgumentException.class, () -> descriptor.invokeSetter(bean, null));
+    }
+
+    @Test
+    public void testExceptionInGetterIsWrapped() throws Exception {
+        final Bean bean = new Bean();
+        final JavaBeanObjectProperty<Object> property = JavaBeanObjectPropertyBuilder.create().bean(bean).name("y").build();
+        final IllegalStateException ex = new IllegalStateException();
+        bean.setY(ex);
+        final UndeclaredThrowableException thrown = assertThrows(UndeclaredThrowableException.class, property::get);
+        assertInstanceOf(InvocationTargetException.class, thrown.getCause());
+        assertSame(ex, thrown.getCause().getCause());
+    }
+
+    @Test
+    public void testAdapterSetAndGet() throws NoSuchMethodException {
+        final Bean bean = new Bean();
+        final JavaBeanDoubleProperty property = JavaBeanDoublePropertyBuilder.create().bean(bean).name("x").build();
+        property.set(Math.PI);
+        assertEquals(Math.PI, bean.getX());
+        bean.setX(Math.E);
+        assertEquals(Math.E, property.get());
+    }
+
+    @Test
+    public void testNonPublicBeanClassUsesReflection() throws Exception {
+        final HiddenBean bean = new HiddenBean();
+        final ReadOnlyJavaBeanPropertyBuilderHelper<Object> helper = new ReadOnlyJavaBeanPropertyBuilderHelper<>();
+        helper.bean(bean);
+        helper.name("name");
+        final ReadOnlyPropertyDescriptor<Object> descriptor = helper.getDescriptor();
+        // the access checks are those of reflection, as before
+        assertThrows(IllegalAccessException.class, () -> descriptor.invokeGetter(bean));
+    }
+}
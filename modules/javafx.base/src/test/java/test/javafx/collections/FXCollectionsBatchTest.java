@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.collections;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FXCollectionsBatchTest {
+
+    private ObservableList<String> list;
+    private MockListObserver<String> observer;
+
+    @BeforeEach
+    public void setUp() {
+        list = FXCollections.observableArrayList("a", "b", "c", "d", "e");
+        observer = new MockListObserver<>();
+        list.addListener(observer);
+    }
+
+    @Test
+    public void testNullArguments() {
+        assertThrows(NullPointerException.class, () -> FXCollections.batch(null, () -> {}));
+        assertThrows(NullPointerException.class, () -> FXCollections.batch(list, null));
+    }
+
+    @Test
+    public void testEmptyBatch() {
+        FXCollections.batch(list, () -> {});
+        observer.check0();
+    }
+
+    @Test
+    public void testManyAddsFireOneChange() {
+        int[] invocations = new int[1];
+        list.addListener((ListChangeListener<String>) c -> invocations[0]++);
+
+        FXCollections.batch(list, () -> {
+            for (int i = 0; i < 500; i++) {
+                list.add("x" + i);
+            }
+        });
+
+        assertEquals(1, invocations[0]);
+        assertEquals(505, list.size());
+        observer.check1AddRemove(list, null, 5, 505);
+    }
+
+    @Test
+    public void testAddsAndRemovesAreMerged() {
+        FXCollections.batch(list, () -> {
+            list.remove(1);
+            list.add(1, "x");
+            list.add(2, "y");
+            list.remove("e");
+        });
+
+        assertEquals(List.of("a", "x", "y", "c", "d"), list);
+        observer.checkN(2);
+        observer.checkAddRemove(0, list, List.of("b"), 1, 3);
+        observer.checkAddRemove(1, list, List.of("e"), 5, 5);
+    }
+
+    @Test
+    public void testAddThenRemoveIsNoChange() {
+        FXCollections.batch(list, () -> {
+            list.add("x");
+            list.remove("x");
+        });
+        observer.check0();
+    }
+
+    @Test
+    public void testMovesAreReportedAsPermutation() {
+        FXCollections.batch(list, () -> {
+            String e = list.remove(4);
+            list.add(0, e);
+        });
+
+        assertEquals(List.of("e", "a", "b", "c", "d"), list);
+        observer.checkPermutation(0, list, 0, 5, new int[] {1, 2, 3, 4, 0});
+    }
+
+    @Test
+    public void testSwapIsReportedAsMinimalPermutation() {
+        FXCollections.batch(list, () -> {
+            String b = list.get(1);
+            String d = list.get(3);
+            list.set(1, d);
+            list.set(3, b);
+        });
+
+        assertEquals(List.of("a", "d", "c", "b", "e"), list);
+        observer.checkPermutation(0, list, 1, 4, new int[] {3, 2, 1});
+    }
+
+    @Test
+    public void testRemoveAndAddBackSameElementIsNoChange() {
+        FXCollections.batch(list, () -> {
+            String c = list.remove(2);
+            list.add(2, c);
+        });
+        observer.check0();
+    }
+
+    @Test
+    public void testEqualButNotSameElementIsNotAPermutation() {
+        FXCollections.batch(list, () -> {
+            list.set(0, new String("b"));
+            list.set(1, new String("a"));
+        });
+
+        assertEquals(List.of("b", "a", "c", "d", "e"), list);
+        observer.checkN(1);
+        observer.checkAddRemove(0, list, List.of("a", "b"), 0, 2);
+    }
+
+    @Test
+    public void testSortInsideBatchIsMerged() {
+        int[] invocations = new int[1];
+        list.addListener((ListChangeListener<String>) c -> invocations[0]++);
+
+        FXCollections.batch(list, () -> {
+            list.sort(Comparator.reverseOrder());
+            list.add("0");
+            list.sort(Comparator.naturalOrder());
+        });
+
+        assertEquals(List.of("0", "a", "b", "c", "d", "e"), list);
+        assertEquals(1, invocations[0]);
+        observer.checkN(1);
+        observer.checkAddRemove(0, list, null, 0, 1);
+    }
+
+    @Test
+    public void testSortOfMovedElementsIsPermutation() {
+        FXCollections.batch(list, () -> {
+            list.sort(Comparator.reverseOrder());
+            list.set(0, "x");
+            list.set(0, "e");
+        });
+
+        assertEquals(List.of("e", "d", "c", "b", "a"), list);
+        observer.checkPermutation(0, list, 0, 5, new int[] {4, 3, 2, 1, 0});
+    }
+
+    @Test
+    public void testNestedBatches() {
+        FXCollections.batch(list, () -> {
+            list.add("x");
+            FXCollections.batch(list, () -> list.add("y"));
+            observer.check0();
+            list.add("z");
+        });
+
+        observer.check1AddRemove(list, null, 5, 8);
+    }
+
+    @Test
+    public void testChangesAreReportedWhenActionThrows() {
+        assertThrows(IllegalStateException.class, () -> FXCollections.batch(list, () -> {
+            list.add("x");
+            list.add("y");
+            throw new IllegalStateException();
+        }));
+
+        observer.check1AddRemove(list, null, 5, 7);
+
+        observer.clear();
+        list.add("z");
+        observer.check1AddRemove(list, null, 7, 8);
+    }
+
+    @Test
+    public void testListenerSeesFinalState() {
+        List<List<String>> seen = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) c -> seen.add(List.copyOf(c.getList())));
+
+        FXCollections.batch(list, () -> {
+            list.clear();
+            list.addAll("1", "2");
+        });
+
+        assertEquals(List.of(List.of("1", "2")), seen);
+    }
+
+    @Test
+    public void testSynchronizedList() {
+        ObservableList<String> sync = FXCollections.synchronizedObservableList(
+                FXCollections.observableArrayList("a", "b"));
+        MockListObserver<String> o = new MockListObserver<>();
+        sync.addListener(o);
+
+        FXCollections.batch(sync, () -> {
+            sync.add("c");
+            sync.add("d");
+        });
+
+        o.check1AddRemove(sync, null, 2, 4);
+    }
+
+    @Test
+    public void testCheckedList() {
+        ObservableList<String> checked = FXCollections.checkedObservableList(list, String.class);
+        MockListObserver<String> o = new MockListObserver<>();
+        checked.addListener(o);
+
+        FXCollections.batch(checked, () -> {
+            checked.add("x");
+            checked.remove("a");
+        });
+
+        observer.checkN(2);
+        o.checkN(2);
+        assertEquals(List.of("b", "c", "d", "e", "x"), checked);
+    }
+
+    @Test
+    public void testFilteredListChangesAreMerged() {
+        FilteredList<String> filtered = list.filtered(s -> !s.startsWith("x"));
+        MockListObserver<String> o = new MockListObserver<>();
+        filtered.addListener(o);
+
+        FXCollections.batch(filtered, () -> {
+            list.add("f");
+            list.add("x");
+            list.add("g");
+        });
+
+        assertEquals(List.of("a", "b", "c", "d", "e", "f", "g"), filtered);
+        o.check1AddRemove(filtered, null, 5, 7);
+    }
+
+    @Test
+    public void testOtherListsRunAction() {
+        ObservableList<String> empty = FXCollections.emptyObservableList();
+        boolean[] ran = new boolean[1];
+        FXCollections.batch(empty, () -> ran[0] = true);
+        assertTrue(ran[0]);
+    }
+}
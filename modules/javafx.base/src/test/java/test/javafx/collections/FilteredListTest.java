@@ -30,8 +30,11 @@ import com.sun.javafx.collections.ObservableListWrapper;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
@@ -369,4 +372,113 @@ public class FilteredListTest {
 
         assertEquals(List.of(2L, 1L), filteredList);
     }
+
+    @Test
+    public void testParallelFilterThresholdDefault() {
+        assertEquals(Integer.MAX_VALUE, filteredList.getParallelFilterThreshold());
+        assertThrows(IllegalArgumentException.class, () -> filteredList.setParallelFilterThreshold(-1));
+    }
+
+    @Test
+    public void testParallelRefilter() {
+        List<Integer> numbers = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+        FilteredList<Integer> parallel = new FilteredList<>(FXCollections.observableArrayList(numbers));
+        parallel.setParallelFilterThreshold(100);
+        MockListObserver<Integer> observer = new MockListObserver<>();
+        parallel.addListener(observer);
+
+        parallel.setPredicate(n -> n % 3 == 0);
+
+        List<Integer> expected = numbers.stream().filter(n -> n % 3 == 0).collect(Collectors.toList());
+        assertEquals(expected, parallel);
+        observer.check1AddRemove(parallel, numbers, 0, expected.size());
+        for (int i = 0; i < parallel.size(); i++) {
+            assertEquals(3 * i, parallel.getSourceIndex(i));
+        }
+    }
+
+    @Test
+    public void testParallelRefilterWithoutRandomAccess() {
+        ObservableList<Integer> source = new ObservableListWrapper<>(new LinkedList<>(List.of(1, 2, 3, 4)));
+        FilteredList<Integer> filtered = new FilteredList<>(source);
+        filtered.setParallelFilterThreshold(0);
+
+        filtered.setPredicate(n -> n % 2 == 0);
+
+        assertEquals(List.of(2, 4), filtered);
+    }
+
+    @Test
+    public void testNarrowPredicate() {
+        list.setAll("a", "ab", "abc", "b", "abd", "c");
+        filteredList.setPredicate(s -> s.startsWith("a"));
+        assertEquals(Arrays.asList("a", "ab", "abc", "abd"), filteredList);
+        mlo.clear();
+
+        filteredList.narrowPredicate(s -> s.startsWith("ab"));
+
+        assertEquals(Arrays.asList("ab", "abc", "abd"), filteredList);
+        mlo.check1AddRemove(filteredList, Arrays.asList("a"), 0, 0);
+        assertEquals(1, filteredList.getSourceIndex(0));
+        assertEquals(4, filteredList.getSourceIndex(2));
+        mlo.clear();
+
+        filteredList.narrowPredicate(s -> s.equals("abc"));
+
+        assertEquals(Arrays.asList("abc"), filteredList);
+        mlo.checkN(2);
+        mlo.checkAddRemove(0, filteredList, Arrays.asList("ab"), 0, 0);
+        mlo.checkAddRemove(1, filteredList, Arrays.asList("abd"), 1, 1);
+    }
+
+    @Test
+    public void testNarrowPredicateOnlyTestsCurrentElements() {
+        List<String> tested = new ArrayList<>();
+        filteredList.narrowPredicate(s -> {
+            tested.add(s);
+            return true;
+        });
+
+        assertEquals(Arrays.asList("a", "d"), tested);
+        assertEquals(Arrays.asList("a", "d"), filteredList);
+        mlo.check0();
+    }
+
+    @Test
+    public void testNarrowPredicateParallel() {
+        List<Integer> numbers = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+        FilteredList<Integer> filtered = new FilteredList<>(FXCollections.observableArrayList(numbers), n -> n % 2 == 0);
+        filtered.setParallelFilterThreshold(100);
+
+        filtered.narrowPredicate(n -> n % 6 == 0);
+
+        assertEquals(numbers.stream().filter(n -> n % 6 == 0).collect(Collectors.toList()), filtered);
+        for (int i = 0; i < filtered.size(); i++) {
+            assertEquals(6 * i, filtered.getSourceIndex(i));
+        }
+    }
+
+    @Test
+    public void testNarrowPredicateThenSourceChange() {
+        filteredList.narrowPredicate(s -> s.equals("d"));
+        list.addAll("d", "e");
+        assertEquals(Arrays.asList("d", "d"), filteredList);
+        assertEquals(4, filteredList.getSourceIndex(1));
+    }
+
+    @Test
+    public void testNarrowPredicateNull() {
+        assertThrows(NullPointerException.class, () -> filteredList.narrowPredicate(null));
+    }
+
+    @Test
+    public void testNarrowPredicateBound() {
+        ObjectProperty<Predicate<? super String>> p = new SimpleObjectProperty<>(s -> true);
+        filteredList.predicateProperty().bind(p);
+        assertThrows(RuntimeException.class, () -> filteredList.narrowPredicate(s -> false));
+
+        // a subsequent change of the binding refilters all elements
+        p.set(s -> s.equals("c"));
+        assertEquals(Arrays.asList("c", "c"), filteredList);
+    }
 }
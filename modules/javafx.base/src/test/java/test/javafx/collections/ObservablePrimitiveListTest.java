@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.collections;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableDoubleList;
+import javafx.collections.ObservableIntegerList;
+import javafx.collections.ObservableLongList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ObservablePrimitiveListTest {
+
+    private ObservableDoubleList list;
+    private MockListObserver<Double> observer;
+
+    @BeforeEach
+    public void setUp() {
+        list = FXCollections.observableDoubleList(1, 2, 3);
+        observer = new MockListObserver<>();
+        list.addListener(observer);
+    }
+
+    @Test
+    public void testCreate() {
+        assertEquals(List.of(1.0, 2.0, 3.0), list);
+        assertEquals(0, FXCollections.observableDoubleList().size());
+    }
+
+    @Test
+    public void testCreateCopiesValues() {
+        double[] values = {1, 2};
+        ObservableDoubleList l = FXCollections.observableDoubleList(values);
+        values[0] = 5;
+        assertEquals(1.0, l.getDouble(0));
+    }
+
+    @Test
+    public void testGetDouble() {
+        assertEquals(2.0, list.getDouble(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getDouble(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getDouble(-1));
+    }
+
+    @Test
+    public void testSetDouble() {
+        assertEquals(2.0, list.setDouble(1, 5));
+        assertEquals(List.of(1.0, 5.0, 3.0), list);
+        observer.check1AddRemove(list, List.of(2.0), 1, 2);
+    }
+
+    @Test
+    public void testAddDouble() {
+        list.addDouble(4);
+        observer.check1AddRemove(list, null, 3, 4);
+        observer.clear();
+
+        list.addDouble(0, 0);
+        observer.check1AddRemove(list, null, 0, 1);
+        assertEquals(List.of(0.0, 1.0, 2.0, 3.0, 4.0), list);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addDouble(6, 1));
+    }
+
+    @Test
+    public void testAddAllArray() {
+        list.addAll(new double[] {4, 5, 6});
+        assertEquals(List.of(1.0, 2.0, 3.0, 4.0, 5.0, 6.0), list);
+        observer.check1AddRemove(list, null, 3, 6);
+    }
+
+    @Test
+    public void testAddAllArrayRange() {
+        list.addAll(new double[] {4, 5, 6, 7}, 1, 2);
+        assertEquals(List.of(1.0, 2.0, 3.0, 5.0, 6.0), list);
+        observer.check1AddRemove(list, null, 3, 5);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(new double[] {1}, 1, 1));
+    }
+
+    @Test
+    public void testAddAllEmptyArray() {
+        list.addAll(new double[0]);
+        observer.check0();
+    }
+
+    @Test
+    public void testAddAllBoxed() {
+        list.addAll(4.0, 5.0);
+        assertEquals(List.of(1.0, 2.0, 3.0, 4.0, 5.0), list);
+        observer.check1AddRemove(list, null, 3, 5);
+    }
+
+    @Test
+    public void testSetAllArray() {
+        list.setAll(new double[] {7, 8, 9, 10});
+        assertEquals(List.of(7.0, 8.0, 9.0, 10.0), list);
+        observer.check1AddRemove(list, List.of(1.0, 2.0, 3.0), 0, 4);
+    }
+
+    @Test
+    public void testSetAllArrayRange() {
+        list.setAll(new double[] {7, 8, 9, 10}, 2, 1);
+        assertEquals(List.of(9.0), list);
+        observer.check1AddRemove(list, List.of(1.0, 2.0, 3.0), 0, 1);
+    }
+
+    @Test
+    public void testSetAllEmpty() {
+        list.setAll(new double[0]);
+        assertTrue(list.isEmpty());
+        observer.check1AddRemove(list, List.of(1.0, 2.0, 3.0), 0, 0);
+        observer.clear();
+
+        list.setAll(new double[0]);
+        observer.check0();
+    }
+
+    @Test
+    public void testRemove() {
+        assertEquals(Double.valueOf(2.0), list.remove(1));
+        assertEquals(List.of(1.0, 3.0), list);
+        observer.check1AddRemove(list, List.of(2.0), 1, 1);
+    }
+
+    @Test
+    public void testRemoveRange() {
+        list.addAll(new double[] {4, 5});
+        observer.clear();
+
+        list.subList(1, 4).clear();
+
+        assertEquals(List.of(1.0, 5.0), list);
+        observer.check1AddRemove(list, List.of(2.0, 3.0, 4.0), 1, 1);
+    }
+
+    @Test
+    public void testClear() {
+        list.clear();
+        assertTrue(list.isEmpty());
+        observer.check1AddRemove(list, List.of(1.0, 2.0, 3.0), 0, 0);
+    }
+
+    @Test
+    public void testRemoveAll() {
+        list.removeAll(List.of(1.0, 3.0));
+        assertEquals(List.of(2.0), list);
+    }
+
+    @Test
+    public void testNullElements() {
+        assertThrows(NullPointerException.class, () -> list.add(null));
+        assertThrows(NullPointerException.class, () -> list.set(0, null));
+        assertEquals(List.of(1.0, 2.0, 3.0), list);
+        observer.check0();
+    }
+
+    @Test
+    public void testCopyTo() {
+        double[] dest = new double[4];
+        list.copyTo(1, dest, 2, 2);
+        assertArrayEquals(new double[] {0, 0, 2, 3}, dest);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.copyTo(2, dest, 0, 2));
+    }
+
+    @Test
+    public void testToArray() {
+        assertArrayEquals(new double[] {1, 2, 3}, list.toArray((double[]) null));
+        double[] big = new double[5];
+        assertSame(big, list.toArray(big));
+        assertArrayEquals(new double[] {1, 2, 3, 0, 0}, big);
+        assertArrayEquals(new double[] {1, 2, 3}, list.toArray(new double[1]));
+    }
+
+    @Test
+    public void testGrowth() {
+        ObservableDoubleList l = FXCollections.observableDoubleList();
+        for (int i = 0; i < 1000; i++) {
+            l.addDouble(i);
+        }
+        assertEquals(1000, l.size());
+        assertEquals(999.0, l.getDouble(999));
+    }
+
+    @Test
+    public void testSortedAndFiltered() {
+        list.setAll(new double[] {3, 1, 2});
+        assertEquals(List.of(1.0, 2.0, 3.0), list.sorted());
+        assertEquals(List.of(3.0), list.filtered(d -> d > 2));
+        FXCollections.sort(list);
+        assertEquals(List.of(1.0, 2.0, 3.0), list);
+    }
+
+    @Test
+    public void testEqualsAndHashCode() {
+        List<Double> expected = Arrays.asList(1.0, 2.0, 3.0);
+        assertEquals(expected, list);
+        assertEquals(expected.hashCode(), list.hashCode());
+    }
+
+    @Test
+    public void testIntegerList() {
+        ObservableIntegerList ints = FXCollections.observableIntegerList(1, 2);
+        MockListObserver<Integer> o = new MockListObserver<>();
+        ints.addListener(o);
+
+        ints.addAll(new int[] {3, 4});
+        o.check1AddRemove(ints, null, 2, 4);
+        ints.addInt(0, 0);
+        assertEquals(3, ints.setInt(3, 9));
+        ints.remove(Integer.valueOf(9));
+
+        assertEquals(List.of(0, 1, 2, 4), ints);
+        assertEquals(4, ints.getInt(3));
+    }
+
+    @Test
+    public void testLongList() {
+        ObservableLongList longs = FXCollections.observableLongList();
+        ListChangeListener<Long> failing = c -> fail("no change expected");
+        longs.addListener(failing);
+        longs.setAll(new long[0]);
+        longs.removeListener(failing);
+
+        longs.setAll(new long[] {Long.MAX_VALUE, 1}, 0, 2);
+        assertEquals(Long.MAX_VALUE, longs.getLong(0));
+        assertEquals(Collections.nCopies(1, 1L), longs.subList(1, 2));
+    }
+}
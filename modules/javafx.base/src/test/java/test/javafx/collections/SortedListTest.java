@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -34,6 +34,11 @@ import java.util.Collections;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -760,4 +765,158 @@ public class SortedListTest {
         assertNull(ReflectionUtils.getFieldValue(ReflectionUtils.getFieldValue(sortedList, "tempElement"), "e"),
                 "tempElement.e property should be null after set operation has completed");
     }
+
+    private static List<String> randomStrings(int count) {
+        Random random = new Random(42);
+        List<String> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // plenty of duplicates, so that stability matters
+            result.add(Integer.toString(random.nextInt(count / 10)));
+        }
+        return result;
+    }
+
+    private static List<int[]> recordPermutations(SortedList<String> sorted) {
+        List<int[]> permutations = new ArrayList<>();
+        sorted.addListener((ListChangeListener<String>) c -> {
+            while (c.next()) {
+                assertTrue(c.wasPermutated());
+                int[] p = new int[c.getTo() - c.getFrom()];
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    p[i - c.getFrom()] = c.getPermutation(i);
+                }
+                permutations.add(p);
+            }
+        });
+        return permutations;
+    }
+
+    @Test
+    public void testParallelSortThresholdDefault() {
+        assertEquals(Integer.MAX_VALUE, sortedList.getParallelSortThreshold());
+        assertThrows(IllegalArgumentException.class, () -> sortedList.setParallelSortThreshold(-1));
+    }
+
+    @Test
+    public void testParallelSortProducesSamePermutation() {
+        ObservableList<String> source = FXCollections.observableArrayList(randomStrings(10_000));
+        SortedList<String> sequential = new SortedList<>(source);
+        SortedList<String> parallel = new SortedList<>(source);
+        parallel.setParallelSortThreshold(100);
+        List<int[]> sequentialPermutations = recordPermutations(sequential);
+        List<int[]> parallelPermutations = recordPermutations(parallel);
+
+        Comparator<String> natural = Comparator.naturalOrder();
+        sequential.setComparator(natural);
+        parallel.setComparator(natural);
+        sequential.setComparator(natural.reversed());
+        parallel.setComparator(natural.reversed());
+
+        assertEquals(sequential, parallel);
+        assertEquals(sequentialPermutations.size(), parallelPermutations.size());
+        for (int i = 0; i < sequentialPermutations.size(); i++) {
+            assertArrayEquals(sequentialPermutations.get(i), parallelPermutations.get(i));
+        }
+        for (int i = 0; i < source.size(); i++) {
+            assertEquals(sequential.getSourceIndex(i), parallel.getSourceIndex(i));
+        }
+        compareIndices(parallel);
+    }
+
+    @Test
+    public void testParallelSortOnSetAll() {
+        sortedList.setParallelSortThreshold(0);
+        List<String> strings = randomStrings(1000);
+        list.setAll(strings);
+
+        List<String> expected = new ArrayList<>(strings);
+        Collections.sort(expected);
+        assertEquals(expected, sortedList);
+        compareIndices();
+    }
+
+    private static Runnable take(BlockingQueue<Runnable> queue) throws InterruptedException {
+        Runnable r = queue.poll(10, TimeUnit.SECONDS);
+        assertNotNull(r, "sorted result was not applied");
+        return r;
+    }
+
+    @Test
+    public void testSetComparatorAsync() throws Exception {
+        BlockingQueue<Runnable> queue = new LinkedBlockingQueue<>();
+        mockListObserver.clear();
+
+        CompletableFuture<Void> future = sortedList.setComparatorAsync(Comparator.reverseOrder(), queue::add);
+        take(queue).run();
+
+        assertTrue(future.isDone());
+        assertEquals(Comparator.reverseOrder(), sortedList.getComparator());
+        assertEquals(Arrays.asList("d", "c", "c", "a"), sortedList);
+        mockListObserver.check1Permutation(sortedList, new int[] {3, 1, 2, 0});
+        compareIndices();
+    }
+
+    @Test
+    public void testSetComparatorAsyncProducesSamePermutation() throws Exception {
+        ObservableList<String> source = FXCollections.observableArrayList(randomStrings(10_000));
+        SortedList<String> sync = new SortedList<>(source);
+        SortedList<String> async = new SortedList<>(source);
+        async.setParallelSortThreshold(100);
+        List<int[]> syncPermutations = recordPermutations(sync);
+        List<int[]> asyncPermutations = recordPermutations(async);
+        BlockingQueue<Runnable> queue = new LinkedBlockingQueue<>();
+
+        sync.setComparator(Comparator.naturalOrder());
+        async.setComparatorAsync(Comparator.naturalOrder(), queue::add);
+        take(queue).run();
+
+        assertEquals(sync, async);
+        assertEquals(1, asyncPermutations.size());
+        assertArrayEquals(syncPermutations.get(0), asyncPermutations.get(0));
+        compareIndices(async);
+    }
+
+    @Test
+    public void testSetComparatorAsyncAfterSourceChange() throws Exception {
+        BlockingQueue<Runnable> queue = new LinkedBlockingQueue<>();
+
+        CompletableFuture<Void> future = sortedList.setComparatorAsync(Comparator.reverseOrder(), queue::add);
+        list.addAll("b", "e");
+        take(queue).run();
+
+        assertTrue(future.isDone());
+        assertEquals(Arrays.asList("e", "d", "c", "c", "b", "a"), sortedList);
+        compareIndices();
+    }
+
+    @Test
+    public void testSetComparatorAsyncSuperseded() throws Exception {
+        BlockingQueue<Runnable> queue = new LinkedBlockingQueue<>();
+
+        CompletableFuture<Void> first = sortedList.setComparatorAsync(Comparator.reverseOrder(), queue::add);
+        CompletableFuture<Void> second = sortedList.setComparatorAsync(Comparator.naturalOrder(), queue::add);
+        take(queue).run();
+        take(queue).run();
+
+        assertTrue(first.isCancelled());
+        assertTrue(second.isDone() && !second.isCompletedExceptionally());
+        assertEquals(Comparator.naturalOrder(), sortedList.getComparator());
+        assertEquals(Arrays.asList("a", "c", "c", "d"), sortedList);
+        compareIndices();
+    }
+
+    @Test
+    public void testSetComparatorAsyncFailingComparator() throws Exception {
+        Comparator<String> failing = (a, b) -> {
+            throw new IllegalStateException("broken");
+        };
+        Comparator<? super String> original = sortedList.getComparator();
+
+        CompletableFuture<Void> future = sortedList.setComparatorAsync(failing, Runnable::run);
+        Throwable t = assertThrows(Exception.class, () -> future.get(10, TimeUnit.SECONDS)).getCause();
+
+        assertTrue(t instanceof IllegalStateException);
+        assertSame(original, sortedList.getComparator());
+        assertEquals(Arrays.asList("a", "c", "c", "d"), sortedList);
+    }
 }
@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.scene.control;
+
+import java.util.Arrays;
+
+/**
+ * An index over the measured sizes of the cells of a virtual flow, which
+ * answers prefix sum queries in O(log n) time.
+ *
+ * Only some of the cells are measured. Queries take an estimate that is used
+ * for the size of every cell that was not measured, so that the offset of a
+ * cell is the sum of the measured sizes before it plus the estimate for each
+ * cell before it that was not measured.
+ *
+ * The measured sizes are kept in blocks of {@code BLOCK_SIZE} cells. A block is
+ * only allocated when one of its cells is measured, so a flow with millions of
+ * items, of which only the cells around a few scroll positions were measured,
+ * uses little memory. The sum of the measured sizes and the number of measured
+ * cells of every block are kept in two Fenwick (binary indexed) trees, and a
+ * query adds the trees over the whole blocks before an index to a scan of the
+ * block that contains it.
+ *
+ * The index has a length, which is one more than the highest index that was
+ * ever measured. Cells at or beyond the length are never measured.
+ */
+public final class CellSizeIndex {
+
+    private static final double UNKNOWN = -1;
+
+    private static final int BLOCK_SHIFT = 6;
+    private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+    private static final int BLOCK_MASK = BLOCK_SIZE - 1;
+
+    // the measured size of each cell, or UNKNOWN, by block; blocks in which no
+    // cell was measured are null
+    private double[][] blocks = new double[0][];
+    // Fenwick trees over the measured sizes and the number of measured cells
+    // of each block, 1-based: sumTree[i] covers the blocks (i - lowestOneBit(i), i]
+    private double[] sumTree = new double[1];
+    private int[] countTree = new int[1];
+    private int length;
+
+    /**
+     * Returns one more than the highest index that was measured.
+     */
+    public int size() {
+        return length;
+    }
+
+    /**
+     * Returns the measured size of the cell at the given index, or -1 if it
+     * was not measured.
+     */
+    public double get(int index) {
+        if (index < 0 || index >= length) {
+            return UNKNOWN;
+        }
+        final double[] block = blocks[index >> BLOCK_SHIFT];
+        return block == null ? UNKNOWN : block[index & BLOCK_MASK];
+    }
+
+    /**
+     * Sets the measured size of the cell at the given index.
+     *
+     * @param size the size, which must not be negative
+     */
+    public void set(int index, double size) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        final int b = index >> BLOCK_SHIFT;
+        if (b >= blocks.length) {
+            grow(b + 1);
+        }
+        if (index >= length) {
+            length = index + 1;
+        }
+        double[] block = blocks[b];
+        if (block == null) {
+            block = new double[BLOCK_SIZE];
+            Arrays.fill(block, UNKNOWN);
+            blocks[b] = block;
+        }
+        final double old = block[index & BLOCK_MASK];
+        block[index & BLOCK_MASK] = size;
+        final double deltaSum = (old == UNKNOWN) ? size : size - old;
+        final int deltaCount = (old == UNKNOWN) ? 1 : 0;
+        for (int i = b + 1; i < sumTree.length; i += i & -i) {
+            sumTree[i] += deltaSum;
+            countTree[i] += deltaCount;
+        }
+    }
+
+    /**
+     * Forgets all of the measured sizes.
+     */
+    public void clear() {
+        blocks = new double[0][];
+        sumTree = new double[1];
+        countTree = new int[1];
+        length = 0;
+    }
+
+    /**
+     * Returns the number of measured cells before the given index.
+     */
+    public int getMeasuredCount(int index) {
+        index = Math.min(index, length);
+        if (index <= 0) {
+            return 0;
+        }
+        final int b = index >> BLOCK_SHIFT;
+        int count = 0;
+        for (int i = b; i > 0; i -= i & -i) {
+            count += countTree[i];
+        }
+        final double[] block = b < blocks.length ? blocks[b] : null;
+        if (block != null) {
+            for (int i = 0, n = index & BLOCK_MASK; i < n; i++) {
+                if (block[i] != UNKNOWN) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the sum of the measured sizes of the cells before the given
+     * index.
+     */
+    public double getMeasuredTotal(int index) {
+        index = Math.min(index, length);
+        if (index <= 0) {
+            return 0;
+        }
+        final int b = index >> BLOCK_SHIFT;
+        double total = 0;
+        for (int i = b; i > 0; i -= i & -i) {
+            total += sumTree[i];
+        }
+        final double[] block = b < blocks.length ? blocks[b] : null;
+        if (block != null) {
+            for (int i = 0, n = index & BLOCK_MASK; i < n; i++) {
+                if (block[i] != UNKNOWN) {
+                    total += block[i];
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns the offset of the cell at the given index, using the given
+     * estimate for the size of the cells that were not measured.
+     */
+    public double getOffset(int index, double estimate) {
+        if (index <= 0) {
+            return 0;
+        }
+        return getMeasuredTotal(index) + (index - getMeasuredCount(index)) * estimate;
+    }
+
+    /**
+     * Returns the index of the first cell that ends after the given offset,
+     * using the given estimate for the size of the cells that were not
+     * measured. Returns {@code count} if the cells before {@code count} all
+     * end at or before the given offset.
+     *
+     * @param offset the offset
+     * @param estimate the estimated size of a cell, which must not be negative
+     * @param count the number of cells
+     */
+    public int getIndexAt(double offset, double estimate, int count) {
+        final int n = Math.min(count, length);
+        final int wholeBlocks = n >> BLOCK_SHIFT;
+        int b = 0;
+        double acc = 0;
+        // find the largest b <= wholeBlocks for which the offset of block b is
+        // not beyond the given offset, descending the trees from the top
+        for (int step = Integer.highestOneBit(Math.max(wholeBlocks, 1)); step > 0; step >>= 1) {
+            final int next = b + step;
+            if (next <= wholeBlocks) {
+                final double extent = sumTree[next]
+                        + ((long) step * BLOCK_SIZE - countTree[next]) * estimate;
+                if (acc + extent <= offset) {
+                    acc += extent;
+                    b = next;
+                }
+            }
+        }
+        // then scan the cells of block b
+        int pos = b << BLOCK_SHIFT;
+        final int end = Math.min(n, pos + BLOCK_SIZE);
+        final double[] block = b < blocks.length ? blocks[b] : null;
+        for (; pos < end; pos++) {
+            final double size = (block == null || block[pos & BLOCK_MASK] == UNKNOWN)
+                    ? estimate : block[pos & BLOCK_MASK];
+            if (acc + size > offset) {
+                return pos;
+            }
+            acc += size;
+        }
+        if (pos < n || pos >= count) {
+            return pos;
+        }
+        // the remaining cells were never measured
+        if (estimate <= 0) {
+            return count;
+        }
+        final double remaining = Math.floor((offset - acc) / estimate);
+        return (int) Math.min(count, pos + (long) remaining);
+    }
+
+    private void grow(int minBlocks) {
+        final int newLength = Math.max(minBlocks, Math.max(16, blocks.length * 2));
+        blocks = Arrays.copyOf(blocks, newLength);
+        // rebuild the trees in linear time
+        sumTree = new double[newLength + 1];
+        countTree = new int[newLength + 1];
+        for (int i = 1; i <= newLength; i++) {
+            final double[] block = blocks[i - 1];
+            if (block != null) {
+                for (double size : block) {
+                    if (size != UNKNOWN) {
+                        sumTree[i] += size;
+                        countTree[i]++;
+                    }
+                }
+            }
+            final int parent = i + (i & -i);
+            if (parent <= newLength) {
+                sumTree[parent] += sumTree[i];
+                countTree[parent] += countTree[i];
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -38,6 +38,7 @@ import javafx.animation.KeyValue;
 import javafx.animation.Timeline;
 import javafx.beans.NamedArg;
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.BooleanPropertyBase;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.collections.FXCollections;
@@ -132,6 +133,51 @@ public class AreaChart<X,Y> extends XYChart<X,Y> {
     public final void setCreateSymbols(boolean value) { createSymbols.setValue(value); }
     public final BooleanProperty createSymbolsProperty() { return createSymbols; }
 
+    /**
+     * Indicates whether the data of each series is decimated before it is drawn.
+     * When this is {@code true}, at most four data points are drawn for each pixel
+     * column covered by a series: the first, the lowest, the highest and the last
+     * point of that column. Since a line through those points covers the same pixels
+     * as a line through all of the points of the column, the chart looks the same,
+     * while series with many more data points than pixels are much faster to lay
+     * out and render. Symbols are only shown for the data points that are drawn.
+     * <p>
+     * Data is only decimated if it is in increasing order of its X values.
+     *
+     * @since 28
+     * @defaultValue false
+     */
+    private final BooleanProperty decimateData = new BooleanPropertyBase(false) {
+        @Override protected void invalidated() {
+            requestChartLayout();
+        }
+
+        @Override
+        public Object getBean() {
+            return AreaChart.this;
+        }
+
+        @Override
+        public String getName() {
+            return "decimateData";
+        }
+    };
+
+    public final boolean isDecimateData() { return decimateData.get(); }
+    public final void setDecimateData(boolean value) { decimateData.set(value); }
+    public final BooleanProperty decimateDataProperty() { return decimateData; }
+
+    private SeriesDecimator decimator;
+
+    private SeriesDecimator getDecimator() {
+        if (!isDecimateData()) {
+            decimator = null;
+        } else if (decimator == null) {
+            decimator = new SeriesDecimator();
+        }
+        return decimator;
+    }
+
 
     // -------------- CONSTRUCTORS ----------------------------------------------
 
@@ -166,6 +212,7 @@ public class AreaChart<X,Y> extends XYChart<X,Y> {
 
        /** {@inheritDoc} */
     @Override protected void updateAxisRange() {
+        if (updateSlidingAxisRange()) return;
         final Axis<X> xa = getXAxis();
         final Axis<Y> ya = getYAxis();
         List<X> xData = null;
@@ -435,14 +482,15 @@ public class AreaChart<X,Y> extends XYChart<X,Y> {
             Path fillPath = (Path) children.get(0);
             Path linePath = (Path) children.get(1);
             makePaths(this, series, constructedPath, fillPath, linePath,
-                      seriesYAnimMultiplier.get(), SortingPolicy.X_AXIS);
+                      seriesYAnimMultiplier.get(), SortingPolicy.X_AXIS, getDecimator());
         }
     }
 
     static <X,Y> void makePaths(XYChart<X, Y> chart, Series<X, Y> series,
                                 List<LineTo> constructedPath,
                                 Path fillPath, Path linePath,
-                                double yAnimMultiplier, SortingPolicy sortAxis)
+                                double yAnimMultiplier, SortingPolicy sortAxis,
+                                SeriesDecimator decimator)
     {
         final Axis<X> axisX = chart.getXAxis();
         final Axis<Y> axisY = chart.getYAxis();
@@ -463,6 +511,10 @@ public class AreaChart<X,Y> extends XYChart<X,Y> {
         }
         lineElements.clear();
         constructedPath.clear();
+        // decimation relies on the points being drawn in the order of their x position
+        if (!sortX) {
+            decimator = null;
+        }
         for (Iterator<Data<X, Y>> it = chart.getDisplayedDataIterator(series); it.hasNext(); ) {
             Data<X, Y> item = it.next();
             double x = axisX.getDisplayPosition(item.getCurrentX());
@@ -470,16 +522,20 @@ public class AreaChart<X,Y> extends XYChart<X,Y> {
                     axisY.toRealValue(axisY.toNumericValue(item.getCurrentY()) * yAnimMultiplier));
             boolean skip = (Double.isNaN(x) || Double.isNaN(y));
             Node symbol = item.getNode();
-            if (symbol != null) {
-                final double w = symbol.prefWidth(-1);
-                final double h = symbol.prefHeight(-1);
-                if (skip) {
+            if (skip) {
+                if (symbol != null) {
+                    final double w = symbol.prefWidth(-1);
+                    final double h = symbol.prefHeight(-1);
                     symbol.resizeRelocate(-w*2, -h*2, w, h);
-                } else {
-                    symbol.resizeRelocate(x-(w/2), y-(h/2), w, h);
                 }
+                continue;
             }
-            if (skip) continue;
+            if (decimator != null && x >= dataXMin && x <= dataXMax) {
+                // the decimator lays out the symbol of each point it keeps
+                decimator.add(x, y, symbol);
+                continue;
+            }
+            SeriesDecimator.layoutSymbol(symbol, x, y);
             if (x < dataXMin || y < dataYMin) {
                 if (prevDataPoint == null) {
                     prevDataPoint = new LineTo(x, y);
@@ -503,6 +559,10 @@ public class AreaChart<X,Y> extends XYChart<X,Y> {
             }
         }
 
+        if (decimator != null) {
+            decimator.finish(constructedPath);
+        }
+
         if (!constructedPath.isEmpty() || prevDataPoint != null || nextDataPoint != null) {
             if (sortX) {
                 Collections.sort(constructedPath, (e1, e2) -> Double.compare(e1.getX(), e2.getX()));
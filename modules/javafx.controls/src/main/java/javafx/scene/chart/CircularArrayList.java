@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.chart;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A list backed by a circular array, which adds and removes items at both
+ * ends in constant time. Adding or removing an item at another index moves
+ * the items on the shorter side of it.
+ *
+ * The data of a series that is streamed with {@code Series.appendData} is
+ * appended at the end and removed from the start. With an ArrayList, every
+ * removal from the start moves all of the remaining items.
+ */
+final class CircularArrayList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    // the length is always a power of two, so that indexes wrap with a mask
+    private Object[] elements = new Object[INITIAL_CAPACITY];
+    private int head;
+    private int size;
+
+    CircularArrayList() {
+    }
+
+    CircularArrayList(Collection<? extends E> c) {
+        addAll(c);
+    }
+
+    private int slot(int index) {
+        return (head + index) & (elements.length - 1);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) elements[slot(index)];
+    }
+
+    @Override
+    public E set(int index, E element) {
+        final E old = get(index);
+        elements[slot(index)] = element;
+        return old;
+    }
+
+    @Override
+    public boolean add(E element) {
+        ensureCapacity(size + 1);
+        elements[slot(size)] = element;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        Objects.checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        openGap(index, 1);
+        elements[slot(index)] = element;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        return addAll(size, c);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        Objects.checkIndex(index, size + 1);
+        final Object[] added = c.toArray();
+        if (added.length == 0) {
+            return false;
+        }
+        ensureCapacity(size + added.length);
+        openGap(index, added.length);
+        for (int i = 0; i < added.length; i++) {
+            elements[slot(index + i)] = added[i];
+        }
+        size += added.length;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public E remove(int index) {
+        final E old = get(index);
+        closeGap(index, index + 1);
+        size--;
+        modCount++;
+        return old;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        if (fromIndex == toIndex) {
+            return;
+        }
+        closeGap(fromIndex, toIndex);
+        size -= toIndex - fromIndex;
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            elements[slot(i)] = null;
+        }
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Makes room for count items at the given index, by moving the items
+     * before it toward the start or the items after it toward the end,
+     * whichever are fewer. The capacity must already be large enough.
+     */
+    private void openGap(int index, int count) {
+        if (index < size - index) {
+            head = (head - count) & (elements.length - 1);
+            for (int i = 0; i < index; i++) {
+                elements[slot(i)] = elements[slot(i + count)];
+            }
+        } else {
+            for (int i = size - 1; i >= index; i--) {
+                elements[slot(i + count)] = elements[slot(i)];
+            }
+        }
+    }
+
+    /**
+     * Removes the items from fromIndex to toIndex, by moving the items before
+     * them toward the end or the items after them toward the start, whichever
+     * are fewer. The size is not updated.
+     */
+    private void closeGap(int fromIndex, int toIndex) {
+        final int count = toIndex - fromIndex;
+        if (fromIndex < size - toIndex) {
+            for (int i = fromIndex - 1; i >= 0; i--) {
+                elements[slot(i + count)] = elements[slot(i)];
+            }
+            for (int i = 0; i < count; i++) {
+                elements[slot(i)] = null;
+            }
+            head = (head + count) & (elements.length - 1);
+        } else {
+            for (int i = toIndex; i < size; i++) {
+                elements[slot(i - count)] = elements[slot(i)];
+            }
+            for (int i = size - count; i < size; i++) {
+                elements[slot(i)] = null;
+            }
+        }
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= elements.length) {
+            return;
+        }
+        if (minCapacity > (1 << 30)) {
+            throw new OutOfMemoryError("Required list size too large");
+        }
+        int capacity = elements.length;
+        while (capacity < minCapacity) {
+            capacity <<= 1;
+        }
+        final Object[] grown = new Object[capacity];
+        for (int i = 0; i < size; i++) {
+            grown[i] = elements[slot(i)];
+        }
+        elements = grown;
+        head = 0;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -38,6 +38,7 @@ import javafx.animation.KeyValue;
 import javafx.animation.Timeline;
 import javafx.beans.NamedArg;
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.BooleanPropertyBase;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ObjectPropertyBase;
@@ -158,6 +159,52 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
     public final void setAxisSortingPolicy(SortingPolicy value) { axisSortingPolicy.setValue(value); }
     public final ObjectProperty<SortingPolicy> axisSortingPolicyProperty() { return axisSortingPolicy; }
 
+    /**
+     * Indicates whether the data of each series is decimated before it is drawn.
+     * When this is {@code true}, at most four data points are drawn for each pixel
+     * column covered by a series: the first, the lowest, the highest and the last
+     * point of that column. Since a line through those points covers the same pixels
+     * as a line through all of the points of the column, the chart looks the same,
+     * while series with many more data points than pixels are much faster to lay
+     * out and render. Symbols are only shown for the data points that are drawn.
+     * <p>
+     * Data is only decimated if it is in increasing order of its X values and the {@link #axisSortingPolicyProperty() axisSortingPolicy}
+     * is {@link SortingPolicy#X_AXIS}.
+     *
+     * @since 28
+     * @defaultValue false
+     */
+    private final BooleanProperty decimateData = new BooleanPropertyBase(false) {
+        @Override protected void invalidated() {
+            requestChartLayout();
+        }
+
+        @Override
+        public Object getBean() {
+            return LineChart.this;
+        }
+
+        @Override
+        public String getName() {
+            return "decimateData";
+        }
+    };
+
+    public final boolean isDecimateData() { return decimateData.get(); }
+    public final void setDecimateData(boolean value) { decimateData.set(value); }
+    public final BooleanProperty decimateDataProperty() { return decimateData; }
+
+    private SeriesDecimator decimator;
+
+    private SeriesDecimator getDecimator() {
+        if (!isDecimateData()) {
+            decimator = null;
+        } else if (decimator == null) {
+            decimator = new SeriesDecimator();
+        }
+        return decimator;
+    }
+
     // -------------- CONSTRUCTORS ----------------------------------------------
 
     /**
@@ -186,6 +233,7 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
 
     /** {@inheritDoc} */
     @Override protected void updateAxisRange() {
+        if (updateSlidingAxisRange()) return;
         final Axis<X> xa = getXAxis();
         final Axis<Y> ya = getYAxis();
         List<X> xData = null;
@@ -454,7 +502,8 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
             if (seriesNode instanceof Path) {
                 AreaChart.makePaths(this, series,
                                     constructedPath, null, (Path) seriesNode,
-                                    seriesYAnimMultiplier.get(), getAxisSortingPolicy());
+                                    seriesYAnimMultiplier.get(), getAxisSortingPolicy(),
+                                    getDecimator());
             }
         }
     }
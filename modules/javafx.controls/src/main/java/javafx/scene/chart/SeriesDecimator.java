@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.chart;
+
+import java.util.Arrays;
+import java.util.List;
+import javafx.scene.Node;
+import javafx.scene.shape.LineTo;
+
+/**
+ * Reduces the display positions of a series to the points that are needed
+ * to draw its line, for charts that have data decimation enabled.
+ *
+ * For every pixel column covered by the series only the first, the lowest,
+ * the highest and the last point of that column are kept (an M4 reduction).
+ * Drawing a polyline through those points touches the same pixels as drawing
+ * it through all of the points of the column, so the decimated line looks the
+ * same while its path holds at most four elements per pixel column.
+ *
+ * The points must be added in increasing order of their x position. If they
+ * are not, no point is dropped. Symbols of the dropped points are made
+ * invisible and unmanaged, and are not laid out again until their point is
+ * kept, so that a large series does not cost a layout per symbol.
+ */
+final class SeriesDecimator {
+
+    // marks the symbols that were hidden by a decimator, as opposed to by the application
+    private static final Object HIDDEN_SYMBOL = new Object();
+
+    private double[] xs = new double[64];
+    private double[] ys = new double[64];
+    private Node[] symbols;
+    private int size;
+    private boolean sorted = true;
+
+    /**
+     * Adds the display position of the next data point of the series and its
+     * symbol, which may be null.
+     */
+    void add(double x, double y, Node symbol) {
+        if (size == xs.length) {
+            final int newLength = size * 2;
+            xs = Arrays.copyOf(xs, newLength);
+            ys = Arrays.copyOf(ys, newLength);
+            if (symbols != null) {
+                symbols = Arrays.copyOf(symbols, newLength);
+            }
+        }
+        if (size > 0 && x < xs[size - 1]) {
+            sorted = false;
+        }
+        xs[size] = x;
+        ys[size] = y;
+        if (symbol != null) {
+            if (symbols == null) {
+                symbols = new Node[xs.length];
+            }
+            symbols[size] = symbol;
+        }
+        size++;
+    }
+
+    /**
+     * Adds a line segment for each point that is kept to the given path, lays
+     * out the symbols of all of the points added since the last call, and
+     * prepares this decimator for the next series.
+     */
+    void finish(List<LineTo> path) {
+        int i = 0;
+        while (i < size) {
+            if (!sorted) {
+                keep(i++, path);
+                continue;
+            }
+            final double column = Math.floor(xs[i]);
+            final int first = i;
+            int min = i;
+            int max = i;
+            while (++i < size && Math.floor(xs[i]) == column) {
+                if (ys[i] < ys[min]) {
+                    min = i;
+                }
+                if (ys[i] > ys[max]) {
+                    max = i;
+                }
+            }
+            final int last = i - 1;
+            final int low = Math.min(min, max);
+            final int high = Math.max(min, max);
+
+            keep(first, path);
+            if (low > first) {
+                keep(low, path);
+            }
+            if (high > low) {
+                keep(high, path);
+            }
+            if (last > high) {
+                keep(last, path);
+            }
+            if (symbols != null) {
+                for (int j = first + 1; j < last; j++) {
+                    if (j != low && j != high) {
+                        hideSymbol(symbols[j]);
+                    }
+                }
+            }
+        }
+        if (symbols != null) {
+            Arrays.fill(symbols, 0, size, null);
+        }
+        size = 0;
+        sorted = true;
+    }
+
+    private void keep(int index, List<LineTo> path) {
+        final double x = xs[index];
+        final double y = ys[index];
+        path.add(new LineTo(x, y));
+        if (symbols != null) {
+            layoutSymbol(symbols[index], x, y);
+        }
+    }
+
+    static void layoutSymbol(Node symbol, double x, double y) {
+        if (symbol != null) {
+            if (!symbol.isVisible() && symbol.hasProperties() &&
+                    symbol.getProperties().remove(HIDDEN_SYMBOL) != null) {
+                symbol.setManaged(true);
+                symbol.setVisible(true);
+            }
+            final double w = symbol.prefWidth(-1);
+            final double h = symbol.prefHeight(-1);
+            symbol.resizeRelocate(x - (w / 2), y - (h / 2), w, h);
+        }
+    }
+
+    private static void hideSymbol(Node symbol) {
+        if (symbol != null && symbol.isVisible()) {
+            symbol.setVisible(false);
+            symbol.setManaged(false);
+            symbol.getProperties().put(HIDDEN_SYMBOL, Boolean.TRUE);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.chart;
+
+import java.util.List;
+
+/**
+ * Tracks the smallest and largest x and y values of a series that is used as
+ * a sliding window, where data is only appended at the end and removed from
+ * the start. The extremes are kept in monotonic queues backed by primitive
+ * ring buffers, so that appending or removing an item takes amortized
+ * constant time instead of a pass over all of the data of the series.
+ *
+ * The range becomes invalid whenever the series changes in any other way, or
+ * holds a value that is not a non-NaN number. It must then be rebuilt from
+ * the data of the series before it can be used again.
+ */
+final class SlidingRange {
+
+    private final MonotonicQueue minX = new MonotonicQueue(false);
+    private final MonotonicQueue maxX = new MonotonicQueue(true);
+    private final MonotonicQueue minY = new MonotonicQueue(false);
+    private final MonotonicQueue maxY = new MonotonicQueue(true);
+
+    // sequence number of the oldest item in the window and of the next item
+    private long first;
+    private long next;
+    private boolean valid;
+
+    boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Returns the number of items in the window.
+     */
+    int size() {
+        return (int) (next - first);
+    }
+
+    double getMinX() {
+        return minX.peek();
+    }
+
+    double getMaxX() {
+        return maxX.peek();
+    }
+
+    double getMinY() {
+        return minY.peek();
+    }
+
+    double getMaxY() {
+        return maxY.peek();
+    }
+
+    void invalidate() {
+        valid = false;
+        minX.clear();
+        maxX.clear();
+        minY.clear();
+        maxY.clear();
+        first = next = 0;
+    }
+
+    /**
+     * Rebuilds this range from all of the given data.
+     *
+     * @return whether this range is valid
+     */
+    <X, Y> boolean rebuild(List<XYChart.Data<X, Y>> data) {
+        invalidate();
+        valid = true;
+        for (int i = 0, max = data.size(); i < max && valid; i++) {
+            final XYChart.Data<X, Y> item = data.get(i);
+            add(item.getXValue(), item.getYValue());
+        }
+        return valid;
+    }
+
+    /**
+     * Adds the values of the newest item of the window.
+     */
+    void add(Object xValue, Object yValue) {
+        if (!valid) {
+            return;
+        }
+        final double x = toDouble(xValue);
+        final double y = toDouble(yValue);
+        if (Double.isNaN(x) || Double.isNaN(y)) {
+            invalidate();
+            return;
+        }
+        final long seq = next++;
+        minX.add(seq, x);
+        maxX.add(seq, x);
+        minY.add(seq, y);
+        maxY.add(seq, y);
+    }
+
+    /**
+     * Removes the given number of the oldest items from the window.
+     */
+    void removeOldest(int count) {
+        if (!valid) {
+            return;
+        }
+        if (count > size()) {
+            invalidate();
+            return;
+        }
+        first += count;
+        minX.removeBefore(first);
+        maxX.removeBefore(first);
+        minY.removeBefore(first);
+        maxY.removeBefore(first);
+    }
+
+    private static double toDouble(Object value) {
+        return (value instanceof Number n) ? n.doubleValue() : Double.NaN;
+    }
+
+    /**
+     * A double ended queue of (sequence, value) pairs whose values are
+     * increasing (or decreasing for a maximum queue) from head to tail, so
+     * that its head always holds the extreme value of the window.
+     */
+    private static final class MonotonicQueue {
+        private final boolean max;
+        private long[] seqs = new long[16];
+        private double[] values = new double[16];
+        private int head;
+        private int size;
+
+        MonotonicQueue(boolean max) {
+            this.max = max;
+        }
+
+        void add(long seq, double value) {
+            int mask = values.length - 1;
+            // drop the values that can no longer be the extreme of the window
+            while (size > 0) {
+                final double last = values[(head + size - 1) & mask];
+                if (max ? last > value : last < value) {
+                    break;
+                }
+                size--;
+            }
+            if (size == values.length) {
+                grow();
+                mask = values.length - 1;
+            }
+            final int index = (head + size) & mask;
+            seqs[index] = seq;
+            values[index] = value;
+            size++;
+        }
+
+        void removeBefore(long seq) {
+            final int mask = values.length - 1;
+            while (size > 0 && seqs[head] < seq) {
+                head = (head + 1) & mask;
+                size--;
+            }
+        }
+
+        double peek() {
+            return values[head];
+        }
+
+        void clear() {
+            head = size = 0;
+        }
+
+        private void grow() {
+            final int length = values.length;
+            final long[] newSeqs = new long[length * 2];
+            final double[] newValues = new double[length * 2];
+            final int firstPart = length - head;
+            System.arraycopy(seqs, head, newSeqs, 0, firstPart);
+            System.arraycopy(seqs, 0, newSeqs, firstPart, head);
+            System.arraycopy(values, head, newValues, 0, firstPart);
+            System.arraycopy(values, 0, newValues, firstPart, head);
+            seqs = newSeqs;
+            values = newValues;
+            head = 0;
+        }
+    }
+}
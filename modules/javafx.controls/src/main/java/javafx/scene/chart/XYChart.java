@@ -31,6 +31,7 @@ import com.sun.javafx.charts.Legend;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -545,6 +546,10 @@ public abstract class XYChart<X,Y> extends Chart {
         return !suppressAnimation && super.shouldAnimate();
     }
 
+    final boolean isSuppressAnimation() {
+        return suppressAnimation;
+    }
+
     final void setSuppressAnimation(boolean value) {
         suppressAnimation = value;
     }
@@ -579,6 +584,8 @@ public abstract class XYChart<X,Y> extends Chart {
 
     private <T> void dataValueChanged(Data<X,Y> item, T newValue, ObjectProperty<T> currentValueProperty) {
         if (currentValueProperty.get() != newValue) invalidateRange();
+        final Series<X,Y> series = item.seriesProperty.get();
+        if (series != null && series.slidingRange != null) series.slidingRange.invalidate();
         dataItemChanged(item);
         if (shouldAnimate()) {
             animate(
@@ -702,6 +709,7 @@ public abstract class XYChart<X,Y> extends Chart {
      * axis passing it that data.
      */
     protected void updateAxisRange() {
+        if (updateSlidingAxisRange()) return;
         final Axis<X> xa = getXAxis();
         final Axis<Y> ya = getYAxis();
         List<X> xData = null;
@@ -720,6 +728,49 @@ public abstract class XYChart<X,Y> extends Chart {
         }
     }
 
+    /**
+     * Updates the range of the auto ranging axes from the sliding ranges of the series, without a pass over all of
+     * the data. This is only possible when all of the series are streamed with {@link Series#appendData} and all of
+     * the auto ranging axes are number axes, which only need the smallest and the largest value of the data.
+     *
+     * @return true if the range was updated, false if it has to be computed from all of the data instead
+     */
+    @SuppressWarnings("unchecked")
+    final boolean updateSlidingAxisRange() {
+        final Axis<X> xa = getXAxis();
+        final Axis<Y> ya = getYAxis();
+        final boolean xAuto = xa.isAutoRanging();
+        final boolean yAuto = ya.isAutoRanging();
+        if ((!xAuto && !yAuto) || (xAuto && !(xa instanceof NumberAxis)) || (yAuto && !(ya instanceof NumberAxis))) {
+            return false;
+        }
+        double minX = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        int count = 0;
+        for (Series<X,Y> series : getData()) {
+            final SlidingRange range = series.slidingRange;
+            if (range == null) return false;
+            final ObservableList<Data<X,Y>> data = series.getData();
+            final int size = (data != null) ? data.size() : 0;
+            if (!range.isValid() || range.size() != size) {
+                if (data == null || !range.rebuild(data)) return false;
+            }
+            if (size == 0) continue;
+            count += size;
+            minX = Math.min(minX, range.getMinX());
+            maxX = Math.max(maxX, range.getMaxX());
+            minY = Math.min(minY, range.getMinY());
+            maxY = Math.max(maxY, range.getMaxY());
+        }
+        // empty data and single data items are special cased by the charts, so leave those to the full computation
+        if (count < 2) return false;
+        if (xAuto) ((Axis<Number>) xa).invalidateRange(List.of(minX, maxX));
+        if (yAuto) ((Axis<Number>) ya).invalidateRange(List.of(minY, maxY));
+        return true;
+    }
+
     /**
      * Called to update and layout the plot children. This should include all work to updates nodes representing
      * the plot on top of the axis and grid lines etc. The origin is the top left of the plot area, the plot area with
@@ -1531,7 +1582,10 @@ public abstract class XYChart<X,Y> extends Chart {
         String defaultColorStyleClass;
         boolean setToRemove = false;
 
-        private List<Data<X, Y>> displayedData = new ArrayList<>();
+        private List<Data<X, Y>> displayedData = new CircularArrayList<>();
+
+        /** the extremes of the data, only tracked once the series is streamed with appendData() */
+        SlidingRange slidingRange;
 
         private final ListChangeListener<Data<X,Y>> dataChangeListener = new ListChangeListener<>() {
             @Override public void onChanged(Change<? extends Data<X, Y>> c) {
@@ -1541,17 +1595,12 @@ public abstract class XYChart<X,Y> extends Chart {
                     if (chart != null) {
                         // JDK-8125209 Probably a sort happened, just reorder the pointers and return.
                         if (c.wasPermutated()) {
+                            if (slidingRange != null) slidingRange.invalidate();
                             displayedData.sort((o1, o2) -> data.indexOf(o2) - data.indexOf(o1));
                             return;
                         }
 
-                        Set<Data<X, Y>> dupCheck = new HashSet<>(displayedData);
-                        dupCheck.removeAll(c.getRemoved());
-                        for (Data<X, Y> d : c.getAddedSubList()) {
-                            if (!dupCheck.add(d)) {
-                                throw new IllegalArgumentException("Duplicate data added");
-                            }
-                        }
+                        checkDuplicates(c);
 
                         // update data items reference to series
                         for (Data<X, Y> item : c.getRemoved()) {
@@ -1573,13 +1622,20 @@ public abstract class XYChart<X,Y> extends Chart {
                             if (c.getFrom() == 0) {
                                 displayedData.addAll(0, c.getAddedSubList());
                             } else {
-                                displayedData.addAll(displayedData.indexOf(data.get(c.getFrom() - 1)) + 1, c.getAddedSubList());
+                                final Data<X, Y> previous = data.get(c.getFrom() - 1);
+                                final int last = displayedData.size() - 1;
+                                // appending is the common case, so avoid searching for the previous item
+                                final int index = (last >= 0 && displayedData.get(last) == previous) ?
+                                        last : displayedData.indexOf(previous);
+                                displayedData.addAll(index + 1, c.getAddedSubList());
                             }
                         }
+                        updateSlidingRange(c, data);
                         // inform chart
                         chart.dataItemsChanged(Series.this,
                                 (List<Data<X, Y>>) c.getRemoved(), c.getFrom(), c.getTo(), c.wasPermutated());
                     } else {
+                        if (slidingRange != null) slidingRange.invalidate();
                         Set<Data<X, Y>> dupCheck = new HashSet<>();
                         for (Data<X, Y> d : data) {
                             if (!dupCheck.add(d)) {
@@ -1606,6 +1662,7 @@ public abstract class XYChart<X,Y> extends Chart {
         private final ReadOnlyObjectWrapper<XYChart<X,Y>> chart = new ReadOnlyObjectWrapper<>(this, "chart") {
             @Override
             protected void invalidated() {
+                if (slidingRange != null) slidingRange.invalidate();
                 if (get() == null) {
                     displayedData.clear();
                 } else {
@@ -1702,7 +1759,8 @@ public abstract class XYChart<X,Y> extends Chart {
          * Construct a empty series
          */
         public Series() {
-            this(FXCollections.<Data<X,Y>>observableArrayList());
+            // a circular list, so that streamed data is removed from the start in constant time
+            this(FXCollections.observableList(new CircularArrayList<>()));
         }
 
         /**
@@ -1736,8 +1794,97 @@ public abstract class XYChart<X,Y> extends Chart {
             return "Series["+getName()+"]";
         }
 
+        /**
+         * Appends the given data items to the end of this series, and removes as many of the oldest items from the
+         * start of this series as needed so that it holds no more than {@code maxSize} items. If more than
+         * {@code maxSize} items are given, only the last {@code maxSize} of them are added.
+         * <p>
+         * This is meant for streaming data, where new items are appended at a high rate and the series shows
+         * a sliding window of the most recent items. The change is never animated, and for number axes the
+         * chart keeps track of the range of the window as items are appended and removed, instead of computing it
+         * from all of the data in every layout. Any other change to the data of this series is still supported,
+         * but makes the chart compute the range from all of the data once more.
+         * <p>
+         * The items are still stored in the {@link #getData() data} list of this series, and the chart still
+         * creates a node for each item that it shows. The list that a series creates by default removes items
+         * from its start in constant time, but a list given to the series may not.
+         *
+         * @param maxSize the maximum number of items this series holds after the items are appended
+         * @param items the data items to append
+         * @throws IllegalArgumentException if {@code maxSize} is negative
+         * @throws NullPointerException if {@code items} is null
+         * @since 28
+         */
+        public final void appendData(int maxSize, Collection<? extends Data<X,Y>> items) {
+            if (maxSize < 0) {
+                throw new IllegalArgumentException("maxSize must not be negative: " + maxSize);
+            }
+            List<? extends Data<X,Y>> added = new ArrayList<>(items);
+            if (added.size() > maxSize) {
+                added = added.subList(added.size() - maxSize, added.size());
+            }
+            final ObservableList<Data<X,Y>> list = getData();
+            if (slidingRange == null) {
+                slidingRange = new SlidingRange();
+            }
+            final XYChart<X,Y> chart = getChart();
+            final boolean wasSuppressed = chart != null && chart.isSuppressAnimation();
+            if (chart != null) chart.setSuppressAnimation(true);
+            try {
+                final int excess = list.size() + added.size() - maxSize;
+                if (excess > 0) {
+                    list.remove(0, Math.min(excess, list.size()));
+                }
+                if (!added.isEmpty()) {
+                    list.addAll(added);
+                }
+            } finally {
+                if (chart != null) chart.setSuppressAnimation(wasSuppressed);
+            }
+        }
+
         // -------------- PRIVATE/PROTECTED METHODS -----------------------------------
 
+        private void checkDuplicates(Change<? extends Data<X, Y>> c) {
+            // Only items that are still displayed by this series can be duplicates. Those always have a series or
+            // are being removed, so new items can be checked without copying all of the displayed data.
+            final List<? extends Data<X, Y>> added = c.getAddedSubList();
+            boolean displayed = false;
+            for (Data<X, Y> d : added) {
+                if (d.seriesProperty.get() != null || d.setToRemove) {
+                    displayed = true;
+                    break;
+                }
+            }
+            final Set<Data<X, Y>> dupCheck;
+            if (displayed) {
+                dupCheck = new HashSet<>(displayedData);
+                dupCheck.removeAll(c.getRemoved());
+            } else if (added.size() > 1) {
+                dupCheck = new HashSet<>();
+            } else {
+                return;
+            }
+            for (Data<X, Y> d : added) {
+                if (!dupCheck.add(d)) {
+                    throw new IllegalArgumentException("Duplicate data added");
+                }
+            }
+        }
+
+        private void updateSlidingRange(Change<? extends Data<X, Y>> c, List<? extends Data<X, Y>> data) {
+            if (slidingRange == null || !slidingRange.isValid()) return;
+            if (c.wasAdded() && !c.wasRemoved() && c.getTo() == data.size()) {
+                for (Data<X, Y> d : c.getAddedSubList()) {
+                    slidingRange.add(d.getXValue(), d.getYValue());
+                }
+            } else if (!c.wasAdded() && c.wasRemoved() && c.getFrom() == 0) {
+                slidingRange.removeOldest(c.getRemovedSize());
+            } else {
+                slidingRange.invalidate();
+            }
+        }
+
         /*
          * The following methods are for manipulating the pointers in the linked list
          * when data is deleted.
@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.control.cell;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.beans.value.ObservableValueBase;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableColumn.CellDataFeatures;
+import javafx.scene.control.TableView;
+import javafx.util.Callback;
+
+/**
+ * A convenience implementation of the Callback interface, designed specifically
+ * for use within the {@link TableColumn}
+ * {@link TableColumn#cellValueFactoryProperty() cell value factory}, for cell
+ * values that have to be loaded asynchronously, for example from a remote
+ * service. An example of how to use this class is:
+ *
+ * <pre><code>
+ * {@literal TableColumn<Person,String> addressCol = new TableColumn<>("Address");
+ * addressCol.setCellValueFactory(new AsyncValueFactory<>(
+ *         p -> addressService.lookup(p.getId()), "Loading..."));}
+ * </code></pre>
+ *
+ * <p>The loader function is called on the JavaFX Application Thread, and must
+ * not block: it returns a {@link CompletionStage} that completes with the value
+ * later, on any thread. Until then, cells show the placeholder value. A value
+ * is only loaded while it is observed, that is, when a cell adds a listener to
+ * it. Reading a value that is not observed, for example with
+ * {@link TableColumn#getCellData(Object)} when the table is sorted, returns the
+ * placeholder if the value was not loaded yet, and does not start loading it.
+ *
+ * <p>The most recently used values are cached, so that a value is not loaded
+ * again when its row is scrolled back into view. The cache holds at most
+ * {@code maxCachedValues} values and row items; the least recently used ones
+ * are discarded first.
+ *
+ * <p>Values that complete on a background thread are applied on the JavaFX
+ * Application Thread in the next pulse, using
+ * {@link Platform#runLater(Object, Runnable)}, so that many values completing
+ * at the same time are applied together instead of each causing a separate
+ * update. If a cell is reused for another row before the value of its row has
+ * completed, and no other cell shows that row by the next pulse, the loading is
+ * cancelled by calling {@code cancel(false)} on
+ * {@link CompletionStage#toCompletableFuture()}; it is started again the next
+ * time the row is shown. If the stage completes exceptionally, the placeholder
+ * is kept and the value is loaded again the next time a cell shows it.
+ *
+ * <p>Cells that do not use a cell value factory, such as those of a
+ * {@link ListView}, can get the same behavior by binding to the value returned
+ * by {@link #getValue(Object)} in {@code updateItem}, and unbinding when the
+ * cell is updated again:
+ *
+ * <pre><code>
+ * {@literal AsyncValueFactory<Person,String> addresses = new AsyncValueFactory<>(
+ *         p -> addressService.lookup(p.getId()), "Loading...");
+ * listView.setCellFactory(lv -> new ListCell<>() {
+ *     @Override protected void updateItem(Person item, boolean empty) {
+ *         super.updateItem(item, empty);
+ *         textProperty().unbind();
+ *         if (empty || item == null) {
+ *             setText(null);
+ *         } else {
+ *             textProperty().bind(addresses.getValue(item));
+ *         }
+ *     }
+ * });}
+ * </code></pre>
+ *
+ * @see TableColumn
+ * @see TableView
+ * @see TableCell
+ * @see PropertyValueFactory
+ * @param <S> The type of the class contained within the TableView.items list.
+ * @param <T> The type of the class contained within the TableColumn cells.
+ * @since 28
+ */
+public class AsyncValueFactory<S,T> implements Callback<CellDataFeatures<S,T>, ObservableValue<T>> {
+
+    private static final int DEFAULT_MAX_CACHED_VALUES = 1000;
+
+    private final Function<? super S, ? extends CompletionStage<? extends T>> loader;
+    private final T placeholder;
+    private final Map<S, AsyncValue<S,T>> values;
+
+    /**
+     * Creates an AsyncValueFactory which uses the given function to load the
+     * value for a row item, and shows {@code null} until the value is loaded.
+     *
+     * @param loader the function that starts loading the value for a row item
+     * @throws NullPointerException if {@code loader} is null
+     */
+    public AsyncValueFactory(Function<? super S, ? extends CompletionStage<? extends T>> loader) {
+        this(loader, null);
+    }
+
+    /**
+     * Creates an AsyncValueFactory which uses the given function to load the
+     * value for a row item, and shows the given placeholder until the value
+     * is loaded. At most 1000 values are cached.
+     *
+     * @param loader the function that starts loading the value for a row item
+     * @param placeholder the value to show until the value is loaded, may be null
+     * @throws NullPointerException if {@code loader} is null
+     */
+    public AsyncValueFactory(Function<? super S, ? extends CompletionStage<? extends T>> loader, T placeholder) {
+        this(loader, placeholder, DEFAULT_MAX_CACHED_VALUES);
+    }
+
+    /**
+     * Creates an AsyncValueFactory which uses the given function to load the
+     * value for a row item, shows the given placeholder until the value is
+     * loaded, and caches at most the given number of values.
+     *
+     * @param loader the function that starts loading the value for a row item
+     * @param placeholder the value to show until the value is loaded, may be null
+     * @param maxCachedValues the maximum number of cached values
+     * @throws NullPointerException if {@code loader} is null
+     * @throws IllegalArgumentException if {@code maxCachedValues} is negative
+     */
+    public AsyncValueFactory(Function<? super S, ? extends CompletionStage<? extends T>> loader, T placeholder,
+                             int maxCachedValues) {
+        if (maxCachedValues < 0) {
+            throw new IllegalArgumentException("maxCachedValues cannot be negative: " + maxCachedValues);
+        }
+        this.loader = Objects.requireNonNull(loader, "loader cannot be null");
+        this.placeholder = placeholder;
+        this.values = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override protected boolean removeEldestEntry(Map.Entry<S, AsyncValue<S,T>> eldest) {
+                return size() > maxCachedValues;
+            }
+        };
+    }
+
+    /** {@inheritDoc} */
+    @Override public ObservableValue<T> call(CellDataFeatures<S,T> cdf) {
+        return getValue(cdf.getValue());
+    }
+
+    /**
+     * Returns the observable value for the given row item. Its value is the
+     * placeholder until the value of the row item is loaded, which starts
+     * when a listener is added to it. The same observable value is returned
+     * for equal row items, for as long as it is cached. This method must be
+     * called on the JavaFX Application Thread.
+     *
+     * @param item the row item, may be null
+     * @return the observable value for the given row item
+     */
+    public ObservableValue<T> getValue(S item) {
+        if (item == null) {
+            return new ReadOnlyObjectWrapper<>(placeholder);
+        }
+        return values.computeIfAbsent(item, i -> new AsyncValue<>(this, i));
+    }
+
+    private static final class AsyncValue<S,T> extends ObservableValueBase<T> {
+
+        private final AsyncValueFactory<S,T> factory;
+        private final S item;
+        // the listeners that observe this value, which start and cancel loading
+        private final List<Object> listeners = new ArrayList<>(1);
+        private final Object cancelKey = new Object();
+
+        private T value;
+        private boolean loaded;
+        private CompletionStage<? extends T> pending;
+        // identifies the current loading, so that cancelled loadings are ignored
+        private int generation;
+
+        AsyncValue(AsyncValueFactory<S,T> factory, S item) {
+            this.factory = factory;
+            this.item = item;
+            this.value = factory.placeholder;
+        }
+
+        @Override public T getValue() {
+            return value;
+        }
+
+        @Override public void addListener(InvalidationListener listener) {
+            super.addListener(listener);
+            observed(listener);
+        }
+
+        @Override public void addListener(ChangeListener<? super T> listener) {
+            super.addListener(listener);
+            observed(listener);
+        }
+
+        @Override public void removeListener(InvalidationListener listener) {
+            super.removeListener(listener);
+            unobserved(listener);
+        }
+
+        @Override public void removeListener(ChangeListener<? super T> listener) {
+            super.removeListener(listener);
+            unobserved(listener);
+        }
+
+        private void observed(Object listener) {
+            listeners.add(listener);
+            if (!loaded && pending == null) {
+                load();
+            }
+        }
+
+        private void load() {
+            final int gen = ++generation;
+            final CompletionStage<? extends T> stage = factory.loader.apply(item);
+            if (stage == null) {
+                loaded = true;
+                return;
+            }
+            pending = stage;
+            stage.whenComplete((v, ex) -> {
+                if (Platform.isFxApplicationThread()) {
+                    complete(gen, v, ex);
+                } else {
+                    Platform.runLater(this, () -> complete(gen, v, ex));
+                }
+            });
+        }
+
+        private void complete(int gen, T v, Throwable ex) {
+            if (gen != generation) {
+                return;
+            }
+            pending = null;
+            if (ex != null) {
+                return;
+            }
+            loaded = true;
+            if (!Objects.equals(value, v)) {
+                value = v;
+                fireValueChangedEvent();
+            }
+        }
+
+        private void unobserved(Object listener) {
+            if (listeners.remove(listener) && listeners.isEmpty() && pending != null) {
+                // The cell was reused for another row. Cells often stop and start
+                // observing the same value within a layout, so only cancel if no
+                // cell observes this value by the next pulse.
+                Platform.runLater(cancelKey, this::cancelIfUnobserved);
+            }
+        }
+
+        private void cancelIfUnobserved() {
+            if (!listeners.isEmpty() || pending == null) {
+                return;
+            }
+            final CompletionStage<? extends T> stage = pending;
+            generation++;
+            pending = null;
+            // nothing was loaded, so there is no need to keep this value cached
+            factory.values.remove(item, this);
+            try {
+                stage.toCompletableFuture().cancel(false);
+            } catch (UnsupportedOperationException e) {
+                // the stage cannot be cancelled, its result is ignored
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,6 +26,7 @@
 package javafx.scene.control.skin;
 
 import com.sun.javafx.scene.ParentHelper;
+import com.sun.javafx.scene.control.CellSizeIndex;
 import com.sun.javafx.scene.control.Logging;
 import com.sun.javafx.scene.control.Properties;
 import com.sun.javafx.scene.control.VirtualScrollBar;
@@ -72,7 +73,13 @@ import com.sun.javafx.logging.PlatformLogger;
 import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.IntFunction;
 
 /**
  * Implementation of a virtualized container using a cell based mechanism. This
@@ -109,6 +116,25 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
      */
     private static final String NEW_CELL = "newcell";
 
+    /**
+     * The key under which the type of a cell, as returned by the cell type
+     * function, is stored in the properties of the cell.
+     */
+    private static final String CELL_TYPE = "celltype";
+
+    /**
+     * The maximum number of unused cells of each type, and of all types, that
+     * are kept in the pile when a cell type function is set.
+     */
+    private static final int MAX_PILED_CELLS_PER_TYPE = 16;
+    private static final int MAX_PILED_CELLS = 64;
+
+    /**
+     * The maximum number of accum cells, one for each type, that are kept when
+     * a cell type function is set.
+     */
+    private static final int MAX_ACCUM_CELLS = 16;
+
     private static final double GOLDEN_RATIO_MULTIPLIER = 0.618033987;
 
     /**
@@ -202,6 +228,12 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
      */
     T accumCell;
 
+    /**
+     * The accum cells of each type, least recently used first, when a cell
+     * type function is set. The accumCell is one of them.
+     */
+    private final Map<Object, T> accumCells = new LinkedHashMap<>(16, 0.75f, true);
+
     /**
      * This group is used for holding the 'accumCell'. 'accumCell' must
      * be added to the skin for it to be styled. Otherwise, it doesn't
@@ -275,15 +307,16 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     double estimatedSize = -1d;
 
     /**
-     * A list containing the cached version of the calculated size (height for
+     * An index containing the cached version of the calculated size (height for
      * vertical, width for horizontal) for a (fictive or real) cell for
      * each element of the backing data.
-     * This list is used to calculate the estimatedSize.
-     * The list is not expected to be complete, but it is always up to date.
-     * When the size of the items in the backing list changes, this list is
+     * This index is used to calculate the estimatedSize, and to map between
+     * cell indices and offsets in O(log n) time.
+     * The index is not expected to be complete, but it is always up to date.
+     * When the size of the items in the backing list changes, this index is
      * cleared.
      */
-    private ArrayList<Double> itemSizeCache = new ArrayList<>();
+    private final CellSizeIndex itemSizeCache = new CellSizeIndex();
 
     // used for panning the virtual flow
     private double lastX;
@@ -1005,10 +1038,7 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
                         recreateCells();
                         if (getParent() != null) getParent().requestLayout();
                     }
-                    if (accumCellParent != null) {
-                        accumCellParent.getChildren().clear();
-                    }
-                    accumCell = null;
+                    clearAccumCells();
                 }
             };
         }
@@ -1016,6 +1046,62 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     }
 
 
+    // --- Cell Type Function
+    private ObjectProperty<IntFunction<?>> cellTypeFunction;
+
+    /**
+     * Sets the function that returns the type of cell needed by the item at a
+     * given index.
+     * @param value the new cell type function
+     * @since 28
+     */
+    public final void setCellTypeFunction(IntFunction<?> value) {
+        cellTypeFunctionProperty().set(value);
+    }
+
+    /**
+     * Returns the current cell type function.
+     * @return the current cell type function
+     * @since 28
+     */
+    public final IntFunction<?> getCellTypeFunction() {
+        return cellTypeFunction == null ? null : cellTypeFunction.get();
+    }
+
+    /**
+     * A function that returns the type of cell needed by the item at a given
+     * index. This is useful when the items of the VirtualFlow are shown with
+     * cells of different layouts, for example when a cell builds a different
+     * graphic depending on the kind of item it shows.
+     * <p>
+     * When this function is set, a cell is only reused for an item of the same
+     * type (as determined by {@link Object#equals}) as the item it was last
+     * used for, so that the cell does not have to rebuild its content in every
+     * {@code updateItem} call while scrolling. The cell factory is called
+     * whenever there is no unused cell of the needed type. A limited number of
+     * unused cells is kept for each type. Items that are not shown are
+     * measured with a separate cell of their type, too. When this function is
+     * {@code null}, which is the default, any unused cell may be reused for
+     * any item.
+     *
+     * @return the cell type function property
+     * @since 28
+     */
+    public final ObjectProperty<IntFunction<?>> cellTypeFunctionProperty() {
+        if (cellTypeFunction == null) {
+            cellTypeFunction = new SimpleObjectProperty<>(this, "cellTypeFunction") {
+                @Override protected void invalidated() {
+                    clearAccumCells();
+                    setNeedsLayout(true);
+                    recreateCells();
+                    if (getParent() != null) getParent().requestLayout();
+                }
+            };
+        }
+        return cellTypeFunction;
+    }
+
+
 
     /* *************************************************************************
      *                                                                         *
@@ -1404,12 +1490,16 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
      */
     protected T getAvailableCell(int prefIndex) {
         T cell = null;
+        final IntFunction<?> typeFunction = getCellTypeFunction();
+        final Object type = (typeFunction != null && prefIndex >= 0 && prefIndex < getCellCount()) ?
+                typeFunction.apply(prefIndex) : null;
+
         // Fix for JDK-8112018. We try to retrieve the cell from the pile rather
         // than just grab a random cell from the pile (or create another cell).
         for (int i = 0, max = pile.size(); i < max; i++) {
             T _cell = pile.get(i);
             assert _cell != null;
-            if (getCellIndex(_cell) == prefIndex) {
+            if (getCellIndex(_cell) == prefIndex && (typeFunction == null || hasCellType(_cell, type))) {
                 cell = _cell;
                 pile.remove(i);
                 break;
@@ -1417,7 +1507,17 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         }
 
         if (cell == null && !pile.isEmpty()) {
-            cell = pile.removeLast();
+            if (typeFunction == null) {
+                cell = pile.removeLast();
+            } else {
+                // only reuse a cell that was last used for an item of the same type
+                for (int i = pile.size() - 1; i >= 0; i--) {
+                    if (hasCellType(pile.get(i), type)) {
+                        cell = pile.remove(i);
+                        break;
+                    }
+                }
+            }
         }
 
         if (cell == null) {
@@ -1425,6 +1525,10 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
             cell.getProperties().put(NEW_CELL, null);
         }
 
+        if (typeFunction != null) {
+            cell.getProperties().put(CELL_TYPE, type);
+        }
+
         if (cell.getParent() == null) {
             sheetChildren.add(cell);
         }
@@ -1802,13 +1906,35 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
             }
         }
 
-        // We need to use the accumCell and return that
+        // We need to use the accumCell and return that. When a cell type
+        // function is set, there is an accumCell for each type, so that
+        // measuring items of different types does not rebuild a single cell.
+        final IntFunction<?> typeFunction = getCellTypeFunction();
+        Object type = null;
+        if (typeFunction != null) {
+            type = (index >= 0 && index < getCellCount()) ? typeFunction.apply(index) : null;
+            if (accumCell == null || !hasCellType(accumCell, type)) {
+                accumCell = accumCells.get(type);
+            }
+        }
         if (accumCell == null) {
             Callback<VirtualFlow<T>,T> cellFactory = getCellFactory();
             if (cellFactory != null) {
-                accumCell = cellFactory.call(this);
-                accumCell.getProperties().put(NEW_CELL, null);
-                accumCellParent.getChildren().setAll(accumCell);
+                final T cell = cellFactory.call(this);
+                cell.getProperties().put(NEW_CELL, null);
+                if (typeFunction == null) {
+                    accumCellParent.getChildren().setAll(cell);
+                } else {
+                    cell.getProperties().put(CELL_TYPE, type);
+                    if (accumCells.size() >= MAX_ACCUM_CELLS) {
+                        // discard the least recently used accumCell
+                        Iterator<T> eldest = accumCells.values().iterator();
+                        accumCellParent.getChildren().remove(eldest.next());
+                        eldest.remove();
+                    }
+                    accumCells.put(type, cell);
+                    accumCellParent.getChildren().add(cell);
+                }
 
                 // Note the screen reader will attempt to find all
                 // the items inside the view to calculate the item count.
@@ -1818,12 +1944,13 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
                 // uses getPrivateCell(), which places the item in the sheet.
                 // The accumCell, and its children, should be ignored by the
                 // screen reader.
-                accumCell.setAccessibleRole(AccessibleRole.NODE);
-                accumCell.getChildrenUnmodifiable().addListener((Observable c) -> {
-                    for (Node n : accumCell.getChildrenUnmodifiable()) {
+                cell.setAccessibleRole(AccessibleRole.NODE);
+                cell.getChildrenUnmodifiable().addListener((Observable c) -> {
+                    for (Node n : cell.getChildrenUnmodifiable()) {
                         n.setAccessibleRole(AccessibleRole.NODE);
                     }
                 });
+                accumCell = cell;
             }
         }
         setCellIndex(accumCell, index);
@@ -2756,6 +2883,14 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         }
     }
 
+    private void clearAccumCells() {
+        if (accumCellParent != null) {
+            accumCellParent.getChildren().clear();
+        }
+        accumCell = null;
+        accumCells.clear();
+    }
+
     /**
      * After using the accum cell, it needs to be released!
      */
@@ -2841,6 +2976,34 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         pile.addLast(cell);
     }
 
+    private static boolean hasCellType(IndexedCell<?> cell, Object type) {
+        return Objects.equals(cell.getProperties().get(CELL_TYPE), type);
+    }
+
+    /**
+     * Discards the least recently piled cells beyond MAX_PILED_CELLS_PER_TYPE
+     * of each type and MAX_PILED_CELLS in total, when a cell type function is
+     * set.
+     */
+    private void trimPile() {
+        if (getCellTypeFunction() == null || pile.size() <= MAX_PILED_CELLS_PER_TYPE) {
+            return;
+        }
+        final Map<Object, Integer> counts = new HashMap<>();
+        int kept = 0;
+        for (int i = pile.size() - 1; i >= 0; i--) {
+            final T cell = pile.get(i);
+            final int count = counts.merge(cell.getProperties().get(CELL_TYPE), 1, Integer::sum);
+            if (count <= MAX_PILED_CELLS_PER_TYPE && kept < MAX_PILED_CELLS) {
+                kept++;
+            } else {
+                pile.remove(i);
+                sheetChildren.remove(cell);
+                cell.updateIndex(-1);
+            }
+        }
+    }
+
     private void cleanPile() {
         boolean wasFocusOwner = false;
 
@@ -2849,6 +3012,8 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
             wasFocusOwner = wasFocusOwner || doesCellContainFocus(cell);
             cell.setVisible(false);
         }
+        // only trim after the focus check, as trimmed cells leave the scene
+        trimPile();
 
         // Remove all cells that are in the pile and therefore not relevant anymore.
         if (sheetChildren.size() != cells.size()) {
@@ -2945,13 +3110,10 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
             return maxOff - absoluteOffset;
         }
 
-        for (int i = 0; i < localCellCount; i++) {
-            double h = getCellSize(i);
-            if (h < 0) h = estSize;
-            if (bound + h > absoluteOffset) {
-                return absoluteOffset - bound;
-            }
-            bound += h;
+        int index = itemSizeCache.getIndexAt(absoluteOffset, estSize, localCellCount);
+        if (index < localCellCount) {
+            bound = itemSizeCache.getOffset(index, estSize);
+            return absoluteOffset - bound;
         }
         return 0d;
     }
@@ -2964,13 +3126,8 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         if (cellCount <= 0) {
             setPosition(0.0f);
         } else {
-            double targetOffset = 0;
             double estSize = estimatedSize/cellCount;
-            for (int i = 0; i < index; i++) {
-                double cz = getCellSize(i);
-                if (cz < 0) cz = estSize;
-                targetOffset = targetOffset+ cz;
-            }
+            double targetOffset = itemSizeCache.getOffset(index, estSize);
             this.absoluteOffset = (estimatedSize < viewportLength)  ? 0  : targetOffset;
             adjustPosition();
         }
@@ -3025,15 +3182,9 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     }
 
     private double computeBaseOffset(int index) {
-        double baseOffset = 0d;
         int currentCellCount = getCellCount();
         double estSize = estimatedSize / currentCellCount;
-        for (int i = 0; i < index; i++) {
-            double nextSize = getCellSize(i);
-            if (nextSize < 0) nextSize = estSize;
-            baseOffset += nextSize;
-        }
-        return baseOffset;
+        return itemSizeCache.getOffset(index, estSize);
     }
 
     /**
@@ -3045,15 +3196,10 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     }
 
     private int computeCurrentIndex(int currentCellCount) {
-        double total = 0;
         double estSize = estimatedSize / currentCellCount;
-        for (int i = 0; i < currentCellCount; i++) {
-            double nextSize = getCellSize(i);
-            if (nextSize < 0) nextSize = estSize;
-            total = total + nextSize;
-            if (total > absoluteOffset) {
-                return i;
-            }
+        int index = itemSizeCache.getIndexAt(absoluteOffset, estSize, currentCellCount);
+        if (index < currentCellCount) {
+            return index;
         }
         return currentCellCount == 0 ? 0 : currentCellCount - 1;
     }
@@ -3087,21 +3233,14 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
 
     private double getOrCreateCellSize (int idx, boolean create) {
         if (idx < 0) return -1;
-        // is the current cache long enough to contain idx?
-        if (itemSizeCache.size() > idx) {
-            // is there a non-null value stored in the cache?
-            if (itemSizeCache.get(idx) != null) {
-                return itemSizeCache.get(idx);
-            }
+        // is there a size stored in the cache?
+        double cached = itemSizeCache.get(idx);
+        if (cached >= 0) {
+            return cached;
         }
         if (!create) return -1;
         boolean doRelease = false;
 
-        // Make sure we have enough space in the cache to store this index
-        while (idx >= itemSizeCache.size()) {
-            itemSizeCache.add(itemSizeCache.size(), null);
-        }
-
         double answer = 1d;
         if (getFixedCellSize() > 0) {
             answer = getFixedCellSize();
@@ -3141,10 +3280,10 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         int cellIndex = cell.getIndex();
 
         if (itemSizeCache.size() > cellIndex) {
-            Double oldSize = itemSizeCache.get(cellIndex);
+            double oldSize = itemSizeCache.get(cellIndex);
             double newSize = getCellLength(cell);
             itemSizeCache.set(cellIndex, newSize);
-            if ((oldSize != null) && !oldSize.equals(newSize)) {
+            if ((oldSize >= 0) && (Double.compare(oldSize, newSize) != 0)) {
                 int currentIndex = computeCurrentIndex();
                 double oldOffset = computeViewportOffset(getPosition());
                 if ((cellIndex == currentIndex) && (oldOffset != 0)) {
@@ -3189,28 +3328,14 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
                 getOrCreateCellSize(itemSizeCache.size());
                 added++;
             }
-            cacheCount = itemSizeCache.size();
-            int cnt = 0;
-            double tot = 0d;
-            for (int i = 0; (i < itemCount && i < cacheCount); i++) {
-                Double il = itemSizeCache.get(i);
-                if (il != null) {
-                    tot = tot + il;
-                    cnt++;
-                }
-            }
+            cacheCount = Math.min(itemCount, itemSizeCache.size());
+            int cnt = itemSizeCache.getMeasuredCount(cacheCount);
+            double tot = itemSizeCache.getMeasuredTotal(cacheCount);
             this.estimatedSize = cnt == 0 ? 1d : tot * itemCount / cnt;
             double estSize = estimatedSize / itemCount;
 
             if (keepRatio) {
-                double newOffset = 0;
-                for (int i = 0; i < oldIndex; i++) {
-                    double h = getCellSize(i);
-                    if (h < 0) {
-                        h = estSize;
-                    }
-                    newOffset += h;
-                }
+                double newOffset = itemSizeCache.getOffset(oldIndex, estSize);
                 this.absoluteOffset = newOffset + oldOffset;
                 adjustPosition();
             }
@@ -66,4 +66,12 @@ public class XYChartShim {
     public static boolean shouldAnimate(XYChart<?, ?> chart) {
         return chart.shouldAnimate();
     }
+
+    public static boolean isSuppressAnimation(XYChart<?, ?> chart) {
+        return chart.isSuppressAnimation();
+    }
+
+    public static void setSuppressAnimation(XYChart<?, ?> chart, boolean value) {
+        chart.setSuppressAnimation(value);
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -38,6 +38,7 @@ public class VirtualFlowShim<T extends IndexedCell> extends VirtualFlow<T> {
 
     public final ArrayLinkedList<T> cells = super.cells;
     public final ObservableList<Node> sheetChildren = super.sheetChildren;
+    public final ArrayLinkedList<T> pile = super.pile;
 
     @Override
     public void setViewportLength(double value) {
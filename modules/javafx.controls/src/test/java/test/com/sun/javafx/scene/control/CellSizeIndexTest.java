@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.scene.control;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.sun.javafx.scene.control.CellSizeIndex;
+
+public class CellSizeIndexTest {
+
+    private CellSizeIndex index;
+
+    @BeforeEach
+    public void setup() {
+        index = new CellSizeIndex();
+    }
+
+    @Test
+    public void testEmptyIndex() {
+        assertEquals(0, index.size());
+        assertEquals(-1, index.get(0), 0);
+        assertEquals(0, index.getMeasuredCount(10));
+        assertEquals(0, index.getMeasuredTotal(10), 0);
+        assertEquals(50, index.getOffset(5, 10), 0);
+        assertEquals(2, index.getIndexAt(25, 10, 100));
+        assertEquals(0, index.getIndexAt(25, 10, 0));
+    }
+
+    @Test
+    public void testSetAndGet() {
+        index.set(3, 20);
+        assertEquals(4, index.size());
+        assertEquals(-1, index.get(2), 0);
+        assertEquals(20, index.get(3), 0);
+        assertEquals(-1, index.get(4), 0);
+
+        index.set(3, 30);
+        assertEquals(30, index.get(3), 0);
+        assertEquals(1, index.getMeasuredCount(4));
+        assertEquals(30, index.getMeasuredTotal(4), 0);
+    }
+
+    @Test
+    public void testOffsetUsesEstimateForUnmeasuredCells() {
+        index.set(0, 10);
+        index.set(2, 30);
+        // 10 + 5 + 30 + 5
+        assertEquals(50, index.getOffset(4, 5), 0);
+        assertEquals(2, index.getMeasuredCount(4));
+        assertEquals(40, index.getMeasuredTotal(4), 0);
+    }
+
+    @Test
+    public void testIndexAt() {
+        index.set(0, 10);
+        index.set(1, 20);
+        index.set(2, 30);
+        assertEquals(0, index.getIndexAt(-1, 5, 10));
+        assertEquals(0, index.getIndexAt(0, 5, 10));
+        assertEquals(0, index.getIndexAt(9.5, 5, 10));
+        assertEquals(1, index.getIndexAt(10, 5, 10));
+        assertEquals(2, index.getIndexAt(59, 5, 10));
+        // beyond the measured cells, the estimate is used
+        assertEquals(3, index.getIndexAt(60, 5, 10));
+        assertEquals(4, index.getIndexAt(65, 5, 10));
+        assertEquals(10, index.getIndexAt(1000, 5, 10));
+    }
+
+    @Test
+    public void testClear() {
+        index.set(100, 10);
+        index.clear();
+        assertEquals(0, index.size());
+        assertEquals(-1, index.get(100), 0);
+        assertEquals(0, index.getMeasuredCount(200));
+        index.set(1, 10);
+        assertEquals(1, index.getMeasuredCount(200));
+    }
+
+    @Test
+    public void testSparseMeasurementsFarApart() {
+        index.set(5, 10);
+        index.set(10_000_000, 40);
+        assertEquals(10_000_001, index.size());
+        assertEquals(-1, index.get(9_999_999), 0);
+        assertEquals(40, index.get(10_000_000), 0);
+        assertEquals(1, index.getMeasuredCount(10_000_000));
+        assertEquals(2, index.getMeasuredCount(10_000_001));
+        assertEquals(50, index.getMeasuredTotal(20_000_000), 0);
+        // 9,999,999 cells of 2 and one of 10 before the far cell
+        assertEquals(20_000_008, index.getOffset(10_000_000, 2), 0);
+        assertEquals(10_000_000, index.getIndexAt(20_000_008, 2, 10_000_010));
+        assertEquals(10_000_000, index.getIndexAt(20_000_047, 2, 10_000_010));
+        assertEquals(10_000_001, index.getIndexAt(20_000_048, 2, 10_000_010));
+    }
+
+    @Test
+    public void testMatchesLinearScan() {
+        Random random = new Random(42);
+        int count = 5000;
+        double[] sizes = new double[count];
+        Arrays.fill(sizes, -1);
+        for (int n = 0; n < 3000; n++) {
+            int i = random.nextInt(count);
+            sizes[i] = random.nextInt(50);
+            index.set(i, sizes[i]);
+        }
+        double estimate = 17;
+        for (int n = 0; n < 200; n++) {
+            int i = random.nextInt(count + 1);
+            double offset = 0;
+            for (int j = 0; j < i; j++) {
+                offset += sizes[j] < 0 ? estimate : sizes[j];
+            }
+            assertEquals(offset, index.getOffset(i, estimate), 1e-6);
+
+            double target = random.nextDouble() * offset * 1.1;
+            assertEquals(linearIndexAt(sizes, target, estimate), index.getIndexAt(target, estimate, count));
+        }
+    }
+
+    private static int linearIndexAt(double[] sizes, double offset, double estimate) {
+        double total = 0;
+        for (int i = 0; i < sizes.length; i++) {
+            total += sizes[i] < 0 ? estimate : sizes[i];
+            if (total > offset) {
+                return i;
+            }
+        }
+        return sizes.length;
+    }
+}
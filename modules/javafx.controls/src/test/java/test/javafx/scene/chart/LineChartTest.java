@@ -27,6 +27,8 @@ package test.javafx.scene.chart;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -36,6 +38,7 @@ import javafx.scene.Node;
 import javafx.scene.chart.Chart;
 import javafx.scene.chart.LineChart;
 import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.ValueAxisShim;
 import javafx.scene.chart.XYChart;
 import javafx.scene.chart.XYChartShim;
 import javafx.scene.shape.LineTo;
@@ -43,6 +46,7 @@ import javafx.scene.shape.Path;
 import javafx.scene.shape.PathElement;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import test.com.sun.javafx.scene.control.infrastructure.ControlTestUtils;
 
 public class LineChartTest extends XYChartTestBase {
 
@@ -754,6 +758,244 @@ public class LineChartTest extends XYChartTestBase {
         assertEquals(0, ((Path)series1.getNode()).getElements().size());
     }
 
+    @Test
+    public void testDecimatedPathHasAtMostFourPointsPerPixelColumn() {
+        createChart();
+        lineChart.setDecimateData(true);
+        lineChart.setCreateSymbols(false);
+        startApp();
+        series1.getData().clear();
+        for (int i = 0; i < 10000; i++) {
+            series1.getData().add(new XYChart.Data<>(i * 0.009, (i % 7) * 4d));
+        }
+        lineChart.getData().addAll(series1);
+        pulse();
+
+        int lineTos = countLineTos();
+        double width = lineChart.getXAxis().getWidth();
+        assertTrue(width > 0);
+        assertTrue(lineTos <= 4 * (Math.ceil(width) + 1), "lineTos=" + lineTos + " width=" + width);
+
+        lineChart.setDecimateData(false);
+        pulse();
+        assertEquals(10000, countLineTos());
+    }
+
+    @Test
+    public void testDecimationKeepsExtremesOfEachPixelColumn() {
+        createChart();
+        lineChart.setDecimateData(true);
+        startApp();
+        series1.getData().setAll(
+                new XYChart.Data<>(10d, 10d),
+                new XYChart.Data<>(10.001d, 2d),
+                new XYChart.Data<>(10.002d, 15d),
+                new XYChart.Data<>(10.003d, 28d),
+                new XYChart.Data<>(10.004d, 12d),
+                new XYChart.Data<>(10.005d, 11d),
+                new XYChart.Data<>(80d, 10d));
+        lineChart.getData().addAll(series1);
+        pulse();
+
+        XYChart.Series<Number, Number> expectedSeries = new XYChart.Series<>();
+        expectedSeries.getData().addAll(
+                new XYChart.Data<>(10d, 10d),
+                new XYChart.Data<>(10.001d, 2d),
+                new XYChart.Data<>(10.003d, 28d),
+                new XYChart.Data<>(10.005d, 11d),
+                new XYChart.Data<>(80d, 10d)
+        );
+        eqDisplay(expectedSeries);
+
+        // the symbols of the dropped points are hidden
+        Node dropped = series1.getData().get(2).getNode();
+        assertFalse(dropped.isVisible());
+        assertFalse(dropped.isManaged());
+        assertFalse(series1.getData().get(4).getNode().isVisible());
+        assertTrue(series1.getData().get(3).getNode().isVisible());
+
+        // and shown again once their points are drawn
+        lineChart.setDecimateData(false);
+        pulse();
+        assertTrue(dropped.isVisible());
+        assertTrue(dropped.isManaged());
+        assertEquals(7, countLineTos());
+    }
+
+    @Test
+    public void testDecimationKeepsSymbolsHiddenByApplication() {
+        createChart();
+        lineChart.setDecimateData(true);
+        startApp();
+        series1.getData().setAll(
+                new XYChart.Data<>(10d, 10d),
+                new XYChart.Data<>(10.001d, 2d),
+                new XYChart.Data<>(10.002d, 15d),
+                new XYChart.Data<>(10.003d, 28d),
+                new XYChart.Data<>(80d, 10d));
+        lineChart.getData().addAll(series1);
+        pulse();
+        Node symbol = series1.getData().get(1).getNode();
+        symbol.setVisible(false);
+        lineChart.setDecimateData(false);
+        pulse();
+        assertFalse(symbol.isVisible());
+    }
+
+    @Test
+    public void testUnsortedDataIsNotDecimated() {
+        createChart();
+        lineChart.setDecimateData(true);
+        lineChart.setAxisSortingPolicy(LineChart.SortingPolicy.NONE);
+        startApp();
+        series1.getData().setAll(
+                new XYChart.Data<>(10d, 10d),
+                new XYChart.Data<>(10.002d, 2d),
+                new XYChart.Data<>(10.001d, 15d),
+                new XYChart.Data<>(10.003d, 28d),
+                new XYChart.Data<>(10.004d, 12d));
+        lineChart.getData().addAll(series1);
+        pulse();
+
+        assertEquals(5, countLineTos());
+    }
+
+    @Test
+    public void testAppendDataKeepsMostRecentItems() {
+        createChart();
+        startApp();
+        XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        lineChart.getData().add(series);
+        for (int i = 0; i < 100; i++) {
+            series.appendData(10, List.of(new XYChart.Data<>(i, i % 7)));
+        }
+        pulse();
+
+        assertEquals(10, series.getData().size());
+        assertEquals(90, series.getData().get(0).getXValue());
+        assertEquals(99, series.getData().get(9).getXValue());
+        assertEquals(10, XYChartShim.Series_getDataSize(series));
+
+        series.appendData(3, List.of(new XYChart.Data<>(100, 1), new XYChart.Data<>(101, 2),
+                new XYChart.Data<>(102, 3), new XYChart.Data<>(103, 4), new XYChart.Data<>(104, 5)));
+        assertEquals(List.of(102, 103, 104),
+                series.getData().stream().map(XYChart.Data::getXValue).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testAppendDataIsNotAnimated() {
+        createChart();
+        lineChart.setAnimated(true);
+        startApp();
+        XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        lineChart.getData().add(series);
+        series.appendData(2, List.of(new XYChart.Data<>(10, 10), new XYChart.Data<>(20, 20)));
+        Node removed = series.getData().get(0).getNode();
+        series.appendData(2, List.of(new XYChart.Data<>(30, 30)));
+
+        assertEquals(2, XYChartShim.Series_getDataSize(series));
+        assertTrue(!XYChartShim.getPlotChildren(lineChart).contains(removed));
+    }
+
+    @Test
+    public void testAppendDataRestoresAnimationSuppression() {
+        createChart();
+        startApp();
+        XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        lineChart.getData().add(series);
+        XYChartShim.setSuppressAnimation(lineChart, true);
+        series.appendData(2, List.of(new XYChart.Data<>(10, 10)));
+        assertTrue(XYChartShim.isSuppressAnimation(lineChart));
+
+        XYChartShim.setSuppressAnimation(lineChart, false);
+        series.appendData(2, List.of(new XYChart.Data<>(20, 20)));
+        assertFalse(XYChartShim.isSuppressAnimation(lineChart));
+    }
+
+    @Test
+    public void testAppendDataRejectsDuplicates() {
+        createChart();
+        startApp();
+        XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        lineChart.getData().add(series);
+        XYChart.Data<Number, Number> item = new XYChart.Data<>(10, 10);
+        series.appendData(5, List.of(item));
+        assertThrows(IllegalArgumentException.class, () -> ControlTestUtils.runWithExceptionHandler(() -> {
+            series.appendData(5, List.of(item));
+        }));
+        assertThrows(IllegalArgumentException.class, () -> series.appendData(-1, List.of()));
+    }
+
+    @Test
+    public void testAppendDataTracksAxisRange() {
+        final NumberAxis xAxis = new NumberAxis();
+        final NumberAxis yAxis = new NumberAxis();
+        xAxis.setForceZeroInRange(false);
+        yAxis.setForceZeroInRange(false);
+        lineChart = new LineChart<>(xAxis, yAxis);
+        lineChart.setAnimated(false);
+        startApp();
+        XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        lineChart.getData().add(series);
+
+        for (int i = 0; i < 200; i++) {
+            series.appendData(50, List.of(new XYChart.Data<>(i, Math.sin(i / 10.0) * i)));
+            if (i % 10 == 9) {
+                pulse();
+                assertAxisRange(series, xAxis, yAxis);
+            }
+        }
+
+        // any other change makes the range computed from all of the data again
+        series.getData().get(25).setYValue(1000);
+        pulse();
+        assertAxisRange(series, xAxis, yAxis);
+        series.getData().remove(10);
+        series.getData().add(20, new XYChart.Data<>(1000, -1000));
+        pulse();
+        assertAxisRange(series, xAxis, yAxis);
+        series.appendData(50, List.of(new XYChart.Data<>(2000, 3)));
+        pulse();
+        assertAxisRange(series, xAxis, yAxis);
+    }
+
+    private void assertAxisRange(XYChart.Series<Number, Number> series, NumberAxis xAxis, NumberAxis yAxis) {
+        double minX = Double.MAX_VALUE, maxX = -Double.MAX_VALUE;
+        double minY = Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+        for (XYChart.Data<Number, Number> d : series.getData()) {
+            minX = Math.min(minX, d.getXValue().doubleValue());
+            maxX = Math.max(maxX, d.getXValue().doubleValue());
+            minY = Math.min(minY, d.getYValue().doubleValue());
+            maxY = Math.max(maxY, d.getYValue().doubleValue());
+        }
+        assertEquals(minX, ValueAxisShim.get_dataMinValue(xAxis), 0);
+        assertEquals(maxX, ValueAxisShim.get_dataMaxValue(xAxis), 0);
+        assertEquals(minY, ValueAxisShim.get_dataMinValue(yAxis), 0);
+        assertEquals(maxY, ValueAxisShim.get_dataMaxValue(yAxis), 0);
+    }
+
+    private int countLineTos() {
+        return (int) ((Path) series1.getNode()).getElements().stream()
+                .filter(pathElement -> pathElement instanceof LineTo)
+                .count();
+    }
+
+    private void eqDisplay(XYChart.Series<Number, Number> expected) {
+        // decimation works on display positions, so compare those
+        final NumberAxis xAxis = (NumberAxis) lineChart.getXAxis();
+        final NumberAxis yAxis = (NumberAxis) lineChart.getYAxis();
+        List<PathElement> elements = ((Path) series1.getNode()).getElements().stream()
+                .filter(pathElement -> pathElement instanceof LineTo)
+                .collect(Collectors.toList());
+        assertEquals(expected.getData().size(), elements.size());
+        for (int i = 0; i < elements.size(); i++) {
+            LineTo lineTo = (LineTo) elements.get(i);
+            XYChart.Data<Number, Number> d = expected.getData().get(i);
+            assertEquals(xAxis.getDisplayPosition(d.getXValue()), lineTo.getX(), 1e-9, "at index " + i);
+            assertEquals(yAxis.getDisplayPosition(d.getYValue()), lineTo.getY(), 1e-9, "at index " + i);
+        }
+    }
+
     private List<Point2D> convertSeriesDataToPoint2D(XYChart.Series<Number, Number> series) {
         return series.getData().stream()
                 .map(data -> new Point2D(data.getXValue().doubleValue(), data.getYValue().doubleValue()))
@@ -25,6 +25,9 @@
 
 package test.javafx.scene.chart;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 import javafx.beans.property.ListProperty;
 import javafx.beans.property.SimpleListProperty;
 import javafx.collections.FXCollections;
@@ -216,4 +219,57 @@ public class XYChartTest extends ChartTestBase {
             seriesProperty.add(new XYChart.Series<>());
         });
     }
+
+    @Test
+    public void testDefaultSeriesDataBehavesLikeAList() {
+        // the default data list of a series is circular, check it against an ArrayList
+        XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        ObservableList<XYChart.Data<Number, Number>> data = series.getData();
+        List<XYChart.Data<Number, Number>> expected = new ArrayList<>();
+        Random random = new Random(7);
+        for (int n = 0; n < 2000; n++) {
+            int size = expected.size();
+            XYChart.Data<Number, Number> item = new XYChart.Data<>(n, n);
+            switch (random.nextInt(7)) {
+                case 0, 1 -> {
+                    data.add(item);
+                    expected.add(item);
+                }
+                case 2 -> {
+                    int index = random.nextInt(size + 1);
+                    data.add(index, item);
+                    expected.add(index, item);
+                }
+                case 3 -> {
+                    int index = random.nextInt(size + 1);
+                    List<XYChart.Data<Number, Number>> items = List.of(item,
+                            new XYChart.Data<>(-n, n), new XYChart.Data<>(n, -n));
+                    data.addAll(index, items);
+                    expected.addAll(index, items);
+                }
+                case 4 -> {
+                    if (size > 0) {
+                        int index = random.nextInt(size);
+                        assertSame(expected.remove(index), data.remove(index));
+                    }
+                }
+                case 5 -> {
+                    int from = random.nextInt(size + 1);
+                    int to = from + random.nextInt(size - from + 1);
+                    data.remove(from, to);
+                    expected.subList(from, to).clear();
+                }
+                default -> {
+                    if (size > 0) {
+                        int index = random.nextInt(size);
+                        data.set(index, item);
+                        expected.set(index, item);
+                    }
+                }
+            }
+            assertEquals(expected, data);
+        }
+        data.clear();
+        assertTrue(data.isEmpty());
+    }
 }
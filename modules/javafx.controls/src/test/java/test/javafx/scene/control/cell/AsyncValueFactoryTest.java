@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.scene.control.cell;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import com.sun.javafx.tk.Toolkit;
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.control.cell.AsyncValueFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncValueFactoryTest {
+
+    private Map<String, CompletableFuture<String>> futures;
+    private List<String> requests;
+    private AsyncValueFactory<String, String> factory;
+
+    @BeforeEach
+    public void setup() {
+        futures = new HashMap<>();
+        requests = new ArrayList<>();
+        factory = new AsyncValueFactory<>(item -> {
+            requests.add(item);
+            CompletableFuture<String> f = new CompletableFuture<>();
+            futures.put(item, f);
+            return f;
+        }, "loading");
+    }
+
+    @Test
+    public void testNullLoaderThrows() {
+        assertThrows(NullPointerException.class, () -> new AsyncValueFactory<String, String>(null));
+    }
+
+    private static <T> InvalidationListener observe(ObservableValue<T> value) {
+        InvalidationListener listener = obs -> {};
+        value.addListener(listener);
+        return listener;
+    }
+
+    @Test
+    public void testPlaceholderUntilLoaded() {
+        ObservableValue<String> value = factory.getValue("a");
+        observe(value);
+        assertEquals("loading", value.getValue());
+        assertEquals(List.of("a"), requests);
+
+        futures.get("a").complete("A");
+        assertEquals("A", value.getValue());
+        assertEquals(List.of("a"), requests);
+    }
+
+    @Test
+    public void testUnobservedReadDoesNotLoad() {
+        ObservableValue<String> value = factory.getValue("a");
+        assertEquals("loading", value.getValue());
+        assertEquals(List.of(), requests);
+
+        observe(value);
+        futures.get("a").complete("A");
+        assertEquals("A", factory.getValue("a").getValue());
+    }
+
+    @Test
+    public void testDefaultPlaceholderIsNull() {
+        factory = new AsyncValueFactory<>(item -> new CompletableFuture<>());
+        assertNull(factory.getValue("a").getValue());
+    }
+
+    @Test
+    public void testNegativeCacheSizeThrows() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AsyncValueFactory<String, String>(item -> null, null, -1));
+    }
+
+    @Test
+    public void testCompletionNotifiesListeners() {
+        ObservableValue<String> value = factory.getValue("a");
+        List<String> changes = new ArrayList<>();
+        value.addListener((obs, o, n) -> changes.add(n));
+
+        futures.get("a").complete("A");
+        assertEquals(List.of("A"), changes);
+    }
+
+    @Test
+    public void testValueIsSharedForEqualItems() {
+        ObservableValue<String> value = factory.getValue("a");
+        assertSame(value, factory.getValue(new String("a")));
+        observe(value);
+        observe(factory.getValue("a"));
+        assertEquals(List.of("a"), requests);
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        factory = new AsyncValueFactory<>(item -> CompletableFuture.completedFuture(item.toUpperCase()), null, 2);
+        ObservableValue<String> a = factory.getValue("a");
+        observe(a);
+        assertEquals("A", a.getValue());
+        ObservableValue<String> b = factory.getValue("b");
+        observe(b);
+        assertSame(a, factory.getValue("a"));
+        observe(factory.getValue("c"));
+        // b was the least recently used
+        assertSame(a, factory.getValue("a"));
+        assertFalse(b == factory.getValue("b"));
+        // getting b again made a the least recently used
+        observe(factory.getValue("d"));
+        assertFalse(a == factory.getValue("a"));
+    }
+
+    @Test
+    public void testFailedLoadKeepsPlaceholderAndRetries() {
+        ObservableValue<String> value = factory.getValue("a");
+        InvalidationListener listener = observe(value);
+        futures.get("a").completeExceptionally(new RuntimeException("failed"));
+        assertEquals("loading", value.getValue());
+        assertEquals(List.of("a"), requests);
+
+        value.removeListener(listener);
+        observe(value);
+        assertEquals(List.of("a", "a"), requests);
+    }
+
+    @Test
+    public void testCallUsesRowItem() {
+        TableView<String> table = new TableView<>();
+        TableColumn<String, String> column = new TableColumn<>();
+        table.getColumns().add(column);
+        ObservableValue<String> value =
+                factory.call(new TableColumn.CellDataFeatures<>(table, column, "a"));
+        assertSame(factory.getValue("a"), value);
+    }
+
+    @Test
+    public void testLoadIsCancelledWhenNoLongerObserved() {
+        ObservableValue<String> value = factory.getValue("a");
+        InvalidationListener listener = observe(value);
+        value.removeListener(listener);
+        assertFalse(futures.get("a").isCancelled());
+
+        Toolkit.getToolkit().firePulse();
+        assertTrue(futures.get("a").isCancelled());
+        assertEquals("loading", value.getValue());
+        // the cancelled value is no longer cached
+        assertFalse(value == factory.getValue("a"));
+        observe(factory.getValue("a"));
+        assertEquals(List.of("a", "a"), requests);
+    }
+
+    @Test
+    public void testLoadIsNotCancelledWhenObservedAgainBeforePulse() {
+        ObservableValue<String> value = factory.getValue("a");
+        InvalidationListener listener = observe(value);
+        value.removeListener(listener);
+        value.addListener(listener);
+
+        Toolkit.getToolkit().firePulse();
+        assertFalse(futures.get("a").isCancelled());
+        futures.get("a").complete("A");
+        assertEquals("A", value.getValue());
+    }
+
+    @Test
+    public void testCancelledLoadDoesNotUpdateValue() {
+        ObservableValue<String> value = factory.getValue("a");
+        InvalidationListener listener = observe(value);
+        CompletableFuture<String> first = futures.get("a");
+        value.removeListener(listener);
+        Toolkit.getToolkit().firePulse();
+
+        first.obtrudeValue("stale");
+        assertEquals("loading", value.getValue());
+    }
+}
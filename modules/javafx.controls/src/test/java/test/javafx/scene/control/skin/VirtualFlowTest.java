@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -35,10 +35,13 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 import java.util.function.DoubleSupplier;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import javafx.beans.InvalidationListener;
 import javafx.event.Event;
@@ -2118,6 +2121,146 @@ assertEquals(0, firstCell.getIndex());
         assertEquals(flow.cells, flow.sheetChildren);
     }
 
+    @Test
+    public void testCellsAreOnlyReusedForItemsOfTheSameType() {
+        IntFunction<String> typeFunction = i -> (i / 5) % 2 == 0 ? "A" : "B";
+        List<TypedCellStub> created = createTypedFlow(typeFunction);
+        flow.setCellTypeFunction(typeFunction);
+        scrollThroughTypedFlow();
+
+        for (TypedCellStub cell : created) {
+            assertTrue(cell.types.size() <= 1, "cell used for types " + cell.types);
+        }
+        assertTrue(created.size() < 50, "created " + created.size() + " cells");
+    }
+
+    @Test
+    public void testCellsAreReusedForAnyItemWithoutCellTypeFunction() {
+        IntFunction<String> typeFunction = i -> (i / 5) % 2 == 0 ? "A" : "B";
+        List<TypedCellStub> created = createTypedFlow(typeFunction);
+        scrollThroughTypedFlow();
+
+        assertTrue(created.stream().anyMatch(cell -> cell.types.size() > 1));
+    }
+
+    @Test
+    public void testPileIsLimitedWithCellTypeFunction() {
+        // every item needs its own type of cell
+        IntFunction<Integer> typeFunction = i -> i;
+        List<TypedCellStub> created = createTypedFlow(typeFunction);
+        flow.setCellTypeFunction(typeFunction);
+        scrollThroughTypedFlow();
+
+        assertTrue(VirtualFlowShim.cells_size(flow.pile) <= 64, "pile size " + VirtualFlowShim.cells_size(flow.pile));
+        for (TypedCellStub cell : created) {
+            assertTrue(cell.types.size() <= 1, "cell used for types " + cell.types);
+        }
+    }
+
+    @Test
+    public void testCellsOfVariableSizeAreOnlyReusedForItemsOfTheSameType() {
+        IntFunction<String> typeFunction = i -> (i / 5) % 2 == 0 ? "A" : "B";
+        List<TypedCellStub> created = createTypedFlow(typeFunction, false);
+        flow.setCellTypeFunction(typeFunction);
+        scrollThroughTypedFlow();
+
+        // this includes the accum cells, which measure the items
+        for (TypedCellStub cell : created) {
+            assertTrue(cell.allTypes.size() <= 1, "cell used for types " + cell.allTypes);
+        }
+        assertTrue(created.size() < 50, "created " + created.size() + " cells");
+    }
+
+    @Test
+    public void testFocusIsReclaimedFromTrimmedCell() {
+        IntFunction<Integer> typeFunction = i -> i;
+        createTypedFlow(typeFunction);
+        flow.setCellTypeFunction(typeFunction);
+        // show more cells than are kept in the pile
+        Scene scene = new Scene(flow, 250, 25 * 100);
+        StageLoader loader = new StageLoader(scene);
+        flow.resize(250, 25 * 100);
+        pulse();
+
+        IndexedCell<?> cell = flow.getCell(0);
+        cell.setFocusTraversable(true);
+        cell.requestFocus();
+        assertSame(cell, scene.getFocusOwner());
+
+        // every item has its own type, so the focused cell is piled and
+        // trimmed from the pile in the same layout
+        flow.setPosition(0.5);
+        pulse();
+        assertFalse(flow.sheetChildren.contains(cell));
+        assertSame(flow, scene.getFocusOwner());
+        loader.dispose();
+    }
+
+    private List<TypedCellStub> createTypedFlow(IntFunction<?> typeFunction) {
+        return createTypedFlow(typeFunction, true);
+    }
+
+    private List<TypedCellStub> createTypedFlow(IntFunction<?> typeFunction, boolean fixedSize) {
+        List<TypedCellStub> created = new ArrayList<>();
+        flow = new VirtualFlowShim<>();
+        if (fixedSize) {
+            flow.setFixedCellSize(25);
+        }
+        flow.setCellFactory(fw -> {
+            TypedCellStub cell = new TypedCellStub(flow, typeFunction);
+            created.add(cell);
+            return cell;
+        });
+        flow.setCellCount(1000);
+        flow.resize(250, 300);
+        pulse();
+        return created;
+    }
+
+    private void scrollThroughTypedFlow() {
+        pulse();
+        for (int i = 0; i < 100; i++) {
+            flow.scrollPixels(37);
+            pulse();
+        }
+        for (int i = 0; i < 50; i++) {
+            flow.scrollPixels(-61);
+            pulse();
+        }
+    }
+
+    private static class TypedCellStub extends CellStub {
+        final Set<Object> types = new HashSet<>();
+        final Set<Object> allTypes = new HashSet<>();
+        final IntFunction<?> typeFunction;
+
+        TypedCellStub(VirtualFlowShim flow, IntFunction<?> typeFunction) {
+            super(flow);
+            this.typeFunction = typeFunction;
+        }
+
+        @Override
+        public void updateIndex(int i) {
+            super.updateIndex(i);
+            // types only records the items the cell was shown for, allTypes
+            // also records the items it measured
+            if (typeFunction != null && i >= 0 && i < flow.getCellCount()) {
+                allTypes.add(typeFunction.apply(i));
+                if (flow.sheetChildren.contains(this)) {
+                    types.add(typeFunction.apply(i));
+                }
+            }
+        }
+
+        @Override
+        protected double computePrefHeight(double width) {
+            int index = getIndex();
+            if (typeFunction == null || index < 0 || index >= flow.getCellCount()) {
+                return 25;
+            }
+            return "A".equals(typeFunction.apply(index)) ? 20 : 40;
+        }
+    }
 }
 
 class GraphicalCellStub extends IndexedCellShim<Node> {
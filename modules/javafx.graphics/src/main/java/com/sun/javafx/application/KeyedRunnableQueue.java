@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+
+package com.sun.javafx.application;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import com.sun.javafx.logging.PulseLogger;
+
+import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
+
+/**
+ * The queue of runnables scheduled with a key by
+ * {@link PlatformImpl#runLater(Object, Runnable)}.
+ *
+ * A runnable that is scheduled with the key of a runnable that is still
+ * pending replaces the pending runnable, but keeps its place in the queue.
+ * The queue is drained once per pulse, for at most the given time budget, so
+ * that a burst of runnables cannot starve input handling and rendering.
+ */
+final class KeyedRunnableQueue {
+
+    private static final class Entry {
+        Runnable runnable;
+        final long enqueueTime;
+
+        Entry(Runnable runnable, long enqueueTime) {
+            this.runnable = runnable;
+            this.enqueueTime = enqueueTime;
+        }
+    }
+
+    private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>();
+    private final LongSupplier clock;
+
+    KeyedRunnableQueue() {
+        this(System::nanoTime);
+    }
+
+    KeyedRunnableQueue(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Schedules the runnable with the given key, replacing the runnable that
+     * is pending for an equal key, if any.
+     *
+     * @return true if the runnable was added to the queue, false if it
+     * replaced a pending runnable
+     */
+    synchronized boolean put(Object key, Runnable runnable) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            entry.runnable = runnable;
+            if (PULSE_LOGGING_ENABLED) {
+                PulseLogger.incrementCounter("Coalesced runLater");
+            }
+            return false;
+        }
+        entries.put(key, new Entry(runnable, clock.getAsLong()));
+        return true;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Runs the pending runnables in order, until the queue is empty or the
+     * time budget is used up. At least one runnable is run, even if it takes
+     * longer than the budget. Exceptions thrown by a runnable are passed to
+     * the uncaught exception handler of the current thread.
+     *
+     * @param budget the time budget in nanoseconds, or a negative value for
+     * no budget at all
+     * @return the number of runnables that were run
+     */
+    int runPending(long budget) {
+        final long start = clock.getAsLong();
+        if (PULSE_LOGGING_ENABLED) {
+            PulseLogger.sampleValue("Keyed runLater queue depth", size());
+        }
+        int count = 0;
+        while (true) {
+            final Entry entry;
+            synchronized (this) {
+                Iterator<Map.Entry<Object, Entry>> it = entries.entrySet().iterator();
+                if (!it.hasNext()) {
+                    break;
+                }
+                entry = it.next().getValue();
+                it.remove();
+            }
+            if (PULSE_LOGGING_ENABLED) {
+                PulseLogger.sampleValue("runLater latency (us)", (clock.getAsLong() - entry.enqueueTime) / 1000);
+            }
+            count++;
+            try {
+                entry.runnable.run();
+            } catch (Throwable t) {
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, t);
+            }
+            if (budget >= 0 && clock.getAsLong() - start >= budget) {
+                break;
+            }
+        }
+        return count;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -32,6 +32,7 @@ import com.sun.javafx.application.preferences.PlatformPreferences;
 import com.sun.javafx.application.preferences.PreferenceMapping;
 import com.sun.javafx.css.StyleManager;
 import com.sun.javafx.tk.TKListener;
+import com.sun.javafx.tk.TKPulseListener;
 import com.sun.javafx.tk.TKStage;
 import com.sun.javafx.tk.Toolkit;
 import com.sun.javafx.util.Logging;
@@ -45,10 +46,12 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
@@ -106,6 +109,16 @@ public class PlatformImpl {
 
     private static final boolean DEBUG = Boolean.getBoolean("com.sun.javafx.application.debug");
 
+    // The time in milliseconds that may be spent per pulse on running the
+    // runnables scheduled with a key, a negative value means no limit
+    private static final long keyedRunLaterBudget = TimeUnit.MILLISECONDS.toNanos(
+            Integer.getInteger("com.sun.javafx.application.runLaterBudget", 5));
+    private static final KeyedRunnableQueue keyedRunnables = new KeyedRunnableQueue();
+    private static final AtomicBoolean keyedRunnablesListenerRegistered = new AtomicBoolean(false);
+    private static final AtomicBoolean keyedRunnablesScheduled = new AtomicBoolean(false);
+    // The toolkit only holds its pulse listeners weakly
+    private static final TKPulseListener keyedRunnablesPulseListener = PlatformImpl::scheduleKeyedRunnables;
+
     /**
      * Set a flag indicating whether this application should show up in the
      * task bar. The default value is true.
@@ -430,6 +443,53 @@ public class PlatformImpl {
         }
     }
 
+    public static void runLater(final Object key, final Runnable r) {
+        Objects.requireNonNull(key, "key cannot be null");
+        Objects.requireNonNull(r, "runnable cannot be null");
+        if (!initialized.get()) {
+            throw new IllegalStateException("Toolkit not initialized");
+        }
+
+        pendingRunnables.incrementAndGet();
+        waitForStart();
+
+        synchronized (runLaterLock) {
+            if (toolkitExit.get() || !keyedRunnables.put(key, r)) {
+                // Either the toolkit has exited, or the runnable replaced
+                // a pending one, which is already counted
+                pendingRunnables.decrementAndGet();
+                return;
+            }
+        }
+
+        final Toolkit tk = Toolkit.getToolkit();
+        if (!keyedRunnablesListenerRegistered.getAndSet(true)) {
+            tk.addStageTkPulseListener(keyedRunnablesPulseListener);
+        }
+        tk.requestNextPulse();
+    }
+
+    private static void scheduleKeyedRunnables() {
+        // Runnables must not run inside the pulse, where nested event loops
+        // cannot be entered, so they are run right after it instead
+        if (keyedRunnables.size() > 0 && !keyedRunnablesScheduled.getAndSet(true)) {
+            Toolkit.getToolkit().defer(PlatformImpl::runKeyedRunnables);
+        }
+    }
+
+    private static void runKeyedRunnables() {
+        keyedRunnablesScheduled.set(false);
+        final int count = keyedRunnables.runPending(keyedRunLaterBudget);
+        if (keyedRunnables.size() > 0) {
+            // Defer the rest to the next pulse
+            Toolkit.getToolkit().requestNextPulse();
+        }
+        if (count > 0) {
+            pendingRunnables.addAndGet(-count);
+            checkIdle();
+        }
+    }
+
     public static void runAndWait(final Runnable r) {
         runAndWait(r, false);
     }
@@ -589,6 +649,9 @@ public class PlatformImpl {
                 Toolkit.getToolkit().exit();
             }, true);
 
+            // Release the keyed runnables that will never run
+            keyedRunnables.clear();
+
             if (isThreadMerged) {
                 removeFwEventQueue();
             }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2013, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -32,6 +32,15 @@ import java.util.Arrays;
  * pointer to the first empty dirty region in the array and index of last
  * modified dirty region. It also introduces convenient methods to modify
  * the array of dirty regions.
+ * <p>
+ * Dirty regions are merged based on a simple cost model: painting a region
+ * costs its area plus a fixed per-region overhead, which accounts for the
+ * extra scene graph traversal, clip change and draw calls needed for every
+ * region. A new region is merged with an existing one whenever the area
+ * wasted by painting their union is not larger than that overhead, and when
+ * the container is full the pair of regions whose union wastes the least
+ * area is merged. With a zero overhead only intersecting regions are merged
+ * until the container is full.
  */
 public final class DirtyRegionContainer {
 
@@ -40,8 +49,22 @@ public final class DirtyRegionContainer {
 
     private RectBounds[] dirtyRegions;
     private int emptyIndex;
+    private final float regionOverhead;
+    private double dirtyArea;
+    private RectBounds tmpRegion;
 
     public DirtyRegionContainer(int count) {
+        this(count, 0);
+    }
+
+    /**
+     * Creates a new container.
+     * @param count the maximum number of dirty regions
+     * @param regionOverhead the cost of painting one more region, expressed
+     *        as an area in square pixels
+     */
+    public DirtyRegionContainer(int count, float regionOverhead) {
+        this.regionOverhead = regionOverhead;
         initDirtyRegions(count);
     }
 
@@ -115,9 +138,10 @@ public final class DirtyRegionContainer {
     }
 
     public DirtyRegionContainer copy() {
-        DirtyRegionContainer drc = new DirtyRegionContainer(maxSpace());
+        DirtyRegionContainer drc = new DirtyRegionContainer(maxSpace(), regionOverhead);
         regioncopy(dirtyRegions, 0, drc.dirtyRegions, 0, emptyIndex);
         drc.emptyIndex = emptyIndex;
+        drc.dirtyArea = dirtyArea;
         return drc;
     }
 
@@ -125,6 +149,32 @@ public final class DirtyRegionContainer {
         return dirtyRegions.length;
     }
 
+    public float getRegionOverhead() {
+        return regionOverhead;
+    }
+
+    /**
+     * Gets the sum of the areas of all regions added to this container
+     * since it was last reset, before any of them were merged.
+     * @return the dirty area in square pixels
+     */
+    public double getDirtyArea() {
+        return dirtyArea;
+    }
+
+    /**
+     * Gets the sum of the areas of the dirty regions currently held by this
+     * container, that is the area which is going to be painted.
+     * @return the painted area in square pixels
+     */
+    public double getPaintedArea() {
+        double area = 0;
+        for (int i = 0; i < emptyIndex; i++) {
+            area += area(dirtyRegions[i]);
+        }
+        return area;
+    }
+
     /**
      * Gets the dirty region at given index.
      * @param index the index of requested dirty region
@@ -143,10 +193,16 @@ public final class DirtyRegionContainer {
      * @param region the dirty region.
      */
     public void addDirtyRegion(final RectBounds region) {
-            if (region.isEmpty())
-                return;
+        if (region.isEmpty())
+            return;
 
-            RectBounds dr, tmp;
+        dirtyArea += area(region);
+        insert(region);
+    }
+
+    private void insert(final RectBounds region) {
+        RectBounds dr, tmp;
+        do {
             int tempIndex = 0;
             int regionCount = emptyIndex;
 
@@ -163,17 +219,20 @@ public final class DirtyRegionContainer {
                     tempIndex++;
                 }
             }//for
-            if (hasSpace()) {
-                dr = dirtyRegions[emptyIndex];
-                dr.deriveWithNewBounds(region);
-                emptyIndex++;
-                return;
-            }
-            //match region into existing dirty regions
-            if (dirtyRegions.length == 1)
-                dirtyRegions[0].deriveWithUnion(region);
-            else
-                compress(region);
+            // a merged union may intersect other regions, so check them again
+        } while (regionOverhead > 0 && mergeWithCheapest(region));
+
+        if (hasSpace()) {
+            dr = dirtyRegions[emptyIndex];
+            dr.deriveWithNewBounds(region);
+            emptyIndex++;
+            return;
+        }
+        //match region into existing dirty regions
+        if (dirtyRegions.length == 1)
+            dirtyRegions[0].deriveWithUnion(region);
+        else
+            compress(region);
     }
 
     public void merge(DirtyRegionContainer other) {
@@ -189,12 +248,106 @@ public final class DirtyRegionContainer {
 
     public void reset() {
         emptyIndex = 0;
+        dirtyArea = 0;
+    }
+
+    /**
+     * Merges the region with the existing region for which painting the
+     * union wastes the least area, if that waste does not exceed the
+     * per-region overhead.
+     * @return true if the region was merged with an existing region
+     */
+    private boolean mergeWithCheapest(final RectBounds region) {
+        int best = -1;
+        double bestCost = 0;
+        for (int i = 0; i < emptyIndex; i++) {
+            double cost = mergeCost(region, dirtyRegions[i]);
+            if (cost <= bestCost) {
+                best = i;
+                bestCost = cost;
+            }
+        }
+        if (best < 0) {
+            return false;
+        }
+        region.unionWith(dirtyRegions[best]);
+        remove(best);
+        return true;
+    }
+
+    /**
+     * Makes room for the given region by merging the cheapest pair of
+     * regions, where the new region itself is one of the candidates.
+     */
+    private void compress(final RectBounds region) {
+        assert dirtyRegions.length == emptyIndex; // call only when there is no space left
+        int best0 = -1;
+        int best1 = -1;
+        double bestCost = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < emptyIndex; i++) {
+            double cost = mergeCost(region, dirtyRegions[i]);
+            if (cost < bestCost) {
+                best0 = -1;
+                best1 = i;
+                bestCost = cost;
+            }
+        }
+        for (int i = 0; i < emptyIndex - 1; i++) {
+            for (int j = i + 1; j < emptyIndex; j++) {
+                double cost = mergeCost(dirtyRegions[i], dirtyRegions[j]);
+                if (cost < bestCost) {
+                    best0 = i;
+                    best1 = j;
+                    bestCost = cost;
+                }
+            }
+        }
+
+        if (best0 < 0) {
+            region.unionWith(dirtyRegions[best1]);
+            remove(best1);
+        } else {
+            // best0 < best1, so removing best1 leaves best0 in place. The
+            // union is inserted again as it may intersect other regions.
+            if (tmpRegion == null) {
+                tmpRegion = new RectBounds();
+            }
+            tmpRegion.deriveWithNewBounds(dirtyRegions[best0]);
+            tmpRegion.unionWith(dirtyRegions[best1]);
+            remove(best1);
+            remove(best0);
+            insert(tmpRegion);
+        }
+        insert(region);
+    }
+
+    /**
+     * Removes the region at the given index by swapping it with the last
+     * region.
+     */
+    private void remove(int index) {
+        RectBounds tmp = dirtyRegions[index];
+        dirtyRegions[index] = dirtyRegions[emptyIndex - 1];
+        dirtyRegions[emptyIndex - 1] = tmp;
+        emptyIndex--;
+    }
+
+    /**
+     * Computes the change of the total cost when the two given regions are
+     * painted as their union instead of separately. A negative or zero value
+     * means that merging the regions is worth it.
+     */
+    private double mergeCost(RectBounds r0, RectBounds r1) {
+        float minX = Math.min(r0.getMinX(), r1.getMinX());
+        float minY = Math.min(r0.getMinY(), r1.getMinY());
+        float maxX = Math.max(r0.getMaxX(), r1.getMaxX());
+        float maxY = Math.max(r0.getMaxY(), r1.getMaxY());
+        double union = (double) (maxX - minX) * (maxY - minY);
+        return union - area(r0) - area(r1) - regionOverhead;
     }
 
-    private RectBounds compress(final RectBounds region) {
-        compress_heap();
-        addDirtyRegion(region);
-        return region;
+    private static double area(RectBounds r) {
+        return (double) r.getWidth() * r.getHeight();
     }
 
     /**
@@ -220,7 +373,10 @@ public final class DirtyRegionContainer {
     public boolean checkAndClearRegion(int index) {
         boolean removed = false;
         if (dirtyRegions[index].isEmpty()) {
+            // keep the removed instance, so that no two slots share a region
+            RectBounds tmp = dirtyRegions[index];
             System.arraycopy(dirtyRegions, index + 1, dirtyRegions, index, emptyIndex - index - 1);
+            dirtyRegions[emptyIndex - 1] = tmp;
             --emptyIndex;
             removed = true;
         }
@@ -251,175 +407,4 @@ public final class DirtyRegionContainer {
         }
         return sb.toString();
     }
-
-    /***************************************************************************
-     * Shared for all compressing algorithms
-     ***************************************************************************/
-    private int[][] heap; // heap used for compressing dirty regions
-    private int heapSize;
-    private long invalidMask;
-
-    private void heapCompress() {
-        invalidMask = 0;
-        int[] map = new int[dirtyRegions.length];
-        for (int i = 0; i < map.length; ++i) {
-            map[i] = i;
-        }
-
-        int[] min;
-        for (int i = 0; i < dirtyRegions.length / 2; ++i) { //compress to 1/2
-            min = takeMinWithMap(map);
-            int idx0 = resolveMap(map, min[1]);
-            int idx1 = resolveMap(map, min[2]);
-            if (idx0 != idx1) {
-                dirtyRegions[idx0].deriveWithUnion(dirtyRegions[idx1]);
-                map[idx1] = idx0;
-                invalidMask |= 1 << idx0;
-                invalidMask |= 1 << idx1;
-            }
-        }
-
-        // move the unused regions to the end
-        RectBounds tmp;
-        for (int i = 0; i < emptyIndex; ++i) {
-            if (map[i] != i) {
-                while(map[emptyIndex - 1] != emptyIndex - 1 ) --emptyIndex;
-                if (i < emptyIndex - 1) {
-                    tmp = dirtyRegions[emptyIndex - 1];
-                    dirtyRegions[emptyIndex - 1] = dirtyRegions[i];
-                    dirtyRegions[i] = tmp;
-                    map[i] = i; // indicate that this element is OK
-                    --emptyIndex;
-                }
-            }
-        }
-    }
-
-    private void heapify() {
-        for (int i = heapSize / 2; i >= 0; --i) {
-            siftDown(i);
-        }
-    }
-
-    private void siftDown(int i) {
-        int end = heapSize >> 1;
-        int[] temp;
-        while (i < end) {
-            int child = (i << 1) + 1;
-            int[] left = heap[child];
-            if (child + 1 < heapSize && heap[child + 1][0] < left[0]) {
-                child = child + 1;
-            }
-            if (heap[child][0] >= heap[i][0]) {
-                break;
-            }
-            temp = heap[child];
-            heap[child] = heap[i];
-            heap[i] = temp;
-            i = child;
-        }
-    }
-
-    private int[] takeMinWithMap(int[] map) {
-        int[] temp = heap[0];
-
-        // Check if the minimum element wasn't computed with some already merged region
-        // If so, we can recompute it and push it down (as the new merged region can be
-        // only greater than the original region)
-        while (((1 << temp[1] | 1 << temp[2]) & invalidMask) > 0) {
-            temp[0] = unifiedRegionArea(resolveMap(map, temp[1]), resolveMap(map, temp[2]));
-            siftDown(0);
-            if (heap[0] == temp) {
-                break;
-            }
-            temp = heap[0];
-        }
-
-        heap[heapSize - 1] = temp;
-        siftDown(0);
-        heapSize--;
-        return temp;
-    }
-
-    private int[] takeMin() {
-        int[] temp = heap[0];
-        heap[0] = heap[heapSize - 1];
-        heap[heapSize - 1] = temp;
-        siftDown(0);
-        heapSize--;
-        return temp;
-    }
-
-    private int resolveMap(int[] map, int idx) {
-        while(map[idx] != idx) idx = map[idx];
-        return idx;
-    }
-
-    private int unifiedRegionArea(int i0, int i1) {
-        RectBounds r0 = dirtyRegions[i0];
-        RectBounds r1 = dirtyRegions[i1];
-        float minX, minY, maxX, maxY;
-        minX = r0.getMinX() < r1.getMinX() ? r0.getMinX() : r1.getMinX();
-        minY = r0.getMinY() < r1.getMinY() ? r0.getMinY() : r1.getMinY();
-        maxX = r0.getMaxX() > r1.getMaxX() ? r0.getMaxX() : r1.getMaxX();
-        maxY = r0.getMaxY() > r1.getMaxY() ? r0.getMaxY() : r1.getMaxY();
-
-        return (int) ((maxX - minX) * (maxY - minY));
-    }
-    /***************************************************************************
-     * Heap-based compressing algorithm
-     ***************************************************************************/
-
-    private void compress_heap() {
-        assert dirtyRegions.length == emptyIndex; // call only when there is no space left
-        if (heap == null) {
-            int n = dirtyRegions.length;
-            heap = new int[n * (n-1) / 2][3];
-        }
-        heapSize = heap.length;
-        int k = 0;
-        for (int i = 0; i < dirtyRegions.length - 1; ++i) {
-            for (int j = i + 1; j < dirtyRegions.length; ++j) {
-                heap[k][0] = unifiedRegionArea(i, j);
-                heap[k][1] = i;
-                heap[k++][2] = j;
-            }
-        }
-        heapify();
-        heapCompress();
-    }
-
-    /***************************************************************************
-     * Simple Monte-Carlo variant of compressing algorithm
-     ***************************************************************************/
-
-//    private void compress_mc() {
-//        assert dirtyRegions.length == emptyIndex; // call only when there is no space left
-//        heapSize = dirtyRegions.length;
-//        if (heap == null) {
-//            heap = new int[heapSize][3];
-//        }
-//        for (int i = 0; i < heapSize; ++i) { //number of tries
-//            int i0 = random(dirtyRegions.length);
-//            int i1 = random(dirtyRegions.length);
-//            if (i1 == i0) i1 = (i0 + random(dirtyRegions.length / 2) + 1) % dirtyRegions.length;
-//            heap[i][0] = unifiedRegionArea(i0, i1);
-//            heap[i][1] = i0;
-//            heap[i][2] = i1;
-//        }
-//        heapify();
-//        heapCompress();
-//    }
-//
-//    private static long rnd = System.currentTimeMillis();
-//    // XOR Random generator by George Marsaglia http://www.jstatsoft.org/v08/i14/
-//    // The LCG algorithm of Random() has an upleasant trait that the numbers generated in
-//    // pairs always have some (tight) mathematical relationship
-//    private int random(int n) {
-//        rnd ^= (rnd << 21);
-//        rnd ^= (rnd >>> 35);
-//        rnd ^= (rnd << 4);
-//        return (int) ((rnd) % n + n) % n;     // the problem with this algorithm is that 0 is never produced.
-//                                              // Given it's independed probability for every bit, we can safely do % n here
-//    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -398,6 +398,30 @@ public class GrowableDataBuffer {
         putInt(Float.floatToIntBits(f));
     }
 
+    /**
+     * Encode a sequence of double values as float values and write them to
+     * the end of the byte-encoding array.
+     * This is equivalent to, but more efficient than, calling
+     * {@link #putFloat(float)} for each value.
+     *
+     * @param src the array containing the values to be written
+     * @param offset the index of the first value to be written
+     * @param count the number of values to be written
+     */
+    public void putFloats(double[] src, int offset, int count) {
+        ensureWriteCapacity(count * 4);
+        final byte[] vals = this.vals;
+        int pos = writevalpos;
+        for (int i = offset, end = offset + count; i < end; i++) {
+            int bits = Float.floatToIntBits((float) src[i]);
+            vals[pos++] = (byte) (bits >> 24);
+            vals[pos++] = (byte) (bits >> 16);
+            vals[pos++] = (byte) (bits >>  8);
+            vals[pos++] = (byte) (bits      );
+        }
+        writevalpos = pos;
+    }
+
     /**
      * Encode a double value and write it to the end of the byte-encoding array
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -115,6 +115,8 @@ public class NGCanvas extends NGNode {
     public static final byte STROKE_ARC        = OP_BASE + 9;
     public static final byte FILL_TEXT         = OP_BASE + 10;
     public static final byte STROKE_TEXT       = OP_BASE + 11;
+    public static final byte FILL_RECTS        = OP_BASE + 12;
+    public static final byte STROKE_LINES      = OP_BASE + 13;
 
     public static final byte                PATH_BASE = 40;
     public static final byte PATHSTART    = PATH_BASE + 0;
@@ -1045,7 +1047,9 @@ public class NGCanvas extends NGNode {
                 case FILL_PATH:
                 case STROKE_PATH:
                 case STROKE_LINE:
+                case STROKE_LINES:
                 case FILL_RECT:
+                case FILL_RECTS:
                 case CLEAR_RECT:
                 case STROKE_RECT:
                 case FILL_OVAL:
@@ -1223,6 +1227,77 @@ public class NGCanvas extends NGNode {
                 }
                 break;
             }
+            case STROKE_LINES:
+            {
+                // A batch of lines is rendered with a single setup of the
+                // stroke, and its bounds are the union of the line bounds
+                int n = buf.getInt();
+                float minx = Float.POSITIVE_INFINITY, miny = Float.POSITIVE_INFINITY;
+                float maxx = Float.NEGATIVE_INFINITY, maxy = Float.NEGATIVE_INFINITY;
+                if (gr != null) {
+                    setupStroke(gr);
+                }
+                for (int i = 0; i < n; i++) {
+                    float x1 = buf.getFloat();
+                    float y1 = buf.getFloat();
+                    float x2 = buf.getFloat();
+                    float y2 = buf.getFloat();
+                    if (bounds != null) {
+                        minx = Math.min(minx, Math.min(x1, x2));
+                        miny = Math.min(miny, Math.min(y1, y2));
+                        maxx = Math.max(maxx, Math.max(x1, x2));
+                        maxy = Math.max(maxy, Math.max(y1, y2));
+                    }
+                    if (gr != null) {
+                        gr.drawLine(x1, y1, x2, y2);
+                    }
+                }
+                if (bounds != null) {
+                    if (minx <= maxx && miny <= maxy) {
+                        bounds.setBounds(minx, miny, maxx, maxy);
+                        strokeBounds = true;
+                        transformBounds = true;
+                    } else {
+                        bounds.makeEmpty();
+                    }
+                }
+                break;
+            }
+            case FILL_RECTS:
+            {
+                // A batch of rectangles is rendered with a single setup of
+                // the fill, and its bounds are the union of the rectangles
+                int n = buf.getInt();
+                float minx = Float.POSITIVE_INFINITY, miny = Float.POSITIVE_INFINITY;
+                float maxx = Float.NEGATIVE_INFINITY, maxy = Float.NEGATIVE_INFINITY;
+                if (gr != null) {
+                    setupFill(gr);
+                }
+                for (int i = 0; i < n; i++) {
+                    float x = buf.getFloat();
+                    float y = buf.getFloat();
+                    float w = buf.getFloat();
+                    float h = buf.getFloat();
+                    if (bounds != null && w > 0 && h > 0) {
+                        minx = Math.min(minx, x);
+                        miny = Math.min(miny, y);
+                        maxx = Math.max(maxx, x + w);
+                        maxy = Math.max(maxy, y + h);
+                    }
+                    if (gr != null) {
+                        gr.fillRect(x, y, w, h);
+                    }
+                }
+                if (bounds != null) {
+                    if (minx <= maxx && miny <= maxy) {
+                        bounds.setBounds(minx, miny, maxx, maxy);
+                        transformBounds = true;
+                    } else {
+                        bounds.makeEmpty();
+                    }
+                }
+                break;
+            }
             case STROKE_RECT:
             case STROKE_OVAL:
                 strokeBounds = true;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -28,16 +28,21 @@ package com.sun.javafx.sg.prism;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import com.sun.javafx.geom.BaseBounds;
 import com.sun.javafx.geom.DirtyRegionContainer;
 import com.sun.javafx.geom.RectBounds;
 import com.sun.javafx.geom.Rectangle;
 import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.javafx.geom.transform.GeneralTransform3D;
+import com.sun.javafx.logging.PulseLogger;
 import com.sun.javafx.scene.NodeHelper;
 import com.sun.prism.Graphics;
+import com.sun.prism.impl.PrismSettings;
 import com.sun.scenario.effect.Blend;
 import javafx.scene.Node;
 
+import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
+
 public class NGGroup extends NGNode {
 
     // NOTE I need a special array list here where all nodes added can have
@@ -64,6 +69,34 @@ public class NGGroup extends NGNode {
      */
     private static final int REGION_INTERSECTS_MASK = 0x15555555;
 
+    /**
+     * The maximum number of sibling occluders tracked while rendering the
+     * children of a group. When more opaque children are found, only the
+     * largest ones are kept.
+     */
+    private static final int MAX_OCCLUDERS = 4;
+
+    /**
+     * Scratch state for the sibling occlusion pass in renderContent. The pass
+     * completes before any child is rendered, so this can be shared by all
+     * groups. It is only ever used on the render thread.
+     */
+    private static final RectBounds[] occluders = new RectBounds[MAX_OCCLUDERS];
+    private static final RectBounds TEMP_CHILD_BOUNDS = new RectBounds();
+    private static BaseBounds tempDeviceBounds = new RectBounds();
+    static {
+        for (int i = 0; i < MAX_OCCLUDERS; i++) {
+            occluders[i] = new RectBounds();
+        }
+    }
+
+    /**
+     * For each child, whether it was found to be completely covered by the
+     * opaque regions of the children drawn after it during the current call
+     * to renderContent.
+     */
+    private boolean[] occludedChildren;
+
     /**
      * Gets an unmodifiable list of the current children on this group
      */
@@ -213,12 +246,136 @@ public class NGGroup extends NGNode {
         }
 
         // Guard against case where renderRoot is not part of orderedChildren
-        for (int i = (startPos == -1 ? 0 : startPos); i < orderedChildren.size(); i++) {
+        final int first = startPos == -1 ? 0 : startPos;
+        final int size = orderedChildren.size();
+        if (PULSE_LOGGING_ENABLED && first > 0) {
+            PulseLogger.incrementCounter("Nodes culled below render root", first);
+        }
+
+        // The child on the render root path must always be rendered, so that
+        // the rest of the path is consumed.
+        final boolean occluded = size - first > 1 && computeOccludedChildren(g, orderedChildren,
+                g.getRenderRoot() != null ? first + 1 : first, size);
+        for (int i = first; i < size; i++) {
             NGNode child = orderedChildren.get(i);
+            if (occluded && occludedChildren[i]) {
+                continue;
+            }
             child.render(g);
         }
     }
 
+    /**
+     * Finds the children, in the range [from, to) of the ordered children,
+     * which are completely covered by the opaque region of a child drawn after
+     * them, and so do not have to be rendered at all. This complements the
+     * render root search, which only finds a single node covering the whole
+     * dirty region, by also finding occluded siblings when the dirty region
+     * is larger than any single occluder, for example for a stack of panes
+     * or the hidden tabs of a tab pane.
+     *
+     * Opaque regions are only used as occluders when they map to an axis
+     * aligned rectangle in device space. The occluded children are recorded
+     * in occludedChildren.
+     *
+     * @return true if at least one child is occluded
+     */
+    private boolean computeOccludedChildren(Graphics g, List<NGNode> orderedChildren, int from, int to) {
+        if (!PrismSettings.occlusionCullingEnabled || (g.isDepthTest() && g.isDepthBuffer()) ||
+                g.getCameraNoClone() instanceof NGPerspectiveCamera) {
+            return false;
+        }
+        final BaseTransform tx = g.getTransformNoClone();
+        if (!tx.is2D()) {
+            return false;
+        }
+
+        if (occludedChildren == null || occludedChildren.length < to) {
+            occludedChildren = new boolean[Math.max(to, 4)];
+        }
+        int numOccluders = 0;
+        int numOccluded = 0;
+        // Visit the children from the top-most down, so that every child is
+        // tested against the occluders drawn above it
+        for (int i = to - 1; i >= from; i--) {
+            final NGNode child = orderedChildren.get(i);
+            occludedChildren[i] = false;
+            if (!child.isVisible() || child.getOpacity() == 0f) {
+                continue;
+            }
+
+            if (numOccluders > 0 && !child.transformedBounds.isEmpty()) {
+                tempDeviceBounds = tx.transform(child.transformedBounds, tempDeviceBounds);
+                tempDeviceBounds.flattenInto(TEMP_CHILD_BOUNDS);
+                boolean covered = false;
+                for (int j = 0; j < numOccluders; j++) {
+                    if (occluders[j].contains(TEMP_CHILD_BOUNDS)) {
+                        covered = true;
+                        break;
+                    }
+                }
+                if (covered) {
+                    occludedChildren[i] = true;
+                    numOccluded++;
+                    continue;
+                }
+            }
+
+            if (i == from) {
+                // nothing left below this child to occlude
+                break;
+            }
+            final RectBounds opaqueRegion = child.getOpaqueRegion();
+            if (opaqueRegion == null || opaqueRegion.isEmpty()) {
+                continue;
+            }
+            final BaseTransform childTx = TEMP_TRANSFORM.deriveWithNewTransform(tx).deriveWithConcatenation(child.getTransform());
+            if ((childTx.getType() & ~(BaseTransform.TYPE_TRANSLATION
+                    | BaseTransform.TYPE_QUADRANT_ROTATION
+                    | BaseTransform.TYPE_MASK_SCALE)) != 0) {
+                continue;
+            }
+            tempDeviceBounds = childTx.transform(opaqueRegion, tempDeviceBounds);
+            tempDeviceBounds.flattenInto(TEMP_CHILD_BOUNDS);
+            numOccluders = addOccluder(TEMP_CHILD_BOUNDS, numOccluders);
+        }
+
+        if (numOccluded > 0 && PULSE_LOGGING_ENABLED) {
+            PulseLogger.incrementCounter("Nodes culled by sibling occlusion", numOccluded);
+        }
+        return numOccluded > 0;
+    }
+
+    /**
+     * Adds the given device space rectangle to the occluders, replacing the
+     * smallest occluder if the maximum number of occluders was reached.
+     *
+     * @return the new number of occluders
+     */
+    private static int addOccluder(RectBounds bounds, int numOccluders) {
+        if (numOccluders < MAX_OCCLUDERS) {
+            occluders[numOccluders].setBounds(bounds);
+            return numOccluders + 1;
+        }
+        int smallest = 0;
+        float smallestArea = area(occluders[0]);
+        for (int j = 1; j < MAX_OCCLUDERS; j++) {
+            float a = area(occluders[j]);
+            if (a < smallestArea) {
+                smallest = j;
+                smallestArea = a;
+            }
+        }
+        if (area(bounds) > smallestArea) {
+            occluders[smallest].setBounds(bounds);
+        }
+        return numOccluders;
+    }
+
+    private static float area(RectBounds b) {
+        return b.getWidth() * b.getHeight();
+    }
+
     @Override
     protected boolean hasOverlappingContents() {
         List<NGNode> orderedChildren = getOrderedChildren();
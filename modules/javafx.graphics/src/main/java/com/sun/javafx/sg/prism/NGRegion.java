@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -46,8 +46,8 @@ import javafx.scene.shape.StrokeLineCap;
 import javafx.scene.shape.StrokeLineJoin;
 import javafx.scene.shape.StrokeType;
 
-import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.WeakHashMap;
 
 import com.sun.glass.ui.Screen;
@@ -197,6 +197,30 @@ public class NGRegion extends NGGroup {
      */
     private Integer cacheKey;
 
+    /**
+     * The recorded commands used to draw the background fills of this region
+     * when it is rendered as a (rounded) rectangle without using the image
+     * cache. It is recorded on first use and replayed until the size, the
+     * background or the normalized fill corners change. Null if it needs to
+     * be recorded again.
+     */
+    private RegionDisplayList backgroundDisplayList;
+
+    /**
+     * The recorded commands used to draw the border strokes of this region
+     * when it is rendered as a (rounded) rectangle. Null if it needs to be
+     * recorded again.
+     */
+    private RegionDisplayList borderDisplayList;
+
+    /**
+     * Scratch display list used for commands which cannot be retained, for
+     * example because a paint is mutable. Because this is a static variable,
+     * it is only intended to be used from a single thread, the render thread
+     * in this case.
+     */
+    private static final RegionDisplayList SCRATCH_DISPLAY_LIST = new RegionDisplayList();
+
     /**
      * Simple Helper Function for cleanup.
      */
@@ -236,6 +260,8 @@ public class NGRegion extends NGGroup {
         // is also called, so this will get invalidated twice.
         invalidateOpaqueRegion();
         cacheKey = null;
+        backgroundDisplayList = null;
+        borderDisplayList = null;
         visualsChanged();
     }
 
@@ -251,6 +277,8 @@ public class NGRegion extends NGGroup {
         this.height = height;
         invalidateOpaqueRegion();
         cacheKey = null;
+        backgroundDisplayList = null;
+        borderDisplayList = null;
         visualsChanged();
         // We only have to clear the background insets when the size changes if the
         // background has fills who's insets are dependent on the size (as would be
@@ -280,6 +308,7 @@ public class NGRegion extends NGGroup {
         // Make sure that the border instance we store on this NGRegion is never null
         final Border old = border;
         border = b == null ? Border.EMPTY : b;
+        borderDisplayList = null;
 
         // Determine whether the geometry has changed, or if only the visuals have
         // changed. Geometry changes will require more work, and an equals check
@@ -306,6 +335,9 @@ public class NGRegion extends NGGroup {
      *        BorderStroke objects that are not percentages and do not overflow
      */
     public void updateStrokeCorners(List<CornerRadii> normalizedStrokeCorners) {
+        if (!Objects.equals(this.normalizedStrokeCorners, normalizedStrokeCorners)) {
+            borderDisplayList = null;
+        }
         this.normalizedStrokeCorners = normalizedStrokeCorners;
     }
 
@@ -374,6 +406,7 @@ public class NGRegion extends NGGroup {
         }
         backgroundInsets = null;
         cacheKey = null;
+        backgroundDisplayList = null;
 
         // Only update the geom if the new background is geometrically different from the old
         if (!background.getOutsets().equals(old.getOutsets())) {
@@ -396,6 +429,9 @@ public class NGRegion extends NGGroup {
      *        BackgroundFill objects that are not percentages and do not overflow
      */
     public void updateFillCorners(List<CornerRadii> normalizedFillCorners) {
+        if (!Objects.equals(this.normalizedFillCorners, normalizedFillCorners)) {
+            backgroundDisplayList = null;
+        }
         this.normalizedFillCorners = normalizedFillCorners;
     }
 
@@ -486,6 +522,14 @@ public class NGRegion extends NGGroup {
         return cacheKey;
     }
 
+    boolean isBackgroundDisplayListRetained() {
+        return backgroundDisplayList != null;
+    }
+
+    boolean isBorderDisplayListRetained() {
+        return borderDisplayList != null;
+    }
+
     @Override protected boolean supportsOpaqueRegions() { return true; }
 
     @Override
@@ -679,10 +723,13 @@ public class NGRegion extends NGGroup {
                 final BorderStroke stroke = strokes.get(i);
                 // We're stroking a path, so there is no point trying to figure out the length.
                 // Instead, we just pass -1, telling setBorderStyle to just do a simple stroke
-                setBorderStyle(g, stroke, -1, false);
+                final RegionDisplayList dl = SCRATCH_DISPLAY_LIST;
+                setBorderStyle(dl, stroke, -1, false);
                 final Insets insets = stroke.getInsets();
-                g.draw(resizeShape((float) insets.getTop(), (float) insets.getRight(),
-                                   (float) insets.getBottom(), (float) insets.getLeft()));
+                dl.draw(resizeShape((float) insets.getTop(), (float) insets.getRight(),
+                                    (float) insets.getBottom(), (float) insets.getLeft()));
+                dl.replay(g);
+                dl.reset();
             }
         }
     }
@@ -1080,6 +1127,38 @@ public class NGRegion extends NGGroup {
     }
 
     private void renderBackgroundRectanglesDirectly(Graphics g, float width, float height) {
+        // The display list can only be retained when it is recorded for the actual size of the
+        // region, and not for the reduced size used to render into the region image cache
+        if (width == this.width && height == this.height) {
+            if (backgroundDisplayList == null) {
+                // Record into the scratch list first, so that nothing is allocated
+                // on every frame when a paint is mutable and the list cannot be retained
+                final RegionDisplayList dl = SCRATCH_DISPLAY_LIST;
+                final boolean retainable = recordBackgroundRectangles(dl, width, height);
+                if (!retainable) {
+                    dl.replay(g);
+                    dl.reset();
+                    return;
+                }
+                backgroundDisplayList = dl.copy();
+                dl.reset();
+            }
+            backgroundDisplayList.replay(g);
+        } else {
+            final RegionDisplayList dl = SCRATCH_DISPLAY_LIST;
+            recordBackgroundRectangles(dl, width, height);
+            dl.replay(g);
+            dl.reset();
+        }
+    }
+
+    /**
+     * Records the commands needed to draw the background fills as rectangles of the given size.
+     *
+     * @return true if the recorded commands can be retained, false if any of the paints is mutable
+     */
+    private boolean recordBackgroundRectangles(RegionDisplayList dl, float width, float height) {
+        boolean retainable = true;
         final List<BackgroundFill> fills = background.getFills();
         for (int i = 0, max = fills.size(); i < max; i++) {
             final BackgroundFill fill = fills.get(i);
@@ -1097,7 +1176,8 @@ public class NGRegion extends NGGroup {
             if (w > 0 && h > 0) {
                 // Could optimize this such that if paint is transparent then we go no further.
                 final Paint paint = getPlatformPaint(fill.getFill());
-                g.setPaint(paint);
+                retainable &= !Toolkit.getPaintAccessor().isMutable(fill.getFill());
+                dl.setPaint(paint);
                 final CornerRadii radii = getNormalizedFillRadii(i);
                 // This is a workaround for JDK-8087965 so we use path rasterizer for small radius's We are
                 // keeping old rendering. We do not apply workaround when using Caspian or Embedded
@@ -1109,7 +1189,7 @@ public class NGRegion extends NGGroup {
                     float tlvr = (float) radii.getTopLeftVerticalRadius();
                     if (tlhr == 0 && tlvr == 0) {
                         // The edges are square, so we can do a simple fill rect
-                        g.fillRect(l, t, w, h);
+                        dl.fillRect(l, t, w, h);
                     } else {
                         // The edges are rounded, so we need to compute the arc width and arc height
                         // and fill a round rect
@@ -1120,7 +1200,7 @@ public class NGRegion extends NGGroup {
                         // the look of a circle on that corner)
                         if (arcWidth > w) arcWidth = w;
                         if (arcHeight > h) arcHeight = h;
-                        g.fillRoundRect(l, t, w, h, arcWidth, arcHeight);
+                        dl.fillRoundRect(l, t, w, h, arcWidth, arcHeight);
                     }
                 } else {
                     if (PULSE_LOGGING_ENABLED) {
@@ -1131,15 +1211,43 @@ public class NGRegion extends NGGroup {
                     // TODO document the issue number which will give us a fast path for rendering
                     // non-uniform corners, and that we want to implement that instead of createPath2
                     // below in such cases. (JDK-8090743)
-                    g.fill(createPath(width, height, t, l, b, r, radii));
+                    dl.fill(createPath(width, height, t, l, b, r, radii));
                 }
             }
         }
+        return retainable;
     }
 
     private void renderBorderRectangle(Graphics g) {
         final List<BorderImage> images = border.getImages();
-        final List<BorderStroke> strokes = images.isEmpty() ? border.getStrokes() : Collections.emptyList();
+        if (images.isEmpty()) {
+            if (borderDisplayList == null) {
+                // Record into the scratch list first, so that nothing is allocated
+                // on every frame when a paint is mutable and the list cannot be retained
+                final RegionDisplayList dl = SCRATCH_DISPLAY_LIST;
+                final boolean retainable = recordBorderRectangleStrokes(dl);
+                if (!retainable) {
+                    dl.replay(g);
+                    dl.reset();
+                    return;
+                }
+                borderDisplayList = dl.copy();
+                dl.reset();
+            }
+            borderDisplayList.replay(g);
+            return;
+        }
+        renderBorderRectangleImages(g, images);
+    }
+
+    /**
+     * Records the commands needed to draw the border strokes as a (rounded) rectangle.
+     *
+     * @return true if the recorded commands can be retained, false if any of the paints is mutable
+     */
+    private boolean recordBorderRectangleStrokes(RegionDisplayList dl) {
+        boolean retainable = true;
+        final List<BorderStroke> strokes = border.getStrokes();
         for (int i = 0, max = strokes.size(); i < max; i++) {
             final BorderStroke stroke = strokes.get(i);
             final BorderWidths widths = stroke.getWidths();
@@ -1150,6 +1258,10 @@ public class NGRegion extends NGGroup {
             final javafx.scene.paint.Paint rightStroke = stroke.getRightStroke();
             final javafx.scene.paint.Paint bottomStroke = stroke.getBottomStroke();
             final javafx.scene.paint.Paint leftStroke = stroke.getLeftStroke();
+            retainable &= !(Toolkit.getPaintAccessor().isMutable(topStroke) ||
+                            Toolkit.getPaintAccessor().isMutable(rightStroke) ||
+                            Toolkit.getPaintAccessor().isMutable(bottomStroke) ||
+                            Toolkit.getPaintAccessor().isMutable(leftStroke));
 
             final float topInset = (float) insets.getTop();
             final float rightInset = (float) insets.getRight();
@@ -1207,22 +1319,22 @@ public class NGRegion extends NGGroup {
                             2 * (h - di);
 
                     if (w >= 0 && h >= 0) {
-                        setBorderStyle(g, stroke, totalLineLength, true);
+                        setBorderStyle(dl, stroke, totalLineLength, true);
                         if (radii.isUniform() && radius == 0) {
                             // We're just drawing a squared stroke on all four sides of the same style
                             // and width and color, so a simple drawRect call is all that is needed.
-                            g.drawRect(l, t, w, h);
+                            dl.drawRect(l, t, w, h);
                         } else if (radii.isUniform()) {
                             // The radii are uniform, but are not squared up, so we have to
                             // draw a rounded rectangle.
                             float ar = radius + radius;
                             if (ar > w) ar = w;
                             if (ar > h) ar = h;
-                            g.drawRoundRect(l, t, w, h, ar, ar);
+                            dl.drawRoundRect(l, t, w, h, ar, ar);
                         } else {
                             // We do not have uniform radii, so we need to create a path that represents
                             // the stroke and then draw that.
-                            g.draw(createPath(width, height, t, l, b, r, radii));
+                            dl.draw(createPath(width, height, t, l, b, r, radii));
                         }
                     }
                 }
@@ -1239,44 +1351,44 @@ public class NGRegion extends NGGroup {
                 // cases and will in those cases be doing more work than necessary.
                 // TODO make sure CSS uses TRANSPARENT and NONE when possible (JDK-8091746)
                 if (!(topStroke instanceof Color && ((Color)topStroke).getOpacity() == 0f) && topStyle != BorderStrokeStyle.NONE) {
-                    g.setPaint(getPlatformPaint(topStroke));
+                    dl.setPaint(getPlatformPaint(topStroke));
                     if (BorderStrokeStyle.SOLID == topStyle) {
-                        g.fillRect(leftInset, topInset, width - leftInset - rightInset, topWidth);
+                        dl.fillRect(leftInset, topInset, width - leftInset - rightInset, topWidth);
                     } else {
-                        g.setStroke(createStroke(topStyle, topWidth, width, true));
-                        g.drawLine(l, t, width - r, t);
+                        dl.setStroke(createStroke(topStyle, topWidth, width, true));
+                        dl.drawLine(l, t, width - r, t);
                     }
                 }
 
                 if (!(rightStroke instanceof Color && ((Color)rightStroke).getOpacity() == 0f) && rightStyle != BorderStrokeStyle.NONE) {
-                    g.setPaint(getPlatformPaint(rightStroke));
+                    dl.setPaint(getPlatformPaint(rightStroke));
                     if (BorderStrokeStyle.SOLID == rightStyle) {
-                        g.fillRect(width - rightInset - rightWidth, topInset,
+                        dl.fillRect(width - rightInset - rightWidth, topInset,
                                    rightWidth, height - topInset - bottomInset);
                     } else {
-                        g.setStroke(createStroke(rightStyle, rightWidth, height, true));
-                        g.drawLine(width - r, t, width - r, height - b);
+                        dl.setStroke(createStroke(rightStyle, rightWidth, height, true));
+                        dl.drawLine(width - r, t, width - r, height - b);
                     }
                 }
 
                 if (!(bottomStroke instanceof Color && ((Color)bottomStroke).getOpacity() == 0f) && bottomStyle != BorderStrokeStyle.NONE) {
-                    g.setPaint(getPlatformPaint(bottomStroke));
+                    dl.setPaint(getPlatformPaint(bottomStroke));
                     if (BorderStrokeStyle.SOLID == bottomStyle) {
-                        g.fillRect(leftInset, height - bottomInset - bottomWidth,
+                        dl.fillRect(leftInset, height - bottomInset - bottomWidth,
                                 width - leftInset - rightInset, bottomWidth);
                     } else {
-                        g.setStroke(createStroke(bottomStyle, bottomWidth, width, true));
-                        g.drawLine(l, height - b, width - r, height - b);
+                        dl.setStroke(createStroke(bottomStyle, bottomWidth, width, true));
+                        dl.drawLine(l, height - b, width - r, height - b);
                     }
                 }
 
                 if (!(leftStroke instanceof Color && ((Color)leftStroke).getOpacity() == 0f) && leftStyle != BorderStrokeStyle.NONE) {
-                    g.setPaint(getPlatformPaint(leftStroke));
+                    dl.setPaint(getPlatformPaint(leftStroke));
                     if (BorderStrokeStyle.SOLID == leftStyle) {
-                        g.fillRect(leftInset, topInset, leftWidth, height - topInset - bottomInset);
+                        dl.fillRect(leftInset, topInset, leftWidth, height - topInset - bottomInset);
                     } else {
-                        g.setStroke(createStroke(leftStyle, leftWidth, height, true));
-                        g.drawLine(l, t, l, height - b);
+                        dl.setStroke(createStroke(leftStyle, leftWidth, height, true));
+                        dl.drawLine(l, t, l, height - b);
                     }
                 }
             } else {
@@ -1288,34 +1400,37 @@ public class NGRegion extends NGGroup {
                 if (topStyle != BorderStrokeStyle.NONE) {
                     double rsum = radii.getTopLeftHorizontalRadius() + radii.getTopRightHorizontalRadius();
                     double topLineLength = width + rsum * (Math.PI / 4 - 1);
-                    g.setStroke(createStroke(topStyle, topWidth, topLineLength, true));
-                    g.setPaint(getPlatformPaint(topStroke));
-                    g.draw(paths[0]);
+                    dl.setStroke(createStroke(topStyle, topWidth, topLineLength, true));
+                    dl.setPaint(getPlatformPaint(topStroke));
+                    dl.draw(paths[0]);
                 }
                 if (rightStyle != BorderStrokeStyle.NONE) {
                     double rsum = radii.getTopRightVerticalRadius() + radii.getBottomRightVerticalRadius();
                     double rightLineLength = height + rsum * (Math.PI / 4 - 1);
-                    g.setStroke(createStroke(rightStyle, rightWidth, rightLineLength, true));
-                    g.setPaint(getPlatformPaint(rightStroke));
-                    g.draw(paths[1]);
+                    dl.setStroke(createStroke(rightStyle, rightWidth, rightLineLength, true));
+                    dl.setPaint(getPlatformPaint(rightStroke));
+                    dl.draw(paths[1]);
                 }
                 if (bottomStyle != BorderStrokeStyle.NONE) {
                     double rsum = radii.getBottomLeftHorizontalRadius() + radii.getBottomRightHorizontalRadius();
                     double bottomLineLength = width + rsum * (Math.PI / 4 - 1);
-                    g.setStroke(createStroke(bottomStyle, bottomWidth, bottomLineLength, true));
-                    g.setPaint(getPlatformPaint(bottomStroke));
-                    g.draw(paths[2]);
+                    dl.setStroke(createStroke(bottomStyle, bottomWidth, bottomLineLength, true));
+                    dl.setPaint(getPlatformPaint(bottomStroke));
+                    dl.draw(paths[2]);
                 }
                 if (leftStyle != BorderStrokeStyle.NONE) {
                     double rsum = radii.getTopLeftVerticalRadius() + radii.getBottomLeftVerticalRadius();
                     double leftLineLength = height + rsum * (Math.PI / 4 - 1);
-                    g.setStroke(createStroke(leftStyle, leftWidth, leftLineLength, true));
-                    g.setPaint(getPlatformPaint(leftStroke));
-                    g.draw(paths[3]);
+                    dl.setStroke(createStroke(leftStyle, leftWidth, leftLineLength, true));
+                    dl.setPaint(getPlatformPaint(leftStroke));
+                    dl.draw(paths[3]);
                 }
             }
         }
+        return retainable;
+    }
 
+    private void renderBorderRectangleImages(Graphics g, List<BorderImage> images) {
         for (int i = 0, max = images.size(); i < max; i++) {
             final BorderImage ib = images.get(i);
             final Image prismImage = (Image) Toolkit.getImageAccessor().getPlatformImage(ib.getImage());
@@ -1610,7 +1725,7 @@ public class NGRegion extends NGGroup {
         return bs;
     }
 
-    private void setBorderStyle(Graphics g, BorderStroke sb, double length, boolean forceCentered) {
+    private void setBorderStyle(RegionDisplayList dl, BorderStroke sb, double length, boolean forceCentered) {
         // Any one of, or all of, the sides could be 'none'.
         // Take the first side that isn't.
         final BorderWidths widths = sb.getWidths();
@@ -1636,8 +1751,8 @@ public class NGRegion extends NGGroup {
             return;
         }
 
-        g.setStroke(createStroke(bs, sbWidth, length, forceCentered));
-        g.setPaint(sbFill);
+        dl.setStroke(createStroke(bs, sbWidth, length, forceCentered));
+        dl.setPaint(sbFill);
     }
 
     /**
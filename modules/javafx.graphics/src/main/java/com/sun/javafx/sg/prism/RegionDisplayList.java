@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.sg.prism;
+
+import java.util.Arrays;
+import com.sun.javafx.geom.Shape;
+import com.sun.prism.BasicStroke;
+import com.sun.prism.Graphics;
+import com.sun.prism.paint.Paint;
+
+/**
+ * RegionDisplayList - A compact, recorded list of the Graphics commands needed to
+ * draw the background fills or border strokes of an NGRegion. The NGRegion records
+ * the list once for a given size, Background / Border and set of normalized corner
+ * radii, and then simply replays it on every subsequent render, without having to
+ * walk the Background / Border objects, create strokes or build the paths used for
+ * non-uniform rounded corners again.
+ *
+ * The recorded paints, strokes and shapes are immutable (or never mutated after
+ * recording), so the list can be replayed any number of times. This class is only
+ * used from the render thread.
+ */
+final class RegionDisplayList {
+
+    private static final byte SET_PAINT = 0;
+    private static final byte SET_STROKE = 1;
+    private static final byte FILL_RECT = 2;
+    private static final byte FILL_ROUND_RECT = 3;
+    private static final byte FILL_SHAPE = 4;
+    private static final byte DRAW_RECT = 5;
+    private static final byte DRAW_ROUND_RECT = 6;
+    private static final byte DRAW_SHAPE = 7;
+    private static final byte DRAW_LINE = 8;
+
+    private byte[] ops = new byte[8];
+    private int numOps;
+    private float[] coords = new float[16];
+    private int numCoords;
+    private Object[] refs = new Object[4];
+    private int numRefs;
+
+    /**
+     * Returns whether nothing was recorded in this display list.
+     */
+    boolean isEmpty() {
+        return numOps == 0;
+    }
+
+    /**
+     * Discards all of the recorded commands, so that the list may be
+     * recorded again.
+     */
+    void reset() {
+        Arrays.fill(refs, 0, numRefs, null);
+        numOps = numCoords = numRefs = 0;
+    }
+
+    /**
+     * Returns a new display list holding the same commands as this one,
+     * trimmed to size.
+     */
+    RegionDisplayList copy() {
+        final RegionDisplayList dl = new RegionDisplayList();
+        dl.ops = Arrays.copyOf(ops, numOps);
+        dl.numOps = numOps;
+        dl.coords = Arrays.copyOf(coords, numCoords);
+        dl.numCoords = numCoords;
+        dl.refs = Arrays.copyOf(refs, numRefs);
+        dl.numRefs = numRefs;
+        return dl;
+    }
+
+    void setPaint(Paint paint) {
+        addOp(SET_PAINT);
+        addRef(paint);
+    }
+
+    void setStroke(BasicStroke stroke) {
+        addOp(SET_STROKE);
+        addRef(stroke);
+    }
+
+    void fillRect(float x, float y, float w, float h) {
+        addOp(FILL_RECT);
+        addCoords(x, y, w, h);
+    }
+
+    void fillRoundRect(float x, float y, float w, float h, float arcw, float arch) {
+        addOp(FILL_ROUND_RECT);
+        addCoords(x, y, w, h);
+        addCoords(arcw, arch);
+    }
+
+    void fill(Shape shape) {
+        addOp(FILL_SHAPE);
+        addRef(shape);
+    }
+
+    void drawRect(float x, float y, float w, float h) {
+        addOp(DRAW_RECT);
+        addCoords(x, y, w, h);
+    }
+
+    void drawRoundRect(float x, float y, float w, float h, float arcw, float arch) {
+        addOp(DRAW_ROUND_RECT);
+        addCoords(x, y, w, h);
+        addCoords(arcw, arch);
+    }
+
+    void draw(Shape shape) {
+        addOp(DRAW_SHAPE);
+        addRef(shape);
+    }
+
+    void drawLine(float x1, float y1, float x2, float y2) {
+        addOp(DRAW_LINE);
+        addCoords(x1, y1, x2, y2);
+    }
+
+    /**
+     * Replays all of the recorded commands into the given Graphics.
+     *
+     * @param g the Graphics to render into, must not be null
+     */
+    void replay(Graphics g) {
+        int c = 0;
+        int r = 0;
+        final float[] coords = this.coords;
+        final Object[] refs = this.refs;
+        for (int i = 0; i < numOps; i++) {
+            switch (ops[i]) {
+                case SET_PAINT:
+                    g.setPaint((Paint) refs[r++]);
+                    break;
+                case SET_STROKE:
+                    g.setStroke((BasicStroke) refs[r++]);
+                    break;
+                case FILL_RECT:
+                    g.fillRect(coords[c], coords[c + 1], coords[c + 2], coords[c + 3]);
+                    c += 4;
+                    break;
+                case FILL_ROUND_RECT:
+                    g.fillRoundRect(coords[c], coords[c + 1], coords[c + 2], coords[c + 3],
+                                    coords[c + 4], coords[c + 5]);
+                    c += 6;
+                    break;
+                case FILL_SHAPE:
+                    g.fill((Shape) refs[r++]);
+                    break;
+                case DRAW_RECT:
+                    g.drawRect(coords[c], coords[c + 1], coords[c + 2], coords[c + 3]);
+                    c += 4;
+                    break;
+                case DRAW_ROUND_RECT:
+                    g.drawRoundRect(coords[c], coords[c + 1], coords[c + 2], coords[c + 3],
+                                    coords[c + 4], coords[c + 5]);
+                    c += 6;
+                    break;
+                case DRAW_SHAPE:
+                    g.draw((Shape) refs[r++]);
+                    break;
+                case DRAW_LINE:
+                    g.drawLine(coords[c], coords[c + 1], coords[c + 2], coords[c + 3]);
+                    c += 4;
+                    break;
+                default:
+                    throw new InternalError("Unknown display list op: " + ops[i]);
+            }
+        }
+    }
+
+    private void addOp(byte op) {
+        if (numOps == ops.length) {
+            ops = Arrays.copyOf(ops, Math.max(8, numOps * 2));
+        }
+        ops[numOps++] = op;
+    }
+
+    private void addRef(Object ref) {
+        if (numRefs == refs.length) {
+            refs = Arrays.copyOf(refs, Math.max(4, numRefs * 2));
+        }
+        refs[numRefs++] = ref;
+    }
+
+    private void addCoords(float a, float b) {
+        ensureCoords(2);
+        coords[numCoords++] = a;
+        coords[numCoords++] = b;
+    }
+
+    private void addCoords(float a, float b, float c, float d) {
+        ensureCoords(4);
+        coords[numCoords++] = a;
+        coords[numCoords++] = b;
+        coords[numCoords++] = c;
+        coords[numCoords++] = d;
+    }
+
+    private void ensureCoords(int n) {
+        if (numCoords + n > coords.length) {
+            coords = Arrays.copyOf(coords, Math.max(coords.length * 2, numCoords + n));
+        }
+    }
+}
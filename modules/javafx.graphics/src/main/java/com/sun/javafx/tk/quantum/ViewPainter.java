@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -40,6 +40,7 @@ import com.sun.javafx.sg.prism.NGNode;
 import com.sun.javafx.sg.prism.NGPerspectiveCamera;
 import com.sun.javafx.sg.prism.NodePath;
 import com.sun.prism.Graphics;
+import com.sun.prism.GraphicsPipeline;
 import com.sun.prism.GraphicsResource;
 import com.sun.prism.Image;
 import com.sun.prism.Presentable;
@@ -47,6 +48,7 @@ import com.sun.prism.RTTexture;
 import com.sun.prism.ResourceFactory;
 import com.sun.prism.Texture;
 import com.sun.prism.impl.PrismSettings;
+import com.sun.prism.impl.TextureResourcePool;
 import com.sun.prism.paint.Color;
 import com.sun.prism.paint.Paint;
 import com.sun.javafx.logging.PulseLogger;
@@ -137,11 +139,19 @@ abstract class ViewPainter implements Runnable {
             clip = new RectBounds();
             dirtyRect = new Rectangle();
             dirtyRegionTemp = new RectBounds();
-            dirtyRegionPool = new DirtyRegionPool(PrismSettings.dirtyRegionCount);
+            dirtyRegionPool = new DirtyRegionPool(PrismSettings.dirtyRegionCount, getDirtyRegionOverhead());
             dirtyRegionContainer = dirtyRegionPool.checkOut();
         }
     }
 
+    private static int getDirtyRegionOverhead() {
+        if (PrismSettings.dirtyRegionOverhead >= 0) {
+            return PrismSettings.dirtyRegionOverhead;
+        }
+        final GraphicsPipeline pipeline = GraphicsPipeline.getPipeline();
+        return pipeline == null ? 0 : pipeline.getDirtyRegionOverhead();
+    }
+
     protected final void setRoot(NGNode node) {
         root = node;
     }
@@ -277,6 +287,9 @@ abstract class ViewPainter implements Runnable {
             // For debug purposes, write out to the pulse logger the number and size of the dirty
             // regions that are being used to render this pulse.
             if (PULSE_LOGGING_ENABLED) {
+                // Painted area minus dirty area is the fill rate wasted by merging dirty regions
+                PulseLogger.sampleValue("Dirty area", (long) dirtyRegionContainer.getDirtyArea());
+                PulseLogger.sampleValue("Painted area", (long) dirtyRegionContainer.getPaintedArea());
                 PulseLogger.addMessage(dirtyRegionSize + " different dirty regions to render");
                 for (int i=0; i<dirtyRegionSize; i++) {
                     PulseLogger.addMessage("Dirty Region " + i + ": " + dirtyRegionContainer.getDirtyRegion(i));
@@ -391,6 +404,12 @@ abstract class ViewPainter implements Runnable {
 
         // Ensure the dirty flags are cleared
         root.clearDirty();
+
+        if (PULSE_LOGGING_ENABLED && factory != null) {
+            TextureResourcePool<?> pool = factory.getTextureResourcePool();
+            PulseLogger.sampleValue("Texture pool used bytes", pool.used());
+            PulseLogger.sampleValue("Texture pool target bytes", pool.target());
+        }
     }
 
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -277,6 +277,18 @@ public abstract class GraphicsPipeline {
         return true;
     }
 
+    /**
+     * Returns the cost of painting one more dirty region, expressed as the
+     * area in square pixels that could be filled instead. Every dirty region
+     * is rendered with a separate traversal of the scene graph, so on
+     * hardware pipelines, where filling pixels is cheap, it pays to merge
+     * nearby regions.
+     * @return the per-region overhead in square pixels
+     */
+    public int getDirtyRegionOverhead() {
+        return 128 * 128;
+    }
+
     /**
      * Checks if the GraphicsPipeline uses uploading or presenting painter
      * @return true if the pipeline uses an uploading painter
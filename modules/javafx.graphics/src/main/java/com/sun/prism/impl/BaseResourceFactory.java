@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,6 +26,7 @@
 package com.sun.prism.impl;
 
 import com.sun.javafx.geom.Rectangle;
+import com.sun.javafx.logging.PulseLogger;
 import com.sun.prism.Image;
 import com.sun.prism.PixelFormat;
 import com.sun.prism.ResourceFactory;
@@ -40,6 +41,8 @@ import java.util.Collection;
 
 import javafx.util.Pair;
 
+import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
+
 public abstract class BaseResourceFactory implements ResourceFactory {
     private final Map<Image,Texture> clampTexCache;
     private final Map<Image,Texture> repeatTexCache;
@@ -245,13 +248,24 @@ public abstract class BaseResourceFactory implements ResourceFactory {
             // Else whole image is updated.
             if (idRect.getKey() - tex.getLastImageSerial() == 1 && idRect.getValue() != null) {
                 Rectangle dirtyRect = idRect.getValue();
+                if (PULSE_LOGGING_ENABLED) {
+                    PulseLogger.textureUploadStart(dirtyRect.width, dirtyRect.height,
+                                                   image.getPixelFormat().name());
+                }
                 tex.update(image.getPixelBuffer(), image.getPixelFormat(),
                         dirtyRect.x, dirtyRect.y, dirtyRect.x, dirtyRect.y,
                         dirtyRect.width, dirtyRect.height,
                         image.getScanlineStride(), false);
             } else {
+                if (PULSE_LOGGING_ENABLED) {
+                    PulseLogger.textureUploadStart(image.getWidth(), image.getHeight(),
+                                                   image.getPixelFormat().name());
+                }
                 tex.update(image, 0, 0, image.getWidth(), image.getHeight(), false);
             }
+            if (PULSE_LOGGING_ENABLED) {
+                PulseLogger.textureUploadEnd();
+            }
             tex.setLastImageSerial(idRect.getKey());
         }
         return tex;
@@ -279,7 +293,13 @@ public abstract class BaseResourceFactory implements ResourceFactory {
         // since there are no pending vertices that depend on this new texture,
         // so pass skipFlush=true here...
         if (tex != null) {
+            if (PULSE_LOGGING_ENABLED) {
+                PulseLogger.textureUploadStart(w, h, format.name());
+            }
             tex.update(image, 0, 0, w, h, true);
+            if (PULSE_LOGGING_ENABLED) {
+                PulseLogger.textureUploadEnd();
+            }
             tex.contentsUseful();
         }
         return tex;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -253,6 +253,9 @@ public class GlyphCache {
         }
 
         // Render the glyph and insert it in the cache
+        if (PULSE_LOGGING_ENABLED) {
+            PulseLogger.incrementCounter("Font Glyph Cache misses");
+        }
         GlyphData data = null;
         Glyph glyph = strike.getGlyph(glyphCode);
         if (glyph != null) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -61,6 +61,7 @@ public final class PrismSettings {
     public static final boolean printRenderGraph;
     public static final int minRTTSize;
     public static final int dirtyRegionCount;
+    public static final int dirtyRegionOverhead;
     public static final boolean disableBadDriverWarning;
     public static final boolean forceGPU;
     public static final int maxTextureSize;
@@ -84,6 +85,8 @@ public final class PrismSettings {
     public static final boolean forceUploadingPainter;
     public static final boolean forceAlphaTestShader;
     public static final boolean forceNonAntialiasedShape;
+    public static final int swTileThreads;
+    public static final int swTileHeight;
 
     public static enum RasterizerType {
         DoubleMarlin("Double Precision Marlin Rasterizer");
@@ -129,8 +132,15 @@ public final class PrismSettings {
                                                true);
 
         // The maximum number of dirty regions to use. The absolute max that we can
-        // support at present is 15.
-        dirtyRegionCount = Utils.clamp(0, getInt(systemProperties, "prism.dirtyregioncount", 6, null), 15);
+        // support at present is 15. Nearby regions are merged based on their cost
+        // (see below), so usually far fewer regions are used.
+        dirtyRegionCount = Utils.clamp(0, getInt(systemProperties, "prism.dirtyregioncount", 15, null), 15);
+
+        // The cost of painting one more dirty region, expressed as an area in
+        // square pixels. Dirty regions are merged when painting their union
+        // wastes less than this. A negative value means that the default of
+        // the graphics pipeline is used.
+        dirtyRegionOverhead = getInt(systemProperties, "prism.dirtyregionoverhead", -1, null);
 
         // Scrolling cache optimization
         // Disabled as a workaround for JDK-8093860.
@@ -356,6 +366,23 @@ public final class PrismSettings {
         // Force non anti-aliasing (not smooth) shape rendering
         forceNonAntialiasedShape = getBoolean(systemProperties, "prism.forceNonAntialiasedShape", false);
 
+        /*
+         * Number of worker threads used by the software pipeline to rasterize
+         * large shapes in horizontal tiles. A value <= 1 (the default) keeps
+         * rasterization on the render thread, "true" uses one thread per
+         * available processor.
+         */
+        swTileThreads = getInt(systemProperties, "prism.sw.tilethreads",
+                0, Runtime.getRuntime().availableProcessors(),
+                "Try -Dprism.sw.tilethreads=<true or number>");
+
+        /* Height in pixels of the tiles used by the software pipeline */
+        swTileHeight = Math.max(16, getInt(systemProperties, "prism.sw.tileheight",
+                64, "Try -Dprism.sw.tileheight=<number>"));
+        if (verbose && swTileThreads > 1) {
+            System.out.println("Using " + swTileThreads + " threads for software tile rasterization");
+        }
+
     }
 
     private static int parseInt(String s, int dflt, int trueDflt,
@@ -29,6 +29,7 @@ import com.sun.javafx.geom.BaseBounds;
 import com.sun.javafx.geom.RectBounds;
 import com.sun.javafx.geom.Shape;
 import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.marlin.MarlinConst;
 import com.sun.prism.BasicStroke;
 import com.sun.prism.Graphics;
 import com.sun.prism.Texture;
@@ -62,11 +63,12 @@ import java.util.Comparator;
  * then we will only rasterize and cache a single mask texture and reuse
  * it among all the Path nodes.
  *
- * (Of course, the fact that we reuse the same mask texture for different
- * sub-pixel translation factors means we're knowingly being a bit sloppy,
- * so when caching is enabled you may see some dancing at the shape edges
- * for slowly animating translations, but otherwise will hopefully not be
- * too noticeable.)
+ * A mask is only reused for translations that fall into the same sub-pixel
+ * bucket of the rasterizer (see {@link MarlinConst#SUBPIXEL_POSITIONS_X} and
+ * {@link MarlinConst#SUBPIXEL_POSITIONS_Y}), so a cached mask is always moved
+ * by a whole number of pixels and the shape edges do not shift.  A shape
+ * whose translation keeps moving to a different sub-pixel bucket (as in a
+ * slow animation) is rendered without the cache until it settles.
  *
  * The current implementation limits the size of the cache (512 pixels in
  * each dimension, and 4 MB in total) so that it doesn't grow without bound.
@@ -141,8 +143,10 @@ class CachingShapeRepState {
         private int maskH;
 
         void adjustOrigin(BaseTransform xform) {
-            float dx = (float)(xform.getMxt()-cacheEntry.xform.getMxt());
-            float dy = (float)(xform.getMyt()-cacheEntry.xform.getMyt());
+            // both translations are in the same sub-pixel bucket, so the
+            // mask is moved by a whole number of pixels
+            float dx = Math.round(xform.getMxt()-cacheEntry.xform.getMxt());
+            float dy = Math.round(xform.getMyt()-cacheEntry.xform.getMyt());
             this.maskX = cacheEntry.texData.maskX + dx;
             this.maskY = cacheEntry.texData.maskY + dy;
         }
@@ -256,7 +260,8 @@ class CachingShapeRepState {
         }
 
         boolean entryMatches(CacheEntry entry, Shape shape, BasicStroke stroke, BaseTransform xform, boolean antialiasedShape) {
-            return (entry.antialiasedShape == antialiasedShape) && equalsIgnoreTranslation(xform, entry.xform) && entry.shape.equals(shape) &&
+            return (entry.antialiasedShape == antialiasedShape) && equalsIgnoreTranslation(xform, entry.xform) &&
+                   sameSubpixelTranslation(xform, entry.xform) && entry.shape.equals(shape) &&
                    (stroke == null ? entry.stroke == null : stroke.equals(entry.stroke));
 
         }
@@ -382,6 +387,29 @@ class CachingShapeRepState {
             a.getMyy() == b.getMyy();
     }
 
+    private static final int SUBPIXELS_X = MarlinConst.SUBPIXEL_POSITIONS_X;
+    private static final int SUBPIXELS_Y = MarlinConst.SUBPIXEL_POSITIONS_Y;
+
+    /**
+     * Returns the index of the sub-pixel bucket that the fractional part
+     * of the given translation falls into.
+     */
+    static int subpixelBucket(double t, int subpixels) {
+        return (int) Math.floorMod((long) Math.floor(t * subpixels), (long) subpixels);
+    }
+
+    /**
+     * Returns true if the translation components of the two transforms fall
+     * into the same sub-pixel bucket of the rasterizer, that is if a mask
+     * rasterized with one of them can be reused for the other by moving it
+     * a whole number of pixels; otherwise returns false.
+     */
+    static boolean sameSubpixelTranslation(BaseTransform a, BaseTransform b) {
+        return
+            subpixelBucket(a.getMxt(), SUBPIXELS_X) == subpixelBucket(b.getMxt(), SUBPIXELS_X) &&
+            subpixelBucket(a.getMyt(), SUBPIXELS_Y) == subpixelBucket(b.getMyt(), SUBPIXELS_Y);
+    }
+
     private static final BaseTransform IDENT = BaseTransform.IDENTITY_TRANSFORM;
     // NOTE: need separate MaskCache per context?
     private static final MaskCache maskCache = new MaskCache();
@@ -440,7 +468,9 @@ class CachingShapeRepState {
 
         if (lastXform == null) {
             doResetMask = doUpdateMask = true;
-        } else if (equalsIgnoreTranslation(xform, lastXform)) {
+        } else if (equalsIgnoreTranslation(xform, lastXform) &&
+                   sameSubpixelTranslation(xform, lastXform))
+        {
             doResetMask = false;
             doUpdateMask = (xform.getMxt() != lastXform.getMxt() ||
                             xform.getMyt() != lastXform.getMyt());
@@ -451,7 +481,8 @@ class CachingShapeRepState {
         // we need to invalidate our cached MaskTexData if:
         //   - lastXform is null, indicating that we were marked invalid
         //     (due to a geometry or location change), or
-        //   - the current transform is significantly different than the last
+        //   - the current transform is significantly different than the last,
+        //     including a translation into a different sub-pixel bucket
         if (doResetMask) {
             invalidateMaskTexData();
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -121,4 +121,11 @@ public class J2DPipeline extends GraphicsPipeline {
     public boolean isUploading() {
         return true;
     }
+
+    @Override
+    public int getDirtyRegionOverhead() {
+        // pixels are filled in software, so painting fewer pixels is
+        // usually worth an extra traversal
+        return 32 * 32;
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,7 +25,9 @@
 
 package com.sun.prism.sw;
 
+import com.sun.javafx.geom.BaseBounds;
 import com.sun.javafx.geom.Path2D;
+import com.sun.javafx.geom.RectBounds;
 import com.sun.javafx.geom.Rectangle;
 import com.sun.javafx.geom.Shape;
 import com.sun.javafx.geom.transform.BaseTransform;
@@ -43,6 +45,9 @@ import com.sun.prism.Texture;
 import com.sun.prism.impl.PrismSettings;
 import com.sun.prism.impl.shape.DMarlinPrismUtils;
 import java.lang.ref.SoftReference;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 final class SWContext {
 
@@ -194,12 +199,280 @@ final class SWContext {
         public void dispose() { }
     }
 
+    /**
+     * A MarlinAlphaConsumer that records the coverage rows of one horizontal
+     * tile so that they can be computed on a worker thread and emitted
+     * into the PiscesRenderer later on the render thread.
+     */
+    static final class TileMarlinAlphaConsumer implements MarlinAlphaConsumer {
+        private byte alpha_map[];
+        private int x;
+        private int y;
+        private int w;
+        private int h;
+
+        private int rowCount;
+        private int rowY[] = new int[16];
+        private int rowFrom[] = new int[16];
+        private int rowTo[] = new int[16];
+        private int rowOffset[] = new int[16];
+
+        private int deltas[] = new int[256];
+        private int deltasLength;
+
+        void initConsumer(int x, int y, int w, int h) {
+            this.x = x;
+            this.y = y;
+            this.w = w;
+            this.h = h;
+        }
+
+        void reset() {
+            // emitAndClearAlphaRow() clears the deltas it reads, but the
+            // tail slots of every row must be clean for the next use too
+            Arrays.fill(deltas, 0, deltasLength, 0);
+            deltasLength = 0;
+            rowCount = 0;
+            w = h = 0;
+        }
+
+        boolean isEmpty() {
+            return rowCount == 0;
+        }
+
+        int emitRows(PiscesRenderer pr, int rowNum) {
+            for (int i = 0; i < rowCount; i++) {
+                pr.emitAndClearAlphaRow(alpha_map, deltas, rowY[i], rowFrom[i], rowTo[i], rowOffset[i], rowNum++);
+            }
+            return rowNum;
+        }
+
+        @Override
+        public int getOriginX() {
+            return x;
+        }
+
+        @Override
+        public int getOriginY() {
+            return y;
+        }
+
+        @Override
+        public int getWidth() {
+            return w;
+        }
+
+        @Override
+        public int getHeight() {
+            return h;
+        }
+
+        @Override
+        public void setMaxAlpha(int maxalpha) {
+            if ((alpha_map == null) || (alpha_map.length != maxalpha+1)) {
+                alpha_map = new byte[maxalpha+1];
+                for (int i = 0; i <= maxalpha; i++) {
+                    alpha_map[i] = (byte) ((i*255 + maxalpha/2)/maxalpha);
+                }
+            }
+        }
+
+        @Override
+        public boolean supportBlockFlags() {
+            return false;
+        }
+
+        @Override
+        public void clearAlphas(final int pix_y) {
+            // noop
+        }
+
+        @Override
+        public void setAndClearRelativeAlphas(final int[] alphaDeltas, final int pix_y,
+                                              final int pix_from, final int pix_to)
+        {
+            final int from = pix_from - x;
+            final int to = Math.min(pix_to - x, alphaDeltas.length - 1);
+            final int len = to - from + 1;
+
+            if (rowCount == rowY.length) {
+                final int newLength = rowCount << 1;
+                rowY = Arrays.copyOf(rowY, newLength);
+                rowFrom = Arrays.copyOf(rowFrom, newLength);
+                rowTo = Arrays.copyOf(rowTo, newLength);
+                rowOffset = Arrays.copyOf(rowOffset, newLength);
+            }
+            // keep one spare (zero) slot after the copied row
+            if (deltasLength + len + 1 > deltas.length) {
+                deltas = Arrays.copyOf(deltas, Math.max(deltas.length << 1, deltasLength + len + 1));
+            }
+            rowY[rowCount] = pix_y;
+            rowFrom[rowCount] = pix_from;
+            rowTo[rowCount] = pix_to;
+            rowOffset[rowCount] = deltasLength;
+            rowCount++;
+
+            if (len > 0) {
+                System.arraycopy(alphaDeltas, from, deltas, deltasLength, len);
+                // clear the copied range of the Marlin row as the native
+                // emitAndClearAlphaRow() would have done:
+                Arrays.fill(alphaDeltas, from, to + 1, 0);
+                deltasLength += len;
+            }
+            deltasLength++;
+
+            if (MarlinConst.DO_CHECKS) {
+                ArrayCacheIntClean.check(alphaDeltas, from, to + 1, 0);
+            }
+        }
+
+        @Override
+        public void setAndClearRelativeAlphas(final int[] blkFlags, final int[] alphaDeltas, final int pix_y,
+                                              final int pix_from, final int pix_to)
+        {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Splits the device space covered by large shapes into horizontal tiles
+     * (see {@code prism.sw.tilethreads} and {@code prism.sw.tileheight}) and
+     * computes the Marlin coverage of each tile on a ForkJoinPool. The
+     * recorded coverage rows are then emitted into the PiscesRenderer on the
+     * calling thread, from top to bottom, so the native compositing happens in
+     * exactly the same order as with the single-threaded DMarlinShapeRenderer
+     * and the output is deterministic.
+     */
+    static final class TiledDMarlinShapeRenderer implements ShapeRenderer {
+        // Shapes covering fewer pixels than this are not worth the hand-off
+        private static final int MIN_TILED_AREA = 128 * 128;
+
+        private final DMarlinShapeRenderer directRenderer = new DMarlinShapeRenderer();
+        private final ForkJoinPool pool;
+        private final int tileHeight;
+        private final RectBounds bounds = new RectBounds();
+        private TileMarlinAlphaConsumer consumers[] = new TileMarlinAlphaConsumer[0];
+
+        TiledDMarlinShapeRenderer(int threads, int tileHeight) {
+            this.pool = new ForkJoinPool(threads);
+            this.tileHeight = tileHeight;
+        }
+
+        @Override
+        public void renderShape(PiscesRenderer pr, Shape shape, BasicStroke stroke, BaseTransform tr, Rectangle clip, boolean antialiasedShape) {
+            if (stroke != null && stroke.getType() != BasicStroke.TYPE_CENTERED) {
+                // JDK-8090672: see DMarlinShapeRenderer
+                shape = stroke.createStrokedShape(shape);
+                stroke = null;
+            }
+
+            // conservative device space bounds of the shape, clipped
+            final RectBounds sb = shape.getBounds();
+            float pad = 1f;
+            if (stroke != null) {
+                pad += stroke.getLineWidth() * Math.max(1f, stroke.getMiterLimit());
+            }
+            bounds.setBounds(sb.getMinX() - pad, sb.getMinY() - pad, sb.getMaxX() + pad, sb.getMaxY() + pad);
+            final BaseBounds db = (tr == null) ? bounds : tr.transform(bounds, new RectBounds());
+            final int x0 = Math.max(clip.x, (int) Math.floor(db.getMinX()) - 1);
+            final int y0 = Math.max(clip.y, (int) Math.floor(db.getMinY()) - 1);
+            final int x1 = Math.min(clip.x + clip.width, (int) Math.ceil(db.getMaxX()) + 1);
+            final int y1 = Math.min(clip.y + clip.height, (int) Math.ceil(db.getMaxY()) + 1);
+            final int w = x1 - x0;
+            final int h = y1 - y0;
+            if ((w <= 0) || (h <= 0)) {
+                return;
+            }
+            if (((long) w * h < MIN_TILED_AREA) || (h < 2 * tileHeight)) {
+                directRenderer.renderShape(pr, shape, stroke, tr, clip, antialiasedShape);
+                return;
+            }
+
+            final int numTiles = (h + tileHeight - 1) / tileHeight;
+            if (consumers.length < numTiles) {
+                final int oldLength = consumers.length;
+                consumers = Arrays.copyOf(consumers, numTiles);
+                for (int i = oldLength; i < numTiles; i++) {
+                    consumers[i] = new TileMarlinAlphaConsumer();
+                }
+            }
+
+            final Shape fShape = shape;
+            final BasicStroke fStroke = stroke;
+            final ForkJoinTask<?> tasks[] = new ForkJoinTask<?>[numTiles];
+            for (int i = 0; i < numTiles; i++) {
+                final TileMarlinAlphaConsumer tc = consumers[i];
+                final int ty = y0 + i * tileHeight;
+                final Rectangle tileClip = new Rectangle(clip.x, ty, clip.width, Math.min(tileHeight, y1 - ty));
+                tasks[i] = pool.submit(() -> rasterizeTile(tc, fShape, fStroke, tr, tileClip, antialiasedShape));
+            }
+
+            int rowNum = 0;
+            RuntimeException failure = null;
+            for (int i = 0; i < numTiles; i++) {
+                try {
+                    tasks[i].join();
+                    if (failure == null) {
+                        rowNum = consumers[i].emitRows(pr, rowNum);
+                    }
+                } catch (RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                } finally {
+                    consumers[i].reset();
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        private static void rasterizeTile(TileMarlinAlphaConsumer tc, Shape shape, BasicStroke stroke,
+                                          BaseTransform tr, Rectangle tileClip, boolean antialiasedShape)
+        {
+            final RendererContext rdrCtx = DMarlinRenderingEngine.getRendererContext();
+            MarlinRenderer renderer = null;
+            try {
+                renderer = DMarlinPrismUtils.setupRenderer(rdrCtx, shape, stroke, tr, tileClip,
+                        antialiasedShape);
+                final int outpix_xmin = renderer.getOutpixMinX();
+                final int outpix_xmax = renderer.getOutpixMaxX();
+                final int outpix_ymin = renderer.getOutpixMinY();
+                final int outpix_ymax = renderer.getOutpixMaxY();
+                final int w = outpix_xmax - outpix_xmin;
+                final int h = outpix_ymax - outpix_ymin;
+                if ((w <= 0) || (h <= 0)) {
+                    return;
+                }
+                tc.initConsumer(outpix_xmin, outpix_ymin, w, h);
+                renderer.produceAlphas(tc);
+            } finally {
+                if (renderer != null) {
+                    renderer.dispose();
+                }
+                // recycle the RendererContext instance
+                DMarlinRenderingEngine.returnRendererContext(rdrCtx);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            pool.shutdown();
+        }
+    }
+
     SWContext(ResourceFactory factory) {
         this.factory = factory;
         switch (PrismSettings.rasterizerSpec) {
             default:
             case DoubleMarlin:
-                this.shapeRenderer = new DMarlinShapeRenderer();
+                if (PrismSettings.swTileThreads > 1) {
+                    this.shapeRenderer = new TiledDMarlinShapeRenderer(PrismSettings.swTileThreads,
+                                                                       PrismSettings.swTileHeight);
+                } else {
+                    this.shapeRenderer = new DMarlinShapeRenderer();
+                }
                 break;
         }
     }
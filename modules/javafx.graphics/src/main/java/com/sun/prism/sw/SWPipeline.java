@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -118,4 +118,11 @@ public final class SWPipeline extends GraphicsPipeline {
     public boolean isUploading() {
         return true;
     }
+
+    @Override
+    public int getDirtyRegionOverhead() {
+        // pixels are filled in software, so painting fewer pixels is
+        // usually worth an extra traversal
+        return 32 * 32;
+    }
 }
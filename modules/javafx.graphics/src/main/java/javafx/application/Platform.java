@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -171,6 +171,47 @@ public final class Platform {
         PlatformImpl.runLater(runnable);
     }
 
+    /**
+     * Runs the specified Runnable on the JavaFX Application Thread at some
+     * unspecified time in the future, replacing any Runnable that was scheduled
+     * with an equal key and has not run yet.
+     *
+     * <p>
+     * This method is intended for updates that are posted more often than they
+     * can be shown, for example to refresh a view of some rapidly changing
+     * data. If a Runnable with an equal key is still pending, the given Runnable
+     * takes its place in the queue, so that only the most recent update for a
+     * key is run. Keys are compared with {@link Object#equals(Object)}.
+     * </p>
+     *
+     * <p>
+     * Runnables that are scheduled with a key are run in the order in which
+     * their keys were first scheduled, once per pulse, right after the pulse.
+     * The time spent running them after a pulse is limited, so that a burst of
+     * updates does not delay input handling and rendering; the Runnables that
+     * did not get to run are deferred to the next pulse. As a consequence, there is no ordering
+     * guarantee between these Runnables and those posted by
+     * {@link #runLater(Runnable)}.
+     * </p>
+     *
+     * <p>
+     * This method may be called from any thread. The same memory consistency
+     * effects and restrictions as for {@link #runLater(Runnable)} apply.
+     * </p>
+     *
+     * @param key the key that identifies the update
+     * @param runnable the Runnable whose run method will be executed on the
+     * JavaFX Application Thread
+     *
+     * @throws NullPointerException if {@code key} or {@code runnable} is {@code null}
+     * @throws IllegalStateException if the FX runtime has not been initialized
+     *
+     * @since 28
+     */
+    public static void runLater(Object key, Runnable runnable) {
+        PlatformImpl.runLater(key, runnable);
+    }
+
     // NOTE: Add the following if we decide to expose it publicly
 //    public static void runAndWait(Runnable runnable) {
 //        PlatformImpl.runAndWait(runnable);
@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+
+package javafx.concurrent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import com.sun.javafx.tk.TKPulseListener;
+import com.sun.javafx.tk.Toolkit;
+
+/**
+ * A thread-safe staging area for changes to an {@link ObservableList} that is
+ * used on the JavaFX Application Thread.
+ * <p>
+ * Any number of threads may stage changes to the target list concurrently.
+ * Instead of applying each change with its own {@code Platform.runLater} call,
+ * the staged changes are collected and applied together once per pulse, on the
+ * JavaFX Application Thread, before the scenes are laid out and rendered. All of
+ * the changes published in a pulse are applied in a single
+ * {@link FXCollections#batch(ObservableList, Runnable) batch}, so that listeners
+ * of the target list receive one change notification per pulse at most.
+ * <p>
+ * Changes are applied in the order in which they were staged. Staging
+ * {@link #setAll(Collection) setAll} or {@link #clear() clear} discards all of
+ * the changes that are still pending, since they would be overwritten anyway.
+ * <p>
+ * The number of pending changes is bounded by the capacity of the staging list.
+ * When the capacity is reached, threads that stage more changes block until the
+ * pending changes have been published. If the capacity is reached on the JavaFX
+ * Application Thread, the pending changes are applied right away instead.
+ *
+ * <pre>{@code
+ * ObservableList<Quote> quotes = FXCollections.observableArrayList();
+ * StagingList<Quote> staging = new StagingList<>(quotes, 10_000);
+ *
+ * // on any thread
+ * feed.onQuote(quote -> staging.add(quote));
+ * }</pre>
+ *
+ * @param <E> the type of the elements of the target list
+ * @since 28
+ */
+public final class StagingList<E> {
+
+    /**
+     * The capacity used by {@link #StagingList(ObservableList)}.
+     */
+    public static final int DEFAULT_CAPACITY = 10_000;
+
+    private static final int ADD = 0;
+    private static final int REMOVE = 1;
+    private static final int SET_ALL = 2;
+
+    private static final class Operation {
+        final int type;
+        final Object element;
+        final List<?> elements;
+
+        Operation(int type, Object element, List<?> elements) {
+            this.type = type;
+            this.element = element;
+            this.elements = elements;
+        }
+    }
+
+    private final ObservableList<E> target;
+    private final int capacity;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    // guarded by lock
+    private List<Operation> pending = new ArrayList<>();
+    // guarded by lock, the number of elements in the pending operations
+    private int pendingCount;
+    // guarded by lock
+    private boolean pulseRequested;
+
+    // The toolkit only holds its pulse listeners weakly, so we must keep a
+    // reference to it for as long as this staging list is in use
+    private final TKPulseListener pulseListener = this::flush;
+
+    /**
+     * Creates a staging list for the given target list, with the
+     * {@link #DEFAULT_CAPACITY default capacity}.
+     *
+     * @param target the list to which the staged changes are published
+     * @throws NullPointerException if {@code target} is {@code null}
+     */
+    public StagingList(ObservableList<E> target) {
+        this(target, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a staging list for the given target list.
+     *
+     * @param target the list to which the staged changes are published
+     * @param capacity the maximum number of pending changes, must be positive
+     * @throws NullPointerException if {@code target} is {@code null}
+     * @throws IllegalArgumentException if {@code capacity} is not positive
+     */
+    public StagingList(ObservableList<E> target, int capacity) {
+        this.target = Objects.requireNonNull(target, "target cannot be null");
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        // Stage pulse listeners run before the scene pulse listeners, so the
+        // changes are visible to layout and CSS in the same pulse
+        Toolkit.getToolkit().addStageTkPulseListener(pulseListener);
+    }
+
+    /**
+     * Gets the list to which the staged changes are published.
+     *
+     * @return the target list
+     */
+    public ObservableList<E> getTarget() {
+        return target;
+    }
+
+    /**
+     * Gets the maximum number of pending changes.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the number of changes that were staged, but not yet published.
+     * Every element that is added or removed counts as one change.
+     *
+     * @return the number of pending changes
+     */
+    public int getPendingCount() {
+        lock.lock();
+        try {
+            return pendingCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stages the addition of an element to the end of the target list.
+     * This method may be called on any thread.
+     *
+     * @param element the element to add
+     * @throws InterruptedException if the thread is interrupted while waiting
+     *      for the pending changes to be published
+     */
+    public void add(E element) throws InterruptedException {
+        stage(new Operation(ADD, element, null), 1);
+    }
+
+    /**
+     * Stages the addition of all of the given elements to the end of the target
+     * list. This method may be called on any thread.
+     *
+     * @param elements the elements to add
+     * @throws NullPointerException if {@code elements} is {@code null}
+     * @throws InterruptedException if the thread is interrupted while waiting
+     *      for the pending changes to be published
+     */
+    public void addAll(Collection<? extends E> elements) throws InterruptedException {
+        List<E> copy = new ArrayList<>(elements);
+        if (!copy.isEmpty()) {
+            stage(new Operation(ADD, null, copy), copy.size());
+        }
+    }
+
+    /**
+     * Stages the removal of the first occurrence of an element from the target
+     * list. This method may be called on any thread.
+     *
+     * @param element the element to remove
+     * @throws InterruptedException if the thread is interrupted while waiting
+     *      for the pending changes to be published
+     */
+    public void remove(Object element) throws InterruptedException {
+        stage(new Operation(REMOVE, element, null), 1);
+    }
+
+    /**
+     * Stages the replacement of the content of the target list with the given
+     * elements, discarding all pending changes. This method never blocks and may
+     * be called on any thread.
+     *
+     * @param elements the new content of the target list
+     * @throws NullPointerException if {@code elements} is {@code null}
+     */
+    public void setAll(Collection<? extends E> elements) {
+        List<E> copy = new ArrayList<>(elements);
+        lock.lock();
+        try {
+            pending = new ArrayList<>();
+            pending.add(new Operation(SET_ALL, null, copy));
+            pendingCount = 1;
+            notFull.signalAll();
+            requestPulse();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stages the removal of all elements from the target list, discarding all
+     * pending changes. This method never blocks and may be called on any thread.
+     */
+    public void clear() {
+        setAll(List.of());
+    }
+
+    /**
+     * Publishes all pending changes to the target list immediately, instead of
+     * waiting for the next pulse.
+     *
+     * @throws IllegalStateException if this method is not called on the JavaFX
+     *      Application Thread
+     */
+    public void flush() {
+        Toolkit.getToolkit().checkFxUserThread();
+        final List<Operation> ops;
+        lock.lock();
+        try {
+            pulseRequested = false;
+            if (pending.isEmpty()) {
+                return;
+            }
+            ops = pending;
+            pending = new ArrayList<>();
+            pendingCount = 0;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        FXCollections.batch(target, () -> apply(ops));
+    }
+
+    private void stage(Operation op, int count) throws InterruptedException {
+        lock.lock();
+        try {
+            while (pendingCount >= capacity) {
+                if (Toolkit.getToolkit().isFxUserThread()) {
+                    lock.unlock();
+                    try {
+                        flush();
+                    } finally {
+                        lock.lock();
+                    }
+                } else {
+                    notFull.await();
+                }
+            }
+            pending.add(op);
+            pendingCount += count;
+            requestPulse();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void requestPulse() {
+        if (!pulseRequested) {
+            pulseRequested = true;
+            Toolkit.getToolkit().requestNextPulse();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void apply(List<Operation> ops) {
+        List<E> added = new ArrayList<>();
+        for (int i = 0, n = ops.size(); i < n; i++) {
+            Operation op = ops.get(i);
+            if (op.type == ADD) {
+                // consecutive additions are applied with a single addAll
+                if (op.elements != null) {
+                    added.addAll((List<E>) op.elements);
+                } else {
+                    added.add((E) op.element);
+                }
+                continue;
+            }
+            if (!added.isEmpty()) {
+                target.addAll(added);
+                added.clear();
+            }
+            if (op.type == REMOVE) {
+                target.remove(op.element);
+            } else {
+                target.setAll((List<E>) op.elements);
+            }
+        }
+        if (!added.isEmpty()) {
+            target.addAll(added);
+        }
+    }
+}
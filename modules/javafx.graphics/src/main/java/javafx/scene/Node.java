@@ -110,7 +110,6 @@ import javafx.util.Callback;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -733,7 +732,15 @@ public abstract sealed class Node
      * <p>
      * A node starts dirty.
      */
-    private Set<DirtyBits> dirtyBits = EnumSet.allOf(DirtyBits.class);
+    private long dirtyBits = ALL_DIRTY_BITS;
+
+    // DirtyBits are kept in a bit mask, rather than an EnumSet, to avoid an
+    // extra object for every node
+    private static final long ALL_DIRTY_BITS = -1L >>> (Long.SIZE - DirtyBits.values().length);
+
+    private static long dirtyMask(DirtyBits dirtyBit) {
+        return 1L << dirtyBit.ordinal();
+    }
 
     /**
      * Mark the specified bit as dirty, and add this node to the scene's dirty list.
@@ -745,7 +752,7 @@ public abstract sealed class Node
             addToSceneDirtyList();
         }
 
-        dirtyBits.add(dirtyBit);
+        dirtyBits |= dirtyMask(dirtyBit);
     }
 
     private void addToSceneDirtyList() {
@@ -762,28 +769,28 @@ public abstract sealed class Node
      * Test whether the specified dirty bit is set
      */
     final boolean isDirty(DirtyBits dirtyBit) {
-        return dirtyBits.contains(dirtyBit);
+        return (dirtyBits & dirtyMask(dirtyBit)) != 0;
     }
 
     /**
      * Clear the specified dirty bit
      */
     final void clearDirty(DirtyBits dirtyBit) {
-        dirtyBits.remove(dirtyBit);
+        dirtyBits &= ~dirtyMask(dirtyBit);
     }
 
     /**
      * Clear all dirty bits
      */
     private void clearDirty() {
-        dirtyBits.clear();
+        dirtyBits = 0;
     }
 
     /**
      * Test whether the set of dirty bits is empty
      */
     private boolean isDirtyEmpty() {
-        return dirtyBits.isEmpty();
+        return dirtyBits == 0;
     }
 
     /* ************************************************************************
@@ -1260,22 +1267,6 @@ public abstract sealed class Node
                        final Scene oldScene, final SubScene oldSubScene) { }
 
 
-    /**
-     * The id of this {@code Node}. This simple string identifier is useful for
-     * finding a specific Node within the scene graph. While the id of a Node
-     * should be unique within the scene graph, this uniqueness is not enforced.
-     * This is analogous to the "id" attribute on an HTML element
-     * (<a href="http://www.w3.org/TR/CSS21/syndata.html#value-def-identifier">CSS ID Specification</a>).
-     * <p>
-     *     For example, if a Node is given the id of "myId", then the lookup method can
-     *     be used to find this node as follows: <code>scene.lookup("#myId");</code>.
-     * </p>
-     *
-     * @defaultValue null
-     * @see <a href="doc-files/cssref.html">CSS Reference Guide</a>.
-     */
-    private StringProperty id;
-
     public final void setId(String value) {
         idProperty().set(value);
     }
@@ -1296,33 +1287,26 @@ public abstract sealed class Node
      */
     @Override
     public final String getId() {
-        return id == null ? null : id.get();
+        return (miscProperties == null) ? DEFAULT_ID
+                                        : miscProperties.getId();
     }
 
+    /**
+     * The id of this {@code Node}. This simple string identifier is useful for
+     * finding a specific Node within the scene graph. While the id of a Node
+     * should be unique within the scene graph, this uniqueness is not enforced.
+     * This is analogous to the "id" attribute on an HTML element
+     * (<a href="http://www.w3.org/TR/CSS21/syndata.html#value-def-identifier">CSS ID Specification</a>).
+     * <p>
+     *     For example, if a Node is given the id of "myId", then the lookup method can
+     *     be used to find this node as follows: <code>scene.lookup("#myId");</code>.
+     * </p>
+     *
+     * @defaultValue null
+     * @see <a href="doc-files/cssref.html">CSS Reference Guide</a>.
+     */
     public final StringProperty idProperty() {
-        if (id == null) {
-            id = new StringPropertyBase() {
-
-                @Override
-                protected void invalidated() {
-                    reapplyCSS();
-                    if (PrismSettings.printRenderGraph) {
-                        NodeHelper.markDirty(Node.this, DirtyBits.DEBUG);
-                    }
-                }
-
-                @Override
-                public Object getBean() {
-                    return Node.this;
-                }
-
-                @Override
-                public String getName() {
-                    return "id";
-                }
-            };
-        }
-        return id;
+        return getMiscProperties().idProperty();
     }
 
     /**
@@ -1365,17 +1349,6 @@ public abstract sealed class Node
         return styleClass;
     }
 
-    /**
-     * A string representation of the CSS style associated with this
-     * specific {@code Node}. This is analogous to the "style" attribute of an
-     * HTML element. Note that, like the HTML style attribute, this
-     * variable contains style properties and values and not the
-     * selector portion of a style rule.
-     * @defaultValue empty string
-     * @see <a href="doc-files/cssref.html">CSS Reference Guide</a>.
-     */
-    private StringProperty style;
-
     /**
      * A string representation of the CSS style associated with this
      * specific {@code Node}. This is analogous to the "style" attribute of an
@@ -1406,39 +1379,21 @@ public abstract sealed class Node
      */
     @Override
     public final String getStyle() {
-        return style == null ? "" : style.get();
+        return (miscProperties == null) ? DEFAULT_STYLE
+                                        : miscProperties.getStyle();
     }
 
+    /**
+     * A string representation of the CSS style associated with this
+     * specific {@code Node}. This is analogous to the "style" attribute of an
+     * HTML element. Note that, like the HTML style attribute, this
+     * variable contains style properties and values and not the
+     * selector portion of a style rule.
+     * @defaultValue empty string
+     * @see <a href="doc-files/cssref.html">CSS Reference Guide</a>.
+     */
     public final StringProperty styleProperty() {
-        if (style == null) {
-            style = new StringPropertyBase("") {
-
-                @Override public void set(String value) {
-                    // getStyle returns an empty string if the style property
-                    // is null. To be consistent, getStyle should also return
-                    // an empty string when the style property's value is null.
-                    super.set((value != null) ? value : "");
-                }
-
-                @Override
-                protected void invalidated() {
-                    // If the style has changed, then styles of this node
-                    // and child nodes might be affected.
-                    reapplyCSS();
-                }
-
-                @Override
-                public Object getBean() {
-                    return Node.this;
-                }
-
-                @Override
-                public String getName() {
-                    return "style";
-                }
-            };
-        }
-        return style;
+        return getMiscProperties().styleProperty();
     }
 
     /**
@@ -1588,6 +1543,14 @@ public abstract sealed class Node
         return opacity;
     }
 
+    public final void setBlendMode(BlendMode value) {
+        blendModeProperty().set(value);
+    }
+    public final BlendMode getBlendMode() {
+        return (miscProperties == null) ? DEFAULT_BLEND_MODE
+                                        : miscProperties.getBlendMode();
+    }
+
     /**
      * The {@link javafx.scene.effect.BlendMode} used to blend this individual node
      * into the scene behind it. If this node is a {@code Group}, then all of the
@@ -1600,39 +1563,8 @@ public abstract sealed class Node
      *
      * @defaultValue {@code null}
      */
-    private javafx.beans.property.ObjectProperty<BlendMode> blendMode;
-
-    public final void setBlendMode(BlendMode value) {
-        blendModeProperty().set(value);
-    }
-    public final BlendMode getBlendMode() {
-        return blendMode == null ? null : blendMode.get();
-    }
-
     public final ObjectProperty<BlendMode> blendModeProperty() {
-        if (blendMode == null) {
-            blendMode = new StyleableObjectProperty<BlendMode>(null) {
-                @Override public void invalidated() {
-                    NodeHelper.markDirty(Node.this, DirtyBits.NODE_BLENDMODE);
-                }
-
-                @Override
-                public CssMetaData getCssMetaData() {
-                    return StyleableProperties.BLEND_MODE;
-                }
-
-                @Override
-                public Object getBean() {
-                    return Node.this;
-                }
-
-                @Override
-                public String getName() {
-                    return "blendMode";
-                }
-            };
-        }
-        return blendMode;
+        return getMiscProperties().blendModeProperty();
     }
 
     public final void setClip(Node value) {
@@ -6850,6 +6782,14 @@ public abstract sealed class Node
         return miscProperties;
     }
 
+    /*
+     * Returns whether the rarely used properties of this node have been
+     * materialized. Used by tests to check the footprint of a node.
+     */
+    boolean hasMiscProperties() {
+        return miscProperties != null;
+    }
+
     private static final double DEFAULT_VIEW_ORDER = 0;
     private static final boolean DEFAULT_CACHE = false;
     private static final CacheHint DEFAULT_CACHE_HINT = CacheHint.DEFAULT;
@@ -6861,6 +6801,9 @@ public abstract sealed class Node
     private static final InputMethodRequests DEFAULT_INPUT_METHOD_REQUESTS =
             null;
     private static final boolean DEFAULT_MOUSE_TRANSPARENT = false;
+    private static final String DEFAULT_ID = null;
+    private static final String DEFAULT_STYLE = "";
+    private static final BlendMode DEFAULT_BLEND_MODE = null;
 
     private final class MiscProperties {
         private LazyBoundsProperty boundsInParent;
@@ -6877,6 +6820,9 @@ public abstract sealed class Node
         private DoubleProperty viewOrder;
         private TransitionTimerCollection transitionTimers;
         private TransitionDefinitionCollection transitionDefinitions;
+        private StringProperty id;
+        private StringProperty style;
+        private ObjectProperty<BlendMode> blendMode;
 
         public double getViewOrder() {
             return (viewOrder == null) ? DEFAULT_VIEW_ORDER : viewOrder.get();
@@ -7347,6 +7293,106 @@ public abstract sealed class Node
         public boolean canSetEffect() {
             return (effect == null) || !effect.isBound();
         }
+
+        public boolean canSetBlendMode() {
+            return (blendMode == null) || !blendMode.isBound();
+        }
+
+        public final String getId() {
+            return (id == null) ? DEFAULT_ID : id.get();
+        }
+
+        public final StringProperty idProperty() {
+            if (id == null) {
+                id = new StringPropertyBase(DEFAULT_ID) {
+
+                    @Override
+                    protected void invalidated() {
+                        reapplyCSS();
+                        if (PrismSettings.printRenderGraph) {
+                            NodeHelper.markDirty(Node.this, DirtyBits.DEBUG);
+                        }
+                    }
+
+                    @Override
+                    public Object getBean() {
+                        return Node.this;
+                    }
+
+                    @Override
+                    public String getName() {
+                        return "id";
+                    }
+                };
+            }
+            return id;
+        }
+
+        public final String getStyle() {
+            return (style == null) ? DEFAULT_STYLE : style.get();
+        }
+
+        public final StringProperty styleProperty() {
+            if (style == null) {
+                style = new StringPropertyBase(DEFAULT_STYLE) {
+
+                    @Override public void set(String value) {
+                        // getStyle returns an empty string if the style property
+                        // is null. To be consistent, getStyle should also return
+                        // an empty string when the style property's value is null.
+                        super.set((value != null) ? value : DEFAULT_STYLE);
+                    }
+
+                    @Override
+                    protected void invalidated() {
+                        // If the style has changed, then styles of this node
+                        // and child nodes might be affected.
+                        reapplyCSS();
+                    }
+
+                    @Override
+                    public Object getBean() {
+                        return Node.this;
+                    }
+
+                    @Override
+                    public String getName() {
+                        return "style";
+                    }
+                };
+            }
+            return style;
+        }
+
+        public final BlendMode getBlendMode() {
+            return (blendMode == null) ? DEFAULT_BLEND_MODE : blendMode.get();
+        }
+
+        public final ObjectProperty<BlendMode> blendModeProperty() {
+            if (blendMode == null) {
+                blendMode = new StyleableObjectProperty<BlendMode>(DEFAULT_BLEND_MODE) {
+                    @Override public void invalidated() {
+                        NodeHelper.markDirty(Node.this, DirtyBits.NODE_BLENDMODE);
+                    }
+
+                    @Override
+                    public CssMetaData getCssMetaData() {
+                        return StyleableProperties.BLEND_MODE;
+                    }
+
+                    @Override
+                    public Object getBean() {
+                        return Node.this;
+                    }
+
+                    @Override
+                    public String getName() {
+                        return "blendMode";
+                    }
+                };
+            }
+            return blendMode;
+        }
     }
 
     /* *************************************************************************
@@ -8661,7 +8707,8 @@ public abstract sealed class Node
         String klassName = getClass().getName();
         String simpleName = klassName.substring(klassName.lastIndexOf('.')+1);
         StringBuilder sbuf = new StringBuilder(simpleName);
-        boolean hasId = id != null && !"".equals(getId());
+        final String id = getId();
+        boolean hasId = id != null && !id.isEmpty();
         boolean hasStyleClass = !getStyleClass().isEmpty();
 
         if (!hasId) {
@@ -9534,7 +9581,7 @@ public abstract sealed class Node
 
                 @Override
                 public boolean isSettable(Node node) {
-                    return node.blendMode == null || !node.blendMode.isBound();
+                    return node.miscProperties == null || node.miscProperties.canSetBlendMode();
                 }
 
                 @Override
@@ -9883,14 +9930,17 @@ public abstract sealed class Node
 
     // package so that StyleHelper can get at it
     final ObservableSet<PseudoClass> pseudoClassStates = new PseudoClassState();
-    private final ObservableSet<PseudoClass> unmodifiablePseudoClassStates =
-            FXCollections.unmodifiableObservableSet(pseudoClassStates);
+    // created on demand, as CSS uses pseudoClassStates directly
+    private ObservableSet<PseudoClass> unmodifiablePseudoClassStates;
     /**
      * @return The active pseudo-class states of this Node, wrapped in an unmodifiable ObservableSet
      * @since JavaFX 8.0
      */
     @Override
     public final ObservableSet<PseudoClass> getPseudoClassStates() {
+        if (unmodifiablePseudoClassStates == null) {
+            unmodifiablePseudoClassStates = FXCollections.unmodifiableObservableSet(pseudoClassStates);
+        }
         return unmodifiablePseudoClassStates;
     }
 
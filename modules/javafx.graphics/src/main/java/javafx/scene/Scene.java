@@ -2568,12 +2568,18 @@ public class Scene implements EventTarget {
             // scene and then create the dirty nodes array list
             if (Scene.this.dirtyNodes == null) {
                 // must do this recursively
-                syncAll(getRoot());
+                int size = syncAll(getRoot());
                 dirtyNodes = new Node[MIN_DIRTY_CAPACITY];
+                if (PULSE_LOGGING_ENABLED) {
+                    PulseLogger.incrementCounter("Dirty nodes synchronized", size);
+                }
 
             } else {
                 // This is not the first time this scene has been synchronized,
                 // so we will only synchronize those nodes that need it
+                if (PULSE_LOGGING_ENABLED) {
+                    PulseLogger.incrementCounter("Dirty nodes synchronized", dirtyNodesSize);
+                }
                 for (int i = 0 ; i < dirtyNodesSize; ++i) {
                     Node node = dirtyNodes[i];
                     dirtyNodes[i] = null;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,6 +25,7 @@
 
 package javafx.scene.canvas;
 
+import java.util.Objects;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.DoublePropertyBase;
 import javafx.geometry.NodeOrientation;
@@ -157,6 +158,62 @@ public non-sealed class Canvas extends Node {
         return rendererBehind;
     }
 
+    /**
+     * Replaces the content of this canvas with the drawing commands recorded
+     * by the given {@code CanvasRecorder}. The canvas is cleared and all of
+     * the commands issued to it that were not rendered yet are discarded, as
+     * if they had been covered by a {@link GraphicsContext#clearRect(double,
+     * double, double, double) clearRect} of the entire canvas, followed by
+     * the recorded commands. The hand-over happens in one step, so the
+     * canvas never shows a partial drawing.
+     * <p>
+     * The recorded commands are removed from the recorder, which may then
+     * be used to record the next drawing. The attributes of the
+     * {@code GraphicsContext} of this canvas are not changed by the
+     * recorded commands.
+     * <p>
+     * This method must be called on the JavaFX Application Thread if this
+     * canvas is attached to a scene, and the recorder must not be used by
+     * another thread while this method runs.
+     *
+     * @param recorder the {@code CanvasRecorder} with the drawing commands
+     * @throws NullPointerException if {@code recorder} is null
+     * @see CanvasRecorder
+     * @since 28
+     */
+    public void replaceContent(CanvasRecorder recorder) {
+        Objects.requireNonNull(recorder, "recorder cannot be null");
+        GraphicsContext gc = getGraphicsContext2D();
+        GrowableDataBuffer recorded = recorder.takeBuffer();
+        if (recorded == null) {
+            GrowableDataBuffer buf = getBuffer();
+            buf.reset();
+            buf.putByte(NGCanvas.RESET);
+            gc.updateDimensions();
+            gc.restoreState(new GraphicsContext.State());
+            return;
+        }
+
+        // The recording starts with a RESET, so the pending commands can
+        // be discarded and the recorded buffer used as is
+        GraphicsContext.State recordedState = recorder.getRecordedState();
+        if (current != null) {
+            GrowableDataBuffer.returnBuffer(current);
+        }
+        current = recorded;
+        NodeHelper.markDirty(this, DirtyBits.NODE_CONTENTS);
+        NodeHelper.markDirty(this, DirtyBits.NODE_FORCE_SYNC);
+        if (recorder.getWidth() != getWidth() || recorder.getHeight() != getHeight()) {
+            gc.updateDimensions();
+        }
+        // Bring the attributes of the renderer back to those of our context
+        for (int i = 0; i < recordedState.numClipPaths; i++) {
+            recorded.putByte(NGCanvas.POP_CLIP);
+        }
+        recordedState.numClipPaths = 0;
+        gc.restoreState(recordedState);
+    }
+
     /**
      * returns the {@code GraphicsContext} associated with this {@code Canvas}.
      * @return the {@code GraphicsContext} associated with this {@code Canvas}
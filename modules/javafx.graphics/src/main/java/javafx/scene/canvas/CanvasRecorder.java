@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.canvas;
+
+import com.sun.javafx.sg.prism.GrowableDataBuffer;
+import com.sun.javafx.sg.prism.NGCanvas;
+
+/**
+ * {@code CanvasRecorder} records drawing commands issued through a
+ * {@link GraphicsContext} without being attached to a {@link Canvas}, so that
+ * the commands for a complex drawing can be prepared on a background thread.
+ * The recorded commands are then handed over to a {@code Canvas} in a single
+ * step by calling {@link Canvas#replaceContent(CanvasRecorder)} on the JavaFX
+ * Application Thread.
+ * <p>
+ * A {@code CanvasRecorder} may be used by any thread, as long as it is only
+ * used from one thread at a time. In particular, the thread that records the
+ * commands must have finished recording before the recorder is passed to
+ * {@link Canvas#replaceContent(CanvasRecorder) replaceContent}, for example
+ * by handing it over with {@link javafx.application.Platform#runLater(Runnable)
+ * Platform.runLater}. After the hand-over the recorder is empty and may be
+ * used to record the next drawing; the attributes of its
+ * {@code GraphicsContext} (fill, stroke, transform, clip, etc.) are kept.
+ * <p>
+ * Since the recorder is not attached to a {@code Canvas}, the
+ * {@link GraphicsContext#getCanvas() getCanvas()} method of its
+ * {@code GraphicsContext} returns {@code null}, and text is always laid
+ * out with a left-to-right node orientation.
+ *
+ * <p>Example:</p>
+ *
+ * <pre>{@code
+ * CanvasRecorder recorder = new CanvasRecorder(canvas.getWidth(), canvas.getHeight());
+ * executor.submit(() -> {
+ *     GraphicsContext gc = recorder.getGraphicsContext2D();
+ *     for (Point2D p : points) {
+ *         gc.fillOval(p.getX() - 1, p.getY() - 1, 2, 2);
+ *     }
+ *     Platform.runLater(() -> canvas.replaceContent(recorder));
+ * });
+ * }</pre>
+ *
+ * @see Canvas#replaceContent(CanvasRecorder)
+ * @since 28
+ */
+public final class CanvasRecorder {
+
+    private final double width;
+    private final double height;
+
+    private GrowableDataBuffer current;
+    private GraphicsContext theContext;
+
+    /**
+     * Creates a new {@code CanvasRecorder} for drawings of the given size.
+     * The recorded drawing is clipped to this size, which should normally
+     * be the size of the {@code Canvas} that the drawing is meant for.
+     *
+     * @param width the width of the recorded drawing
+     * @param height the height of the recorded drawing
+     */
+    public CanvasRecorder(double width, double height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Returns the width of the recorded drawing.
+     *
+     * @return the width of the recorded drawing
+     */
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the height of the recorded drawing.
+     *
+     * @return the height of the recorded drawing
+     */
+    public double getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the {@code GraphicsContext} used to record drawing commands.
+     * There is only ever one {@code GraphicsContext} for a
+     * {@code CanvasRecorder}.
+     *
+     * @return the {@code GraphicsContext} of this {@code CanvasRecorder}
+     */
+    public GraphicsContext getGraphicsContext2D() {
+        if (theContext == null) {
+            theContext = new GraphicsContext(this);
+        }
+        return theContext;
+    }
+
+    GrowableDataBuffer getBuffer() {
+        if (current == null) {
+            current = GrowableDataBuffer.getBuffer(Canvas.DEFAULT_VAL_BUF_SIZE,
+                                                   Canvas.DEFAULT_OBJ_BUF_SIZE);
+            // A recording replaces the whole content of the Canvas that it
+            // is handed over to, so it always starts with a RESET, and the
+            // current attributes must be recorded again
+            current.putByte(NGCanvas.RESET);
+            theContext.updateDimensions();
+            theContext.restoreState(new GraphicsContext.State());
+        }
+        return current;
+    }
+
+    /**
+     * Removes the recorded commands from this recorder.
+     *
+     * @return the recorded commands, or null if nothing was recorded
+     */
+    GrowableDataBuffer takeBuffer() {
+        GrowableDataBuffer buf = current;
+        current = null;
+        return buf;
+    }
+
+    /**
+     * Returns the attributes that the renderer will have after rendering
+     * the recorded commands.
+     */
+    GraphicsContext.State getRecordedState() {
+        return theContext == null ? new GraphicsContext.State() : theContext.curState.copy();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -80,6 +80,11 @@ import javafx.scene.text.FontSmoothingType;
  * its corresponding {@code Canvas} and is subject to the same threading
  * rules.
  * <p>
+ * Drawing commands for a {@code Canvas} that is attached to a scene can be
+ * prepared on another thread with the {@code GraphicsContext} of a
+ * {@link CanvasRecorder}, and then handed over to the {@code Canvas} with
+ * {@link Canvas#replaceContent(CanvasRecorder)}.
+ * <p>
  * A {@code GraphicsContext} also manages a stack of state objects that can
  * be saved or restored at anytime.
  * <p>
@@ -481,6 +486,7 @@ import javafx.scene.text.FontSmoothingType;
  */
 public final class GraphicsContext {
     Canvas theCanvas;
+    CanvasRecorder theRecorder;
     Path2D path;
     boolean pathDirty;
 
@@ -498,6 +504,16 @@ public final class GraphicsContext {
         this.clipStack = new LinkedList<>();
     }
 
+    GraphicsContext(CanvasRecorder theRecorder) {
+        this.theRecorder = theRecorder;
+        this.path = new Path2D();
+        pathDirty = true;
+
+        this.curState = new State();
+        this.stateStack = new LinkedList<>();
+        this.clipStack = new LinkedList<>();
+    }
+
     static class State {
         double globalAlpha;
         BlendMode blendop;
@@ -612,7 +628,15 @@ public final class GraphicsContext {
     }
 
     private GrowableDataBuffer getBuffer() {
-        return theCanvas.getBuffer();
+        return theCanvas != null ? theCanvas.getBuffer() : theRecorder.getBuffer();
+    }
+
+    private double getTargetWidth() {
+        return theCanvas != null ? theCanvas.getWidth() : theRecorder.getWidth();
+    }
+
+    private double getTargetHeight() {
+        return theCanvas != null ? theCanvas.getHeight() : theRecorder.getHeight();
     }
 
     private float coords[] = new float[6];
@@ -696,6 +720,37 @@ public final class GraphicsContext {
         buf.putFloat((float) v2);
     }
 
+    private static void checkBatch(double[] values, int offset, int count, int stride) {
+        if (offset < 0 || count < 0 || offset > values.length ||
+            count > (values.length - offset) / stride)
+        {
+            throw new IndexOutOfBoundsException("offset " + offset + ", count " + count +
+                                                ", length " + values.length);
+        }
+    }
+
+    /**
+     * Returns whether a batch of primitives renders the same as drawing them
+     * one by one. A batch is rendered as a single unit, so with another blend
+     * mode, a clip or an effect its primitives would be composited together
+     * before being blended, clipped or given the effect.
+     */
+    private boolean canBatch() {
+        return this.curState.blendop == BlendMode.SRC_OVER &&
+               this.curState.numClipPaths == 0 &&
+               this.curState.effect == null;
+    }
+
+    private void writeBatch(double[] values, int offset, int count, int stride,
+                            byte command)
+    {
+        updateTransform();
+        GrowableDataBuffer buf = getBuffer();
+        buf.putByte(command);
+        buf.putInt(count);
+        buf.putFloats(values, offset, count * stride);
+    }
+
     private float polybuf[] = new float[512];
     private void flushPolyBuf(GrowableDataBuffer buf,
                               float polybuf[], int n, byte command)
@@ -777,7 +832,8 @@ public final class GraphicsContext {
         buf.putFloat((float) x);
         buf.putFloat((float) y);
         buf.putFloat((float) maxWidth);
-        buf.putBoolean(theCanvas.getEffectiveNodeOrientation() == NodeOrientation.RIGHT_TO_LEFT);
+        buf.putBoolean(theCanvas != null &&
+                       theCanvas.getEffectiveNodeOrientation() == NodeOrientation.RIGHT_TO_LEFT);
         buf.putObject(text);
     }
 
@@ -811,8 +867,8 @@ public final class GraphicsContext {
     void updateDimensions() {
         GrowableDataBuffer buf = getBuffer();
         buf.putByte(NGCanvas.SET_DIMS);
-        buf.putFloat((float) theCanvas.getWidth());
-        buf.putFloat((float) theCanvas.getHeight());
+        buf.putFloat((float) getTargetWidth());
+        buf.putFloat((float) getTargetHeight());
     }
 
     private void reset() {
@@ -824,57 +880,98 @@ public final class GraphicsContext {
         // behind because that lets the synchronization step throw out the
         // older buffers that have been backing up.
         if (buf.writeValuePosition() > Canvas.DEFAULT_VAL_BUF_SIZE ||
-            theCanvas.isRendererFallingBehind())
+            (theCanvas != null && theCanvas.isRendererFallingBehind()))
         {
             buf.reset();
             buf.putByte(NGCanvas.RESET);
             updateDimensions();
-            txdirty = true;
-            pathDirty = true;
-            State s = this.curState;
-            int numClipPaths = this.curState.numClipPaths;
-            this.curState = new State();
-            for (int i = 0; i < numClipPaths; i++) {
-                Path2D clip = clipStack.get(i);
-                buf.putByte(NGCanvas.PUSH_CLIP);
-                buf.putObject(clip);
-            }
-            this.curState.numClipPaths = numClipPaths;
-            s.restore(this);
+            restoreState(new State());
+        }
+    }
+
+    /**
+     * Records the current attributes and clip again, after the renderer has
+     * been brought into the given state (e.g. by a RESET) without the
+     * knowledge of this context. The given state must not have any clips.
+     */
+    void restoreState(State rendererState) {
+        GrowableDataBuffer buf = getBuffer();
+        txdirty = true;
+        pathDirty = true;
+        State s = this.curState;
+        int numClipPaths = this.curState.numClipPaths;
+        this.curState = rendererState;
+        for (int i = 0; i < numClipPaths; i++) {
+            Path2D clip = clipStack.get(i);
+            buf.putByte(NGCanvas.PUSH_CLIP);
+            buf.putObject(clip);
         }
+        this.curState.numClipPaths = numClipPaths;
+        s.restore(this);
     }
 
     private void resetIfCovers(Paint p, double x, double y, double w, double h) {
+        if (canResetWith(p) && covers(x, y, w, h)) {
+            reset();
+        }
+    }
+
+    // Returns true if a rectangle filled with the given paint, or cleared
+    // if the paint is null, would replace all of the pixels it covers
+    private boolean canResetWith(Paint p) {
+        if (p != null) {
+            if (this.curState.blendop != BlendMode.SRC_OVER) return false;
+            if (!p.isOpaque() || this.curState.globalAlpha < 1.0) return false;
+        }
+        if (this.curState.numClipPaths > 0) return false;
+        if (this.curState.effect != null) return false;
+        return true;
+    }
+
+    // Returns true if the given rectangle, transformed by the current
+    // transform, covers the entire canvas
+    private boolean covers(double x, double y, double w, double h) {
         Affine2D tx = this.curState.transform;
         if (tx.isTranslateOrIdentity()) {
             x += tx.getMxt();
             y += tx.getMyt();
             if (x > 0 || y > 0 ||
-                (x+w) < theCanvas.getWidth() ||
-                (y+h) < theCanvas.getHeight())
+                (x+w) < getTargetWidth() ||
+                (y+h) < getTargetHeight())
             {
-                return;
+                return false;
             }
         } else {
-//          quad test for coverage...?
-            return;
-        }
-        if (p != null) {
-            if (this.curState.blendop != BlendMode.SRC_OVER) return;
-            if (!p.isOpaque() || this.curState.globalAlpha < 1.0) return;
+            // The rectangle is convex, so it covers the canvas if all of
+            // the corners of the canvas fall inside of it in user space
+            double cw = getTargetWidth();
+            double ch = getTargetHeight();
+            double corners[] = { 0, 0, cw, 0, 0, ch, cw, ch };
+            try {
+                tx.inverseTransform(corners, 0, corners, 0, 4);
+            } catch (NoninvertibleTransformException e) {
+                return false;
+            }
+            for (int i = 0; i < corners.length; i += 2) {
+                if (!(corners[i]   >= x && corners[i]   <= x + w &&
+                      corners[i+1] >= y && corners[i+1] <= y + h))
+                {
+                    return false;
+                }
+            }
         }
-        if (this.curState.numClipPaths > 0) return;
-        if (this.curState.effect != null) return;
-        reset();
+        return true;
     }
 
     /**
     * Gets the {@code Canvas} that the {@code GraphicsContext} is issuing draw
     * commands to. There is only ever one {@code Canvas} for a
-    * {@code GraphicsContext}.
+    * {@code GraphicsContext}. The {@code GraphicsContext} of a
+    * {@link CanvasRecorder} is not associated with any {@code Canvas}.
     *
     * @return Canvas the canvas that this {@code GraphicsContext} is issuing draw
-    * commands to.
+    * commands to, or {@code null} if this {@code GraphicsContext} belongs to a
+    * {@code CanvasRecorder}.
     */
     public Canvas getCanvas() {
         return theCanvas;
@@ -2582,6 +2679,94 @@ public final class GraphicsContext {
         writeOp4(x1, y1, x2, y2, NGCanvas.STROKE_LINE);
     }
 
+    /**
+     * Fills a number of rectangles using the current fill paint.
+     * The rectangles are stored in the given array as consecutive groups
+     * of 4 values, {@code x, y, w, h}, in the same order as the parameters of
+     * {@link #fillRect(double, double, double, double) fillRect()}.
+     * The result is the same as calling {@code fillRect()} for each of the
+     * rectangles in turn, but this method is much more efficient for large
+     * numbers of rectangles. It is only more efficient while the global blend
+     * mode is {@link BlendMode#SRC_OVER SRC_OVER} and neither a clip nor an
+     * effect is set; otherwise the rectangles are filled one by one.
+     * A {@code null} value for the array will be ignored and nothing will be drawn.
+     * <p>
+     * This method will be affected by any of the
+     * <a href="#comm-attr">global common</a>
+     * or <a href="#fill-attr">fill</a>
+     * attributes as specified in the
+     * <a href="#attr-ops-table">Rendering Attributes Table</a>.
+     * </p>
+     *
+     * @param rects array containing the rectangles or null.
+     * @param offset the index in the array of the {@code x} value of the first rectangle.
+     * @param count the number of rectangles to fill.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code count} is
+     *         negative, or if the array does not contain {@code count}
+     *         rectangles starting at {@code offset}
+     * @since 28
+     */
+    public void fillRects(double[] rects, int offset, int count) {
+        if (rects == null) return;
+        checkBatch(rects, offset, count, 4);
+        if (count == 0) return;
+        if (!canBatch()) {
+            for (int i = offset, end = offset + count * 4; i < end; i += 4) {
+                fillRect(rects[i], rects[i+1], rects[i+2], rects[i+3]);
+            }
+            return;
+        }
+        if (canResetWith(this.curState.fill)) {
+            for (int i = offset, end = offset + count * 4; i < end; i += 4) {
+                if (covers(rects[i], rects[i+1], rects[i+2], rects[i+3])) {
+                    reset();
+                    break;
+                }
+            }
+        }
+        writeBatch(rects, offset, count, 4, NGCanvas.FILL_RECTS);
+    }
+
+    /**
+     * Strokes a number of lines using the current stroke paint.
+     * The lines are stored in the given array as consecutive groups of
+     * 4 values, {@code x1, y1, x2, y2}, in the same order as the parameters of
+     * {@link #strokeLine(double, double, double, double) strokeLine()}.
+     * The result is the same as calling {@code strokeLine()} for each of the
+     * lines in turn, but this method is much more efficient for large
+     * numbers of lines. It is only more efficient while the global blend
+     * mode is {@link BlendMode#SRC_OVER SRC_OVER} and neither a clip nor an
+     * effect is set; otherwise the lines are stroked one by one.
+     * A {@code null} value for the array will be ignored and nothing will be drawn.
+     * <p>
+     * This method will be affected by any of the
+     * <a href="#comm-attr">global common</a>
+     * or <a href="#strk-attr">stroke</a>
+     * attributes as specified in the
+     * <a href="#attr-ops-table">Rendering Attributes Table</a>.
+     * </p>
+     *
+     * @param lines array containing the lines or null.
+     * @param offset the index in the array of the {@code x1} value of the first line.
+     * @param count the number of lines to stroke.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code count} is
+     *         negative, or if the array does not contain {@code count}
+     *         lines starting at {@code offset}
+     * @since 28
+     */
+    public void strokeLines(double[] lines, int offset, int count) {
+        if (lines == null) return;
+        checkBatch(lines, offset, count, 4);
+        if (count == 0) return;
+        if (!canBatch()) {
+            for (int i = offset, end = offset + count * 4; i < end; i += 4) {
+                strokeLine(lines[i], lines[i+1], lines[i+2], lines[i+3]);
+            }
+            return;
+        }
+        writeBatch(lines, offset, count, 4, NGCanvas.STROKE_LINES);
+    }
+
     /**
      * Fills a polygon with the given points using the currently set fill paint.
      * A {@code null} value for any of the arrays will be ignored and nothing will be drawn.
@@ -2782,8 +2967,8 @@ public final class GraphicsContext {
                                           int scan)
                 {
                     // assert (w >= 0 && h >= 0) - checked by caller
-                    int cw = (int) Math.ceil(theCanvas.getWidth());
-                    int ch = (int) Math.ceil(theCanvas.getHeight());
+                    int cw = (int) Math.ceil(getTargetWidth());
+                    int ch = (int) Math.ceil(getTargetHeight());
                     if (x >= 0 && y >= 0 && x+w <= cw && y+h <= ch) {
                         return null;
                     }
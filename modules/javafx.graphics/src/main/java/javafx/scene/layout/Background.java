@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -496,11 +496,12 @@ public final class Background implements Interpolatable<Background> {
                                 continue;
                             } else if (!largerTop && !largerRight && !largerBottom && !largerLeft) {
                                 // The new fill completely contains the existing rect, so use these
-                                // new values for our opaque region
-                                opaqueRegionTop = fillTop;
-                                opaqueRegionRight = fillRight;
-                                opaqueRegionBottom = fillBottom;
-                                opaqueRegionLeft = fillLeft;
+                                // new values for our opaque region. These must include the corner
+                                // radii, or the rounded corners would be reported as opaque.
+                                opaqueRegionTop = t;
+                                opaqueRegionRight = r;
+                                opaqueRegionBottom = b;
+                                opaqueRegionLeft = l;
                             } else if (l == opaqueRegionLeft && r == opaqueRegionRight) {
                                 // The left and right insets are the same between the two rects, so just pick
                                 // the smallest top and bottom
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -101,4 +101,8 @@ public class NodeShim {
     public static void completeTransitionTimers(Node n) {
         n.completeTransitionTimers();
     }
+
+    public static boolean hasMiscProperties(Node n) {
+        return n.hasMiscProperties();
+    }
 }
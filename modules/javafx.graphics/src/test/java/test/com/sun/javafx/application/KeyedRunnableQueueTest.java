@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import com.sun.javafx.application.KeyedRunnableQueueShim;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KeyedRunnableQueueTest {
+
+    private long time;
+    private KeyedRunnableQueueShim queue;
+    private List<String> ran;
+
+    @BeforeEach
+    public void setUp() {
+        time = 0;
+        queue = new KeyedRunnableQueueShim(() -> time);
+        ran = new ArrayList<>();
+    }
+
+    private Runnable record(String s) {
+        return () -> ran.add(s);
+    }
+
+    private Runnable record(String s, long duration) {
+        return () -> {
+            ran.add(s);
+            time += duration;
+        };
+    }
+
+    @Test
+    public void testRunsInOrder() {
+        assertTrue(queue.put("a", record("a")));
+        assertTrue(queue.put("b", record("b")));
+        assertTrue(queue.put("c", record("c")));
+
+        assertEquals(3, queue.runPending(-1));
+        assertEquals(List.of("a", "b", "c"), ran);
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void testSameKeyReplacesPendingRunnable() {
+        queue.put("a", record("a1"));
+        queue.put("b", record("b"));
+        assertFalse(queue.put("a", record("a2")));
+        assertEquals(2, queue.size());
+
+        queue.runPending(-1);
+
+        assertEquals(List.of("a2", "b"), ran);
+    }
+
+    @Test
+    public void testKeyCanBeReusedAfterRunning() {
+        queue.put("a", record("a1"));
+        queue.runPending(-1);
+        assertTrue(queue.put("a", record("a2")));
+        queue.runPending(-1);
+
+        assertEquals(List.of("a1", "a2"), ran);
+    }
+
+    @Test
+    public void testKeysAreComparedWithEquals() {
+        queue.put(new String("key"), record("1"));
+        queue.put(new String("key"), record("2"));
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    public void testBudgetDefersRemainingRunnables() {
+        for (int i = 0; i < 10; i++) {
+            queue.put(i, record("r" + i, 3));
+        }
+
+        assertEquals(4, queue.runPending(10));
+        assertEquals(6, queue.size());
+        assertEquals(List.of("r0", "r1", "r2", "r3"), ran);
+
+        assertEquals(4, queue.runPending(10));
+        assertEquals(2, queue.runPending(10));
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void testAtLeastOneRunnableRunsPerPulse() {
+        queue.put("slow", record("slow", 100));
+        queue.put("fast", record("fast"));
+
+        assertEquals(1, queue.runPending(10));
+        assertEquals(1, queue.runPending(10));
+        assertEquals(List.of("slow", "fast"), ran);
+    }
+
+    @Test
+    public void testEmptyQueue() {
+        assertEquals(0, queue.runPending(10));
+    }
+
+    @Test
+    public void testRunnableScheduledWhileRunningIsRun() {
+        queue.put("a", () -> {
+            ran.add("a");
+            queue.put("b", record("b"));
+        });
+
+        assertEquals(2, queue.runPending(-1));
+        assertEquals(List.of("a", "b"), ran);
+    }
+
+    @Test
+    public void testExceptionDoesNotStopQueue() {
+        List<Throwable> errors = new ArrayList<>();
+        Thread thread = Thread.currentThread();
+        Thread.UncaughtExceptionHandler handler = thread.getUncaughtExceptionHandler();
+        thread.setUncaughtExceptionHandler((t, e) -> errors.add(e));
+        try {
+            queue.put("a", () -> {
+                throw new IllegalStateException("expected");
+            });
+            queue.put("b", record("b"));
+
+            assertEquals(2, queue.runPending(-1));
+        } finally {
+            thread.setUncaughtExceptionHandler(handler);
+        }
+
+        assertEquals(List.of("b"), ran);
+        assertEquals(1, errors.size());
+        assertInstanceOf(IllegalStateException.class, errors.get(0));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -32,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 
 public class DirtyRegionContainerTest {
 
@@ -195,6 +196,104 @@ public class DirtyRegionContainerTest {
         assertEquals(new RectBounds(0, 0, 50, 50), drc.getDirtyRegion(2));
     }
 
+    @Test
+    public void test_addDirtyRegion_no_space_merges_cheapest_pair() {
+        DirtyRegionContainer drc = getDRC_initialized();
+        drc.addDirtyRegion(new RectBounds(500, 500, 510, 510));
+
+        // the two regions closest to each other are merged, the far away one is kept
+        drc.addDirtyRegion(new RectBounds(0, 500, 10, 510));
+
+        assertEquals(4, drc.size());
+        assertContains(drc, new RectBounds(0, 0, 50, 50));
+        assertContains(drc, new RectBounds(60, 60, 100, 100));
+        assertContains(drc, new RectBounds(500, 500, 510, 510));
+        assertContains(drc, new RectBounds(0, 500, 10, 510));
+    }
+
+    @Test
+    public void test_addDirtyRegion_no_space_merges_new_region() {
+        DirtyRegionContainer drc = getDRC_initialized();
+        drc.addDirtyRegion(new RectBounds(500, 500, 510, 510));
+
+        drc.addDirtyRegion(new RectBounds(511, 511, 520, 520));
+
+        assertEquals(4, drc.size());
+        assertContains(drc, new RectBounds(500, 500, 520, 520));
+    }
+
+    @Test
+    public void test_addDirtyRegion_overhead_merges_nearby_regions() {
+        DirtyRegionContainer drc = new DirtyRegionContainer(4, 100);
+        drc.addDirtyRegion(new RectBounds(0, 0, 10, 10));
+        drc.addDirtyRegion(new RectBounds(0, 12, 10, 20));
+
+        assertEquals(1, drc.size());
+        assertEquals(new RectBounds(0, 0, 10, 20), drc.getDirtyRegion(0));
+    }
+
+    @Test
+    public void test_addDirtyRegion_overhead_keeps_distant_regions() {
+        DirtyRegionContainer drc = new DirtyRegionContainer(4, 100);
+        drc.addDirtyRegion(new RectBounds(0, 0, 10, 10));
+        drc.addDirtyRegion(new RectBounds(990, 990, 1000, 1000));
+
+        assertEquals(2, drc.size());
+        assertEquals(200, drc.getPaintedArea(), 0);
+    }
+
+    @Test
+    public void test_addDirtyRegion_overhead_merges_transitively() {
+        DirtyRegionContainer drc = new DirtyRegionContainer(4, 100);
+        drc.addDirtyRegion(new RectBounds(0, 0, 10, 10));
+        drc.addDirtyRegion(new RectBounds(40, 0, 50, 10));
+        assertEquals(2, drc.size());
+
+        // cheap to merge with the first region, and the union then intersects the second one
+        drc.addDirtyRegion(new RectBounds(11, 0, 40, 10));
+
+        assertEquals(1, drc.size());
+        assertEquals(new RectBounds(0, 0, 50, 10), drc.getDirtyRegion(0));
+    }
+
+    @Test
+    public void test_dirtyArea_and_paintedArea() {
+        DirtyRegionContainer drc = new DirtyRegionContainer(1);
+        drc.addDirtyRegion(new RectBounds(0, 0, 10, 10));
+        drc.addDirtyRegion(new RectBounds(90, 90, 100, 100));
+
+        assertEquals(1, drc.size());
+        assertEquals(200, drc.getDirtyArea(), 0);
+        assertEquals(10000, drc.getPaintedArea(), 0);
+
+        drc.reset();
+        assertEquals(0, drc.getDirtyArea(), 0);
+        assertEquals(0, drc.getPaintedArea(), 0);
+    }
+
+    @Test
+    public void test_checkAndClearRegion_does_not_share_regions() {
+        DirtyRegionContainer drc = getDRC_initialized();
+        drc.getDirtyRegion(0).makeEmpty();
+        assertTrue(drc.checkAndClearRegion(0));
+        assertEquals(2, drc.size());
+
+        drc.addDirtyRegion(new RectBounds(150, 150, 200, 200));
+
+        assertEquals(new RectBounds(25, 25, 50, 50), drc.getDirtyRegion(0));
+        assertEquals(new RectBounds(60, 60, 100, 100), drc.getDirtyRegion(1));
+        assertEquals(new RectBounds(150, 150, 200, 200), drc.getDirtyRegion(2));
+    }
+
+    private static void assertContains(DirtyRegionContainer drc, RectBounds region) {
+        for (int i = 0; i < drc.size(); i++) {
+            if (drc.getDirtyRegion(i).equals(region)) {
+                return;
+            }
+        }
+        fail(region + " not found in " + drc);
+    }
+
     private DirtyRegionContainer getDRC_initialized() {
         DirtyRegionContainer drc = new DirtyRegionContainer(4);
         return drc.deriveWithNewRegions(nonIntersecting_3_Regions);
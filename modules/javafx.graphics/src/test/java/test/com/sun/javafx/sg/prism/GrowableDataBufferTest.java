@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -28,6 +28,7 @@ package test.com.sun.javafx.sg.prism;
 import com.sun.javafx.sg.prism.GrowableDataBuffer;
 
 import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -352,6 +353,24 @@ public class GrowableDataBufferTest {
         assertFalse(gdb.hasObjects());
     }
 
+    @Test public void testWriteAndReadFloatArrays() {
+        double values[] = new double[3000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i * 0.25 - 100;
+        }
+        GrowableDataBuffer gdb = GrowableDataBuffer.getBuffer(16, NUM_VALUES);
+        gdb.putByte((byte) 7);
+        gdb.putFloats(values, 10, values.length - 20);
+        gdb.putByte((byte) 8);
+        assertEquals(2 + (values.length - 20) * 4, gdb.writeValuePosition());
+        assertEquals(7, gdb.getByte());
+        for (int i = 10; i < values.length - 10; i++) {
+            assertEquals((float) values[i], gdb.getFloat());
+        }
+        assertEquals(8, gdb.getByte());
+        assertFalse(gdb.hasValues());
+    }
+
     @Test public void testPeekValues() {
         GrowableDataBuffer gdb = GrowableDataBuffer.getBuffer(NUM_BYTES, NUM_VALUES);
         fill(gdb, true, false);
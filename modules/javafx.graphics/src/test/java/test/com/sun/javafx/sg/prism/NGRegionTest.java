@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -28,9 +28,15 @@ package test.com.sun.javafx.sg.prism;
 import com.sun.javafx.scene.NodeHelper;
 import com.sun.javafx.sg.prism.NGNodeShim;
 import com.sun.javafx.sg.prism.NGRegion;
+import com.sun.javafx.sg.prism.NGRegionShim;
 import javafx.geometry.Insets;
 import javafx.scene.layout.Background;
 import javafx.scene.layout.BackgroundFill;
+import javafx.scene.layout.Border;
+import javafx.scene.layout.BorderStroke;
+import javafx.scene.layout.BorderStrokeStyle;
+import javafx.scene.layout.BorderWidths;
+import javafx.scene.layout.CornerRadii;
 import javafx.scene.layout.Region;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.ClosePath;
@@ -149,4 +155,58 @@ public class NGRegionTest {
         NodeHelper.updatePeer(r);
         assertTrue(NGNodeShim.isOpaqueRegionInvalid(peer));
     }
+
+    private static Region createRegionWithBackgroundAndBorder() {
+        Region r = new Region();
+        // a single fill, because backgrounds with more fills are rendered through the region image cache
+        r.setBackground(new Background(
+                new BackgroundFill(Color.BLUE, new CornerRadii(1, 2, 3, 4, false), new Insets(1))));
+        r.setBorder(new Border(new BorderStroke(Color.BLACK, BorderStrokeStyle.DASHED,
+                new CornerRadii(3), BorderWidths.DEFAULT)));
+        r.resize(100, 50);
+        NodeHelper.updatePeer(r);
+        return r;
+    }
+
+    @Test
+    public void renderRetainsDisplayLists() {
+        Region r = createRegionWithBackgroundAndBorder();
+        NGRegion peer = NodeHelper.getPeer(r);
+        assertFalse(NGRegionShim.isBackgroundDisplayListRetained(peer));
+        assertFalse(NGRegionShim.isBorderDisplayListRetained(peer));
+        peer.render(new TestGraphics(200, 200));
+        assertTrue(NGRegionShim.isBackgroundDisplayListRetained(peer));
+        assertTrue(NGRegionShim.isBorderDisplayListRetained(peer));
+    }
+
+    @Test
+    public void setSizeDiscardsDisplayLists() {
+        Region r = createRegionWithBackgroundAndBorder();
+        NGRegion peer = NodeHelper.getPeer(r);
+        peer.render(new TestGraphics(200, 200));
+        peer.setSize(60, 60);
+        assertFalse(NGRegionShim.isBackgroundDisplayListRetained(peer));
+        assertFalse(NGRegionShim.isBorderDisplayListRetained(peer));
+    }
+
+    @Test
+    public void updateBackgroundDiscardsOnlyBackgroundDisplayList() {
+        Region r = createRegionWithBackgroundAndBorder();
+        NGRegion peer = NodeHelper.getPeer(r);
+        peer.render(new TestGraphics(200, 200));
+        peer.updateBackground(new Background(new BackgroundFill(Color.GREEN, null, null)));
+        assertFalse(NGRegionShim.isBackgroundDisplayListRetained(peer));
+        assertTrue(NGRegionShim.isBorderDisplayListRetained(peer));
+    }
+
+    @Test
+    public void updateBorderDiscardsOnlyBorderDisplayList() {
+        Region r = createRegionWithBackgroundAndBorder();
+        NGRegion peer = NodeHelper.getPeer(r);
+        peer.render(new TestGraphics(200, 200));
+        peer.updateBorder(new Border(new BorderStroke(Color.GREEN, BorderStrokeStyle.SOLID,
+                null, BorderWidths.DEFAULT)));
+        assertTrue(NGRegionShim.isBackgroundDisplayListRetained(peer));
+        assertFalse(NGRegionShim.isBorderDisplayListRetained(peer));
+    }
 }
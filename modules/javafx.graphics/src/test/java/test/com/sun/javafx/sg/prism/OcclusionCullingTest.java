@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -34,6 +34,7 @@ import com.sun.javafx.sg.prism.NodePath;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -185,6 +186,84 @@ public class OcclusionCullingTest extends NGTestBase {
         assertRoot(rootPath, root);
     }
 
+    @Test
+    public void testSiblingOcclusion() {
+        final TestNGRectangle below = createRectangle(10, 10, 50, 50);
+        final TestNGRectangle above = createRectangle(0, 0, 100, 100);
+        TestNGGroup group = createGroup(below, above);
+        group.render(new TestGraphics());
+        assertFalse(below.rendered());
+        assertTrue(above.rendered());
+    }
+
+    @Test
+    public void testSiblingOcclusionOfGroup() {
+        final TestNGRectangle below = createRectangle(10, 10, 20, 20);
+        final TestNGRectangle below2 = createRectangle(40, 40, 20, 20);
+        final TestNGGroup belowGroup = createGroup(below, below2);
+        final TestNGRectangle above = createRectangle(0, 0, 100, 100);
+        TestNGGroup group = createGroup(belowGroup, above);
+        group.render(new TestGraphics());
+        assertFalse(belowGroup.rendered());
+        assertFalse(below.rendered());
+        assertFalse(below2.rendered());
+        assertTrue(above.rendered());
+    }
+
+    @Test
+    public void testSiblingOcclusionByMultipleOccluders() {
+        final TestNGRectangle below = createRectangle(10, 10, 20, 20);
+        final TestNGRectangle below2 = createRectangle(210, 10, 20, 20);
+        final TestNGRectangle above = createRectangle(0, 0, 100, 100);
+        final TestNGRectangle above2 = createRectangle(200, 0, 100, 100);
+        TestNGGroup group = createGroup(below, below2, above, above2);
+        group.render(new TestGraphics());
+        assertFalse(below.rendered());
+        assertFalse(below2.rendered());
+        assertTrue(above.rendered());
+        assertTrue(above2.rendered());
+    }
+
+    @Test
+    public void testPartiallyCoveredSiblingIsRendered() {
+        final TestNGRectangle below = createRectangle(50, 50, 100, 100);
+        final TestNGRectangle above = createRectangle(0, 0, 100, 100);
+        TestNGGroup group = createGroup(below, above);
+        group.render(new TestGraphics());
+        assertTrue(below.rendered());
+        assertTrue(above.rendered());
+    }
+
+    @Test
+    public void testSiblingBelowTranslucentNodeIsRendered() {
+        final TestNGRectangle below = createRectangle(10, 10, 50, 50);
+        final TestNGRectangle above = createRectangle(0, 0, 100, 100);
+        above.setOpacity(0.5f);
+        TestNGGroup group = createGroup(below, above);
+        group.render(new TestGraphics());
+        assertTrue(below.rendered());
+    }
+
+    @Test
+    public void testSiblingBelowRotatedNodeIsRendered() {
+        final TestNGRectangle below = createRectangle(10, 10, 50, 50);
+        final TestNGRectangle above = createRectangle(0, 0, 100, 100);
+        above.setTransformMatrix(BaseTransform.getRotateInstance(Math.PI / 8, 50, 50));
+        TestNGGroup group = createGroup(below, above);
+        group.render(new TestGraphics());
+        assertTrue(below.rendered());
+    }
+
+    @Test
+    public void testSiblingAboveIsNotOccluded() {
+        final TestNGRectangle below = createRectangle(0, 0, 100, 100);
+        final TestNGRectangle above = createRectangle(10, 10, 50, 50);
+        TestNGGroup group = createGroup(below, above);
+        group.render(new TestGraphics());
+        assertTrue(below.rendered());
+        assertTrue(above.rendered());
+    }
+
     private void checkRootRendering(TestNGNode node, NodePath root) {
         assertTrue(node.rendered());
         if (node instanceof TestNGGroup) {
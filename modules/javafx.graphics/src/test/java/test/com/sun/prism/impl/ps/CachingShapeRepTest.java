@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.com.sun.prism.impl.ps;
+
+import com.sun.javafx.geom.Path2D;
+import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.prism.impl.ps.CachingShapeRepShim;
+import com.sun.prism.impl.shape.MaskData;
+import com.sun.prism.impl.shape.ShapeUtil;
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CachingShapeRepTest {
+
+    private static BaseTransform translate(double tx, double ty) {
+        return BaseTransform.getTranslateInstance(tx, ty);
+    }
+
+    private static Path2D createPath() {
+        Path2D path = new Path2D();
+        path.moveTo(0, 0);
+        path.lineTo(20, 5);
+        path.quadTo(25, 20, 10, 30);
+        path.closePath();
+        return path;
+    }
+
+    @Test
+    public void testSubpixelBucket() {
+        assertEquals(0, CachingShapeRepShim.subpixelBucket(0, 8));
+        assertEquals(0, CachingShapeRepShim.subpixelBucket(12, 8));
+        assertEquals(4, CachingShapeRepShim.subpixelBucket(12.5, 8));
+        assertEquals(4, CachingShapeRepShim.subpixelBucket(-0.5, 8));
+        assertEquals(6, CachingShapeRepShim.subpixelBucket(-3.25, 8));
+        assertEquals(7, CachingShapeRepShim.subpixelBucket(0.99, 8));
+    }
+
+    @Test
+    public void testWholePixelTranslationsShareABucket() {
+        assertTrue(CachingShapeRepShim.sameSubpixelTranslation(translate(10, 10), translate(110, -60)));
+        assertTrue(CachingShapeRepShim.sameSubpixelTranslation(translate(10.5, 3.25), translate(-7.5, 9.25)));
+    }
+
+    @Test
+    public void testSubpixelTranslationsDoNotShareABucket() {
+        assertFalse(CachingShapeRepShim.sameSubpixelTranslation(translate(10, 10), translate(10.5, 10)));
+        assertFalse(CachingShapeRepShim.sameSubpixelTranslation(translate(10, 10), translate(10, 10.5)));
+    }
+
+    @Test
+    public void testMaskInSameBucketIsAWholePixelShift() {
+        // a mask that is reused for another translation in the same sub-pixel
+        // bucket must match the mask rasterized for that translation
+        Path2D path = createPath();
+        BaseTransform first = translate(10.25, 3.5);
+        BaseTransform second = translate(47.25, -9.5);
+        assertTrue(CachingShapeRepShim.sameSubpixelTranslation(first, second));
+
+        MaskData m1 = ShapeUtil.rasterizeShape(path, null, null, first, true, true);
+        int x1 = m1.getOriginX(), y1 = m1.getOriginY(), w1 = m1.getWidth(), h1 = m1.getHeight();
+        byte[] p1 = getPixels(m1);
+
+        MaskData m2 = ShapeUtil.rasterizeShape(path, null, null, second, true, true);
+        assertEquals(x1 + 37, m2.getOriginX());
+        assertEquals(y1 - 13, m2.getOriginY());
+        assertEquals(w1, m2.getWidth());
+        assertEquals(h1, m2.getHeight());
+        assertArrayEquals(p1, getPixels(m2));
+    }
+
+    private static byte[] getPixels(MaskData maskData) {
+        // the mask buffer is reused by the next rasterization on this thread
+        byte[] pixels = new byte[maskData.getWidth() * maskData.getHeight()];
+        ByteBuffer buf = maskData.getMaskBuffer().duplicate();
+        buf.rewind();
+        buf.get(pixels);
+        return pixels;
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.concurrent.StagingList;
+import com.sun.javafx.tk.Toolkit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StagingListTest {
+
+    private ObservableList<String> target;
+    private StagingList<String> staging;
+    private int changes;
+
+    @BeforeEach
+    public void setUp() {
+        target = FXCollections.observableArrayList();
+        target.addListener((ListChangeListener<String>) c -> changes++);
+        staging = new StagingList<>(target, 100);
+    }
+
+    private void pulse() {
+        Toolkit.getToolkit().firePulse();
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> new StagingList<>(null));
+        assertThrows(IllegalArgumentException.class, () -> new StagingList<>(target, 0));
+        assertEquals(StagingList.DEFAULT_CAPACITY, new StagingList<>(target).getCapacity());
+        assertSame(target, staging.getTarget());
+    }
+
+    @Test
+    public void testChangesArePublishedOnPulse() throws InterruptedException {
+        staging.add("a");
+        staging.add("b");
+        staging.addAll(List.of("c", "d"));
+
+        assertTrue(target.isEmpty());
+        assertEquals(4, staging.getPendingCount());
+
+        pulse();
+
+        assertEquals(List.of("a", "b", "c", "d"), target);
+        assertEquals(0, staging.getPendingCount());
+        assertEquals(1, changes);
+
+        pulse();
+        assertEquals(1, changes);
+    }
+
+    @Test
+    public void testChangesAreAppliedInOrder() throws InterruptedException {
+        target.setAll("x", "y");
+        changes = 0;
+
+        staging.add("a");
+        staging.remove("x");
+        staging.add("b");
+        staging.remove("a");
+        pulse();
+
+        assertEquals(List.of("y", "b"), target);
+        assertEquals(1, changes);
+    }
+
+    @Test
+    public void testSetAllDiscardsPendingChanges() throws InterruptedException {
+        staging.add("a");
+        staging.add("b");
+        staging.setAll(List.of("c"));
+        assertEquals(1, staging.getPendingCount());
+        staging.add("d");
+        pulse();
+
+        assertEquals(List.of("c", "d"), target);
+        assertEquals(1, changes);
+    }
+
+    @Test
+    public void testClear() throws InterruptedException {
+        target.setAll("x", "y");
+        staging.add("a");
+        staging.clear();
+        pulse();
+
+        assertTrue(target.isEmpty());
+    }
+
+    @Test
+    public void testFlush() throws InterruptedException {
+        staging.add("a");
+        staging.flush();
+        assertEquals(List.of("a"), target);
+        assertEquals(0, staging.getPendingCount());
+    }
+
+    @Test
+    public void testStagedCollectionIsCopied() throws InterruptedException {
+        List<String> elements = new ArrayList<>(List.of("a", "b"));
+        staging.addAll(elements);
+        elements.clear();
+        pulse();
+
+        assertEquals(List.of("a", "b"), target);
+    }
+
+    @Test
+    public void testFullStagingListIsFlushedOnFxThread() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            staging.add("e" + i);
+        }
+        assertTrue(target.isEmpty());
+        assertEquals(100, staging.getPendingCount());
+
+        staging.add("last");
+
+        assertEquals(100, target.size());
+        assertEquals(1, staging.getPendingCount());
+        pulse();
+        assertEquals(101, target.size());
+        assertEquals(2, changes);
+    }
+
+    @Test
+    public void testConcurrentProducers() throws Exception {
+        int producers = 4;
+        int perProducer = 20;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            final int id = p;
+            Thread t = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        staging.add(id + ":" + i);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            t.start();
+            threads.add(t);
+        }
+        start.countDown();
+        for (Thread t : threads) {
+            t.join();
+        }
+        pulse();
+
+        assertEquals(producers * perProducer, target.size());
+        assertEquals(1, changes);
+        for (int p = 0; p < producers; p++) {
+            final int id = p;
+            List<String> own = target.stream().filter(s -> s.startsWith(id + ":")).toList();
+            assertEquals(IntStream.range(0, perProducer).mapToObj(i -> id + ":" + i).toList(), own);
+        }
+    }
+}
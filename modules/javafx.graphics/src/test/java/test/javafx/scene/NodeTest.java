@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -2135,4 +2135,61 @@ public class NodeTest {
         assertTrue(NodeHelper.isTreeVisible(n1));
         assertTrue(NodeHelper.isTreeVisible(n2));
     }
+
+    @Test
+    public void rarelyUsedPropertiesAreNotMaterializedByDefault() {
+        var g = new Group();
+        var r = new Rectangle(10, 10);
+        g.getChildren().add(r);
+        Scene scene = new Scene(g);
+        g.applyCss();
+
+        assertNull(r.getId());
+        assertEquals("", r.getStyle());
+        assertNull(r.getBlendMode());
+        assertNull(r.getCursor());
+        assertNull(r.getEffect());
+        assertNull(r.getClip());
+        assertFalse(NodeShim.hasMiscProperties(r));
+    }
+
+    @Test
+    public void rarelyUsedPropertiesKeepTheirValues() {
+        var r = new Rectangle();
+        r.setId("rect");
+        assertTrue(NodeShim.hasMiscProperties(r));
+        r.setStyle(null);
+        r.setBlendMode(BlendMode.ADD);
+
+        assertEquals("rect", r.getId());
+        assertEquals("rect", r.idProperty().get());
+        assertEquals("", r.getStyle());
+        assertEquals(BlendMode.ADD, r.getBlendMode());
+        assertSame(r, r.styleProperty().getBean());
+
+        var g = new Group();
+        g.setId("group");
+        assertEquals("Group[id=group]", g.toString());
+    }
+
+    @Test
+    public void newNodeIsDirtyForAllBits() {
+        var r = new Rectangle();
+        for (DirtyBits bit : DirtyBits.values()) {
+            assertTrue(NodeShim.isDirty(r, bit), bit.name());
+        }
+        NodeShim.clearDirty(r, DirtyBits.DEBUG);
+        assertFalse(NodeShim.isDirty(r, DirtyBits.DEBUG));
+        assertTrue(NodeShim.isDirty(r, DirtyBits.NODE_CACHE));
+    }
+
+    @Test
+    public void pseudoClassStatesAreUnmodifiableAndStable() {
+        var r = new Rectangle();
+        var states = r.getPseudoClassStates();
+        assertSame(states, r.getPseudoClassStates());
+        r.pseudoClassStateChanged(PseudoClass.getPseudoClass("test"), true);
+        assertTrue(states.contains(PseudoClass.getPseudoClass("test")));
+        assertThrows(UnsupportedOperationException.class, () -> states.add(PseudoClass.getPseudoClass("other")));
+    }
 }
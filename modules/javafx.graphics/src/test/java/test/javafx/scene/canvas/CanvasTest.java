@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,11 +25,17 @@
 
 package test.javafx.scene.canvas;
 
+import java.util.concurrent.atomic.AtomicReference;
+import com.sun.javafx.sg.prism.GrowableDataBuffer;
+import com.sun.javafx.sg.prism.NGCanvas;
 import javafx.geometry.VPos;
 import test.javafx.scene.NodeTest;
 import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.CanvasRecorder;
+import javafx.scene.canvas.CanvasShim;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.effect.BlendMode;
+import javafx.scene.effect.DropShadow;
 import test.javafx.scene.image.ImageForTesting;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.ArcType;
@@ -49,6 +55,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
@@ -554,6 +561,212 @@ public class CanvasTest {
         gc.drawImage(image, 0, 0, 100, 100, 0, 0, 100, 100);
     }
 
+    @Test
+    public void testGCfillRects_basic() {
+        double[] rects = { 0, 0, 10, 10, 20, 20, 5, 5, 0, 0, 0, 0 };
+        gc.fillRects(rects, 0, 3);
+        gc.fillRects(rects, 4, 2);
+        gc.fillRects(rects, 0, 0);
+        gc.fillRects(null, 0, 3);
+    }
+
+    @Test
+    public void testGCstrokeLines_basic() {
+        double[] lines = { 0, 0, 10, 10, 20, 20, 5, 5 };
+        gc.strokeLines(lines, 0, 2);
+        gc.strokeLines(lines, 4, 1);
+        gc.strokeLines(lines, 8, 0);
+        gc.strokeLines(null, 0, 2);
+    }
+
+    @Test
+    public void testGCfillRects_outOfBounds() {
+        double[] rects = { 0, 0, 10, 10, 20, 20, 5, 5 };
+        assertThrows(IndexOutOfBoundsException.class, () -> gc.fillRects(rects, 0, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> gc.fillRects(rects, 1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> gc.fillRects(rects, -1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> gc.fillRects(rects, 0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> gc.fillRects(rects, 9, 0));
+    }
+
+    @Test
+    public void testGCstrokeLines_outOfBounds() {
+        double[] lines = { 0, 0, 10, 10, 20, 20, 5, 5 };
+        assertThrows(IndexOutOfBoundsException.class, () -> gc.strokeLines(lines, 0, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> gc.strokeLines(lines, 5, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> gc.strokeLines(lines, 0, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testFillRectsIsRecordedAsSingleCommand() {
+        Canvas c = new Canvas(100, 100);
+        GraphicsContext g = c.getGraphicsContext2D();
+        double[] rects = new double[1000 * 4];
+        for (int i = 0; i < 1000; i++) {
+            rects[i * 4]     = i % 90;
+            rects[i * 4 + 1] = i / 90;
+            rects[i * 4 + 2] = 2;
+            rects[i * 4 + 3] = 2;
+        }
+        GrowableDataBuffer buf = CanvasShim.getBuffer(c);
+        int start = buf.writeValuePosition();
+        g.fillRects(rects, 0, 1000);
+        assertEquals(NGCanvas.FILL_RECTS, buf.peekByte(start));
+        // opcode, count and the coordinates as floats
+        assertEquals(1 + 4 + 1000 * 4 * 4, buf.writeValuePosition() - start);
+    }
+
+    @Test
+    public void testFillRectsWithBlendModeIsNotBatched() {
+        Canvas c = new Canvas(100, 100);
+        GraphicsContext g = c.getGraphicsContext2D();
+        g.setGlobalBlendMode(BlendMode.ADD);
+        GrowableDataBuffer buf = CanvasShim.getBuffer(c);
+        int start = buf.writeValuePosition();
+        g.fillRects(new double[] { 0, 0, 10, 10, 5, 5, 10, 10 }, 0, 2);
+        assertEquals(NGCanvas.FILL_RECT, buf.peekByte(start));
+        // two separate fillRect commands: opcode and 4 floats each
+        assertEquals(2 * (1 + 4 * 4), buf.writeValuePosition() - start);
+    }
+
+    @Test
+    public void testStrokeLinesWithEffectOrClipIsNotBatched() {
+        Canvas c = new Canvas(100, 100);
+        GraphicsContext g = c.getGraphicsContext2D();
+        g.setEffect(new DropShadow());
+        GrowableDataBuffer buf = CanvasShim.getBuffer(c);
+        int start = buf.writeValuePosition();
+        g.strokeLines(new double[] { 0, 0, 10, 10, 5, 5, 20, 20 }, 0, 2);
+        assertEquals(NGCanvas.STROKE_LINE, buf.peekByte(start));
+        assertEquals(2 * (1 + 4 * 4), buf.writeValuePosition() - start);
+
+        g.setEffect(null);
+        g.rect(0, 0, 50, 50);
+        g.clip();
+        start = buf.writeValuePosition();
+        g.strokeLines(new double[] { 0, 0, 10, 10 }, 0, 1);
+        assertEquals(NGCanvas.STROKE_LINE, buf.peekByte(start));
+    }
+
+    @Test
+    public void testCoveringFillRectsDiscardsCommands() {
+        Canvas c = new Canvas(100, 100);
+        GraphicsContext g = c.getGraphicsContext2D();
+        for (int i = 0; i < 200; i++) {
+            g.strokeLine(0, i, 100, i);
+        }
+        g.fillRects(new double[] { 10, 10, 5, 5, 0, 0, 100, 100 }, 0, 2);
+        GrowableDataBuffer buf = CanvasShim.getBuffer(c);
+        assertEquals(NGCanvas.RESET, buf.peekByte(0));
+        assertTrue(buf.writeValuePosition() < 1024);
+    }
+
+    @Test
+    public void testCoveringRotatedFillRectDiscardsCommands() {
+        Canvas c = new Canvas(100, 100);
+        GraphicsContext g = c.getGraphicsContext2D();
+        for (int i = 0; i < 200; i++) {
+            g.strokeLine(0, i, 100, i);
+        }
+        assertTrue(CanvasShim.getBuffer(c).writeValuePosition() > 1024);
+        g.rotate(30);
+        g.fillRect(-200, -200, 400, 400);
+        GrowableDataBuffer buf = CanvasShim.getBuffer(c);
+        assertEquals(NGCanvas.RESET, buf.peekByte(0));
+        assertTrue(buf.writeValuePosition() < 1024);
+    }
+
+    @Test
+    public void testNonCoveringRotatedFillRectKeepsCommands() {
+        Canvas c = new Canvas(100, 100);
+        GraphicsContext g = c.getGraphicsContext2D();
+        for (int i = 0; i < 200; i++) {
+            g.strokeLine(0, i, 100, i);
+        }
+        g.rotate(30);
+        g.fillRect(0, 0, 100, 100);
+        GrowableDataBuffer buf = CanvasShim.getBuffer(c);
+        assertFalse(buf.peekByte(0) == NGCanvas.RESET);
+        assertTrue(buf.writeValuePosition() > 1024);
+    }
+
+    @Test
+    public void testRecorderGraphicsContextHasNoCanvas() {
+        CanvasRecorder recorder = new CanvasRecorder(100, 100);
+        assertNull(recorder.getGraphicsContext2D().getCanvas());
+    }
+
+    @Test
+    public void testReplaceContentWithRecordingFromOtherThread() throws Exception {
+        Canvas c = new Canvas(100, 100);
+        GraphicsContext g = c.getGraphicsContext2D();
+        g.setFill(Color.BLUE);
+        for (int i = 0; i < 200; i++) {
+            g.fillRect(i % 100, 0, 1, 1);
+        }
+
+        CanvasRecorder recorder = new CanvasRecorder(100, 100);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread t = new Thread(() -> {
+            try {
+                GraphicsContext rg = recorder.getGraphicsContext2D();
+                rg.setFill(Color.RED);
+                for (int i = 0; i < 1000; i++) {
+                    rg.fillOval(i % 100, i / 10, 2, 2);
+                }
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        t.start();
+        t.join();
+        assertNull(failure.get());
+        GrowableDataBuffer recorded = CanvasShim.getBuffer(recorder);
+        int recordedSize = recorded.writeValuePosition();
+
+        c.replaceContent(recorder);
+        GrowableDataBuffer buf = CanvasShim.getBuffer(c);
+        assertEquals(NGCanvas.RESET, buf.peekByte(0));
+        assertTrue(buf.writeValuePosition() >= recordedSize);
+        assertEquals(Color.BLUE, g.getFill());
+
+        // the recorder keeps its attributes for the next recording
+        GraphicsContext rg = recorder.getGraphicsContext2D();
+        assertEquals(Color.RED, rg.getFill());
+        GrowableDataBuffer next = CanvasShim.getBuffer(recorder);
+        assertEquals(NGCanvas.RESET, next.peekByte(0));
+        assertTrue(next.writeValuePosition() < recordedSize);
+    }
+
+    @Test
+    public void testRecorderResetKeepsDimensions() {
+        CanvasRecorder recorder = new CanvasRecorder(100, 50);
+        GraphicsContext rg = recorder.getGraphicsContext2D();
+        rg.fillRect(0, 0, 10, 10);
+        // covers the whole target, which resets the recording
+        rg.fillRect(0, 0, 100, 50);
+        GrowableDataBuffer buf = CanvasShim.getBuffer(recorder);
+        assertEquals(NGCanvas.RESET, buf.peekByte(0));
+    }
+
+    @Test
+    public void testReplaceContentWithEmptyRecorderClearsCanvas() {
+        Canvas c = new Canvas(100, 100);
+        GraphicsContext g = c.getGraphicsContext2D();
+        for (int i = 0; i < 200; i++) {
+            g.fillRect(i % 100, 0, 1, 1);
+        }
+        c.replaceContent(new CanvasRecorder(100, 100));
+        GrowableDataBuffer buf = CanvasShim.getBuffer(c);
+        assertEquals(NGCanvas.RESET, buf.peekByte(0));
+        assertTrue(buf.writeValuePosition() < 1024);
+    }
+
+    @Test
+    public void testReplaceContentNull() {
+        assertThrows(NullPointerException.class, () -> canvas.replaceContent(null));
+    }
+
     public static void assertMatrix(Transform expected,
             Transform result) {
         assertEquals(expected.getMxx(), result.getMxx(), 0.00001);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -518,6 +518,19 @@ public class BackgroundTest {
         assertEquals(-2, trbl[3], 0);
     }
 
+    @Test
+    public void opaqueInsets_nestedOpaqueRectangles_LargerRoundedRectangleUsesCornerRadii() {
+        BackgroundFill f = new BackgroundFill(Color.GREEN, null, new Insets(20));
+        BackgroundFill f2 = new BackgroundFill(Color.RED, new CornerRadii(10), new Insets(0));
+        Background b = new Background(new BackgroundFill[] { f, f2 }, null);
+        final double[] trbl = new double[4];
+        BackgroundShim.computeOpaqueInsets(b, 100, 50, trbl);
+        assertEquals(5, trbl[0], 0);
+        assertEquals(5, trbl[1], 0);
+        assertEquals(5, trbl[2], 0);
+        assertEquals(5, trbl[3], 0);
+    }
+
     @Test
     public void opaqueInsets_offsetOpaqueRectangles_completelyContained_LargestRectangleUsed() {
         BackgroundFill f = new BackgroundFill(Color.RED, null, new Insets(0));
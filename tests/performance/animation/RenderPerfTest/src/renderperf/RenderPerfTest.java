@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2023, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -35,6 +35,8 @@ import java.util.concurrent.TimeUnit;
 import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
 import javafx.geometry.Point3D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Button;
 import javafx.scene.effect.BlendMode;
 import javafx.scene.image.Image;
@@ -790,6 +792,106 @@ public class RenderPerfTest {
         }
     }
 
+    static class CanvasRectRenderer extends FlatParticleRenderer {
+        Canvas canvas;
+
+        CanvasRectRenderer(int n, double r) {
+            super(n, r);
+        }
+
+        @Override
+        public void addComponents(Group node, int n, double[] x, double[] y, double[] vx, double[] vy) {
+            canvas = new Canvas(WIDTH, HEIGHT);
+            canvas.getGraphicsContext2D().setFill(colors[0]);
+            node.getChildren().add(canvas);
+        }
+
+        public void updateComponentCoordinates(int n, double[] x, double[] y, double[] vx, double[] vy) {
+            GraphicsContext gc = canvas.getGraphicsContext2D();
+            gc.clearRect(0, 0, WIDTH, HEIGHT);
+            for (int id = 0; id < n; id++) {
+                gc.fillRect(x[id] - r, y[id] - r, 2 * r, 2 * r);
+            }
+        }
+
+        public void releaseResource() {
+            super.releaseResource();
+            canvas = null;
+        }
+    }
+
+    static class CanvasRectsRenderer extends CanvasRectRenderer {
+        double[] rects;
+
+        CanvasRectsRenderer(int n, double r) {
+            super(n, r);
+            rects = new double[n * 4];
+        }
+
+        @Override
+        public void updateComponentCoordinates(int n, double[] x, double[] y, double[] vx, double[] vy) {
+            GraphicsContext gc = canvas.getGraphicsContext2D();
+            gc.clearRect(0, 0, WIDTH, HEIGHT);
+            for (int id = 0; id < n; id++) {
+                rects[id * 4]     = x[id] - r;
+                rects[id * 4 + 1] = y[id] - r;
+                rects[id * 4 + 2] = 2 * r;
+                rects[id * 4 + 3] = 2 * r;
+            }
+            gc.fillRects(rects, 0, n);
+        }
+    }
+
+    static class CanvasLineRenderer extends FlatParticleRenderer {
+        Canvas canvas;
+
+        CanvasLineRenderer(int n, double r) {
+            super(n, r);
+        }
+
+        @Override
+        public void addComponents(Group node, int n, double[] x, double[] y, double[] vx, double[] vy) {
+            canvas = new Canvas(WIDTH, HEIGHT);
+            canvas.getGraphicsContext2D().setStroke(colors[0]);
+            node.getChildren().add(canvas);
+        }
+
+        public void updateComponentCoordinates(int n, double[] x, double[] y, double[] vx, double[] vy) {
+            GraphicsContext gc = canvas.getGraphicsContext2D();
+            gc.clearRect(0, 0, WIDTH, HEIGHT);
+            for (int id = 0; id < n; id++) {
+                gc.strokeLine(x[id] - r, y[id] - r, x[id] + r, y[id] + r);
+            }
+        }
+
+        public void releaseResource() {
+            super.releaseResource();
+            canvas = null;
+        }
+    }
+
+    static class CanvasLinesRenderer extends CanvasLineRenderer {
+        double[] lines;
+
+        CanvasLinesRenderer(int n, double r) {
+            super(n, r);
+            lines = new double[n * 4];
+        }
+
+        @Override
+        public void updateComponentCoordinates(int n, double[] x, double[] y, double[] vx, double[] vy) {
+            GraphicsContext gc = canvas.getGraphicsContext2D();
+            gc.clearRect(0, 0, WIDTH, HEIGHT);
+            for (int id = 0; id < n; id++) {
+                lines[id * 4]     = x[id] - r;
+                lines[id * 4 + 1] = y[id] - r;
+                lines[id * 4 + 2] = x[id] + r;
+                lines[id * 4 + 3] = y[id] + r;
+            }
+            gc.strokeLines(lines, 0, n);
+        }
+    }
+
     static class Box3DRenderer extends FlatParticleRenderer {
         Box[] box;
 
@@ -2135,6 +2237,22 @@ public class RenderPerfTest {
         (new PerfMeter("StrokedPolygon", testDuration)).exec(createPR(new StrokedPolygonRenderer(objectCount, R)));
     }
 
+    public void testCanvasRect() throws Exception {
+        (new PerfMeter("CanvasRect", testDuration)).exec(createPR(new CanvasRectRenderer(objectCount, R)));
+    }
+
+    public void testCanvasRects() throws Exception {
+        (new PerfMeter("CanvasRects", testDuration)).exec(createPR(new CanvasRectsRenderer(objectCount, R)));
+    }
+
+    public void testCanvasLine() throws Exception {
+        (new PerfMeter("CanvasLine", testDuration)).exec(createPR(new CanvasLineRenderer(objectCount, R)));
+    }
+
+    public void testCanvasLines() throws Exception {
+        (new PerfMeter("CanvasLines", testDuration)).exec(createPR(new CanvasLinesRenderer(objectCount, R)));
+    }
+
     public void testWhiteText() throws Exception {
         (new PerfMeter("WhiteText", testDuration)).exec(createPR(new WhiteTextRenderer(objectCount, R)));
     }
@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package bindingperf;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.beans.property.adapter.JavaBeanIntegerProperty;
+import javafx.beans.property.adapter.JavaBeanIntegerPropertyBuilder;
+import javafx.beans.property.adapter.JavaBeanObjectProperty;
+import javafx.beans.property.adapter.JavaBeanObjectPropertyBuilder;
+import javafx.beans.property.adapter.JavaBeanStringProperty;
+import javafx.beans.property.adapter.JavaBeanStringPropertyBuilder;
+import javafx.beans.property.adapter.ReadOnlyJavaBeanStringProperty;
+import javafx.beans.property.adapter.ReadOnlyJavaBeanStringPropertyBuilder;
+
+/**
+ * {@link JavaBeanPerfTest} measures the throughput of the JavaBean property
+ * adapters in {@code javafx.beans.property.adapter}. For every test it reports
+ * the time and the number of bytes allocated per operation, so that the effect
+ * of changes to the adapters can be compared between two builds.
+ *
+ * <p>
+ * The tests are:
+ * <ul>
+ *  <li>StringGet, IntegerGet, ObjectGet: call get() on an adapter, which calls the getter of the bean.</li>
+ *  <li>StringSet, IntegerSet, ObjectSet: call set() on an adapter, which calls the setter of the bean.</li>
+ *  <li>ReadOnlyGet: call get() on a read-only adapter.</li>
+ *  <li>Build: create a new adapter for a bean, as {@code Bindings.select} does for plain beans.</li>
+ * </ul>
+ *
+ * <p>
+ * Steps to run the application:
+ * <ol>
+ *  <li>cd binding/src</li>
+ *  <li>Command to compile the program: javac {@literal @}{@literal <}path_to{@literal >}/compile.args bindingperf/{@link JavaBeanPerfTest}.java</li>
+ *  <li>Command to execute the program: java {@literal @}{@literal <}path_to{@literal >}/run.args bindingperf/{@link JavaBeanPerfTest} [-t {@literal <}test_name{@literal >}...] [-n {@literal <}operations{@literal >}] [-h]</li>
+ *  Where:
+ *  <ul>
+ *      <li>test_name: Name of the test to be executed. If not specified, all tests are executed.</li>
+ *      <li>operations: Number of measured operations per test. Default is 2,000,000.</li>
+ *      <li>-h: help: prints application usage.</li>
+ *  </ul>
+ * </ol>
+ */
+public class JavaBeanPerfTest {
+    private static final int DEFAULT_OPERATIONS = 2_000_000;
+    private static final int RUNS = 5;
+
+    private static int operations = DEFAULT_OPERATIONS;
+
+    // Written by the tests, so that their work cannot be optimized away
+    static int sink;
+
+    /**
+     * A plain bean without property support, as used with the adapters.
+     */
+    public static class Person {
+        private String name = "";
+        private int age;
+        private Object data;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+
+        public int getAge() { return age; }
+        public void setAge(int age) { this.age = age; }
+
+        public Object getData() { return data; }
+        public void setData(Object data) { this.data = data; }
+    }
+
+    private static final Map<String, Runnable> TESTS = new LinkedHashMap<>();
+    static {
+        TESTS.put("StringGet", JavaBeanPerfTest::stringGet);
+        TESTS.put("StringSet", JavaBeanPerfTest::stringSet);
+        TESTS.put("IntegerGet", JavaBeanPerfTest::integerGet);
+        TESTS.put("IntegerSet", JavaBeanPerfTest::integerSet);
+        TESTS.put("ObjectGet", JavaBeanPerfTest::objectGet);
+        TESTS.put("ObjectSet", JavaBeanPerfTest::objectSet);
+        TESTS.put("ReadOnlyGet", JavaBeanPerfTest::readOnlyGet);
+        TESTS.put("Build", JavaBeanPerfTest::build);
+    }
+
+    private static final String[] STRINGS = { "Alice", "Bob", "Carol", "Dave" };
+
+    static JavaBeanStringProperty stringProperty(Person bean) {
+        try {
+            return JavaBeanStringPropertyBuilder.create().bean(bean).name("name").build();
+        } catch (NoSuchMethodException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    static JavaBeanIntegerProperty integerProperty(Person bean) {
+        try {
+            return JavaBeanIntegerPropertyBuilder.create().bean(bean).name("age").build();
+        } catch (NoSuchMethodException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static JavaBeanObjectProperty<Object> objectProperty(Person bean) {
+        try {
+            return JavaBeanObjectPropertyBuilder.create().bean(bean).name("data").build();
+        } catch (NoSuchMethodException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    static void stringGet() {
+        Person bean = new Person();
+        bean.setName("Alice");
+        JavaBeanStringProperty property = stringProperty(bean);
+        for (int i = 0; i < operations; i++) {
+            sink += property.get().length();
+        }
+    }
+
+    static void stringSet() {
+        JavaBeanStringProperty property = stringProperty(new Person());
+        for (int i = 0; i < operations; i++) {
+            property.set(STRINGS[i & 3]);
+        }
+    }
+
+    static void integerGet() {
+        Person bean = new Person();
+        bean.setAge(42);
+        JavaBeanIntegerProperty property = integerProperty(bean);
+        for (int i = 0; i < operations; i++) {
+            sink += property.get();
+        }
+    }
+
+    static void integerSet() {
+        JavaBeanIntegerProperty property = integerProperty(new Person());
+        for (int i = 0; i < operations; i++) {
+            property.set(i & 127);
+        }
+    }
+
+    static void objectGet() {
+        Person bean = new Person();
+        bean.setData(STRINGS[0]);
+        JavaBeanObjectProperty<Object> property = objectProperty(bean);
+        for (int i = 0; i < operations; i++) {
+            sink += property.get().hashCode();
+        }
+    }
+
+    static void objectSet() {
+        JavaBeanObjectProperty<Object> property = objectProperty(new Person());
+        for (int i = 0; i < operations; i++) {
+            property.set(STRINGS[i & 3]);
+        }
+    }
+
+    static void readOnlyGet() {
+        Person bean = new Person();
+        bean.setName("Alice");
+        ReadOnlyJavaBeanStringProperty property;
+        try {
+            property = ReadOnlyJavaBeanStringPropertyBuilder.create().bean(bean).name("name").build();
+        } catch (NoSuchMethodException e) {
+            throw new RuntimeException(e);
+        }
+        for (int i = 0; i < operations; i++) {
+            sink += property.get().length();
+        }
+    }
+
+    static void build() {
+        Person bean = new Person();
+        for (int i = 0; i < operations; i++) {
+            JavaBeanStringProperty property = stringProperty(bean);
+            sink += property.getName().length();
+            property.dispose();
+        }
+    }
+
+    /**
+     * Runs one test and prints the results. The test is repeated, and the
+     * fastest run is reported.
+     */
+    static void runTest(String name, Runnable test) {
+        final com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long thread = Thread.currentThread().threadId();
+
+        // warm up
+        test.run();
+        long bestTime = Long.MAX_VALUE;
+        long bestAllocated = Long.MAX_VALUE;
+        for (int run = 0; run < RUNS; run++) {
+            long allocated = threadBean.getThreadAllocatedBytes(thread);
+            long start = System.nanoTime();
+            test.run();
+            long time = System.nanoTime() - start;
+            allocated = threadBean.getThreadAllocatedBytes(thread) - allocated;
+            bestTime = Math.min(bestTime, time);
+            bestAllocated = Math.min(bestAllocated, allocated);
+        }
+        System.out.println(String.format("  %-12s %12.1f %12.1f", name,
+                (double) bestTime / operations, (double) bestAllocated / operations));
+    }
+
+    public static boolean parseCmdOptions(String[] args, List<String> testList) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+            case "-t":
+                while ((i + 1) < args.length && args[i + 1].charAt(0) != '-') {
+                    testList.add(args[++i]);
+                }
+                if (testList.isEmpty()) return false;
+                break;
+            case "-n":
+                if (i + 1 >= args.length) {
+                    System.out.println("\nNumber of operations not provided.");
+                    return false;
+                }
+                operations = Integer.parseInt(args[++i]);
+                if (operations < 1) {
+                    System.out.println("\nNumber of operations must be positive.");
+                    return false;
+                }
+                break;
+            case "-h":
+            case "--help":
+            default:
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static void printUsage() {
+        System.out.println("Usage: java @<path_to>/run.args JavaBeanPerfTest [-t <test_name>...] [-n <operations>] [-h]");
+        System.out.println("       Where test_name: Name of the test (or tests) to be executed.");
+        System.out.println("             operations: Number of measured operations per test (default " + DEFAULT_OPERATIONS + ")");
+        System.out.println("             -h: help: print application usage");
+        System.out.println("\nSupported tests:");
+        TESTS.keySet().forEach(System.out::println);
+    }
+
+    public static void main(String[] args) {
+        List<String> testList = new ArrayList<>();
+        if (!parseCmdOptions(args, testList)) {
+            printUsage();
+            return;
+        }
+        for (String test : testList) {
+            if (!TESTS.containsKey(test)) {
+                System.out.println("\nIncorrect Test Name: " + test);
+                printUsage();
+                return;
+            }
+        }
+        if (testList.isEmpty()) {
+            testList.addAll(TESTS.keySet());
+        }
+
+        System.out.println("JavaFX " + System.getProperty("javafx.runtime.version")
+                + ", Java " + Runtime.version());
+        System.out.println(operations + " operations per test");
+        System.out.println(String.format("  %-12s %12s %12s", "Test", "ns/op", "bytes/op"));
+        for (String test : testList) {
+            runTest(test, TESTS.get(test));
+        }
+    }
+}
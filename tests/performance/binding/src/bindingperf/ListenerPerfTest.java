@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package bindingperf;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.value.ChangeListener;
+
+/**
+ * {@link ListenerPerfTest} measures the cost of notifying listeners of a
+ * property, and of adding and removing listeners, for 1, 2, 10 and 100
+ * listeners. For every listener count it reports the time and the number of
+ * bytes allocated per operation, so that the effect of changes to the listener
+ * helpers can be compared between two builds.
+ *
+ * <p>
+ * The tests are:
+ * <ul>
+ *  <li>Invalidation: set a property that has invalidation listeners.</li>
+ *  <li>Change: set a property that has change listeners.</li>
+ *  <li>Mixed: set a property that has as many invalidation as change listeners.</li>
+ *  <li>AddRemove: add and remove a change listener on a property that has listeners,
+ *      as cells do when they are reused while scrolling.</li>
+ *  <li>RemoveDuringNotification: a listener removes and adds itself again while
+ *      it is notified.</li>
+ * </ul>
+ *
+ * <p>
+ * Steps to run the application:
+ * <ol>
+ *  <li>cd binding/src</li>
+ *  <li>Command to compile the program: javac {@literal @}{@literal <}path_to{@literal >}/compile.args bindingperf/{@link ListenerPerfTest}.java</li>
+ *  <li>Command to execute the program: java {@literal @}{@literal <}path_to{@literal >}/run.args bindingperf/{@link ListenerPerfTest} [-t {@literal <}test_name{@literal >}...] [-n {@literal <}operations{@literal >}] [-h]</li>
+ *  Where:
+ *  <ul>
+ *      <li>test_name: Name of the test to be executed. If not specified, all tests are executed.</li>
+ *      <li>operations: Number of measured operations per listener count. Default is 2,000,000.</li>
+ *      <li>-h: help: prints application usage.</li>
+ *  </ul>
+ * </ol>
+ */
+public class ListenerPerfTest {
+    private static final int[] LISTENER_COUNTS = { 1, 2, 10, 100 };
+    private static final int DEFAULT_OPERATIONS = 2_000_000;
+    private static final int RUNS = 5;
+
+    private static int operations = DEFAULT_OPERATIONS;
+
+    // Written by the listeners, so that their work cannot be optimized away
+    static int sink;
+
+    /**
+     * A benchmark, which runs the given number of operations on a
+     * property with the given number of listeners.
+     */
+    interface Benchmark {
+        void run(int listeners, int operations);
+    }
+
+    private static final Map<String, Benchmark> TESTS = new LinkedHashMap<>();
+    static {
+        TESTS.put("Invalidation", ListenerPerfTest::invalidation);
+        TESTS.put("Change", ListenerPerfTest::change);
+        TESTS.put("Mixed", ListenerPerfTest::mixed);
+        TESTS.put("AddRemove", ListenerPerfTest::addRemove);
+        TESTS.put("RemoveDuringNotification", ListenerPerfTest::removeDuringNotification);
+    }
+
+    static void invalidation(int listeners, int operations) {
+        SimpleIntegerProperty property = new SimpleIntegerProperty();
+        for (int i = 0; i < listeners; i++) {
+            property.addListener(obs -> sink++);
+        }
+        for (int i = 0; i < operations; i++) {
+            property.set(i);
+            property.get();
+        }
+    }
+
+    static void change(int listeners, int operations) {
+        SimpleIntegerProperty property = new SimpleIntegerProperty();
+        for (int i = 0; i < listeners; i++) {
+            property.addListener((obs, o, n) -> sink += n.intValue());
+        }
+        for (int i = 0; i < operations; i++) {
+            property.set(i);
+        }
+    }
+
+    static void mixed(int listeners, int operations) {
+        SimpleIntegerProperty property = new SimpleIntegerProperty();
+        for (int i = 0; i < listeners; i++) {
+            property.addListener(obs -> sink++);
+            property.addListener((obs, o, n) -> sink += n.intValue());
+        }
+        for (int i = 0; i < operations; i++) {
+            property.set(i);
+        }
+    }
+
+    static void addRemove(int listeners, int operations) {
+        SimpleIntegerProperty property = new SimpleIntegerProperty();
+        for (int i = 0; i < listeners - 1; i++) {
+            property.addListener((obs, o, n) -> sink += n.intValue());
+        }
+        ChangeListener<Number> listener = (obs, o, n) -> sink += n.intValue();
+        for (int i = 0; i < operations; i++) {
+            property.addListener(listener);
+            property.removeListener(listener);
+        }
+    }
+
+    static void removeDuringNotification(int listeners, int operations) {
+        SimpleIntegerProperty property = new SimpleIntegerProperty();
+        for (int i = 0; i < listeners - 1; i++) {
+            property.addListener(obs -> sink++);
+        }
+        property.addListener(new InvalidationListener() {
+            @Override
+            public void invalidated(javafx.beans.Observable observable) {
+                property.removeListener(this);
+                property.addListener(this);
+            }
+        });
+        for (int i = 0; i < operations; i++) {
+            property.set(i);
+            property.get();
+        }
+    }
+
+    /**
+     * Runs one test for every listener count and prints the results. Each
+     * measurement is repeated, and the fastest run is reported.
+     */
+    static void runTest(String name, Benchmark benchmark) {
+        final com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long thread = Thread.currentThread().threadId();
+
+        System.out.println();
+        System.out.println(name + ": " + operations + " operations");
+        System.out.println(String.format("  %-10s %12s %12s", "Listeners", "ns/op", "bytes/op"));
+        for (int listeners : LISTENER_COUNTS) {
+            // warm up
+            benchmark.run(listeners, operations / 10);
+            long bestTime = Long.MAX_VALUE;
+            long bestAllocated = Long.MAX_VALUE;
+            for (int run = 0; run < RUNS; run++) {
+                long allocated = threadBean.getThreadAllocatedBytes(thread);
+                long start = System.nanoTime();
+                benchmark.run(listeners, operations);
+                long time = System.nanoTime() - start;
+                allocated = threadBean.getThreadAllocatedBytes(thread) - allocated;
+                bestTime = Math.min(bestTime, time);
+                bestAllocated = Math.min(bestAllocated, allocated);
+            }
+            System.out.println(String.format("  %-10d %12.1f %12.1f", listeners,
+                    (double) bestTime / operations, (double) bestAllocated / operations));
+        }
+    }
+
+    public static boolean parseCmdOptions(String[] args, List<String> testList) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+            case "-t":
+                while ((i + 1) < args.length && args[i + 1].charAt(0) != '-') {
+                    testList.add(args[++i]);
+                }
+                if (testList.isEmpty()) return false;
+                break;
+            case "-n":
+                if (i + 1 >= args.length) {
+                    System.out.println("\nNumber of operations not provided.");
+                    return false;
+                }
+                operations = Integer.parseInt(args[++i]);
+                if (operations < 10) {
+                    System.out.println("\nNumber of operations must be at least 10.");
+                    return false;
+                }
+                break;
+            case "-h":
+            case "--help":
+            default:
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static void printUsage() {
+        System.out.println("Usage: java @<path_to>/run.args ListenerPerfTest [-t <test_name>...] [-n <operations>] [-h]");
+        System.out.println("       Where test_name: Name of the test (or tests) to be executed.");
+        System.out.println("             operations: Number of measured operations per listener count (default " + DEFAULT_OPERATIONS + ")");
+        System.out.println("             -h: help: print application usage");
+        System.out.println("\nSupported tests:");
+        TESTS.keySet().forEach(System.out::println);
+    }
+
+    public static void main(String[] args) {
+        List<String> testList = new ArrayList<>();
+        if (!parseCmdOptions(args, testList)) {
+            printUsage();
+            return;
+        }
+        for (String test : testList) {
+            if (!TESTS.containsKey(test)) {
+                System.out.println("\nIncorrect Test Name: " + test);
+                printUsage();
+                return;
+            }
+        }
+        if (testList.isEmpty()) {
+            testList.addAll(TESTS.keySet());
+        }
+
+        System.out.println("JavaFX " + System.getProperty("javafx.runtime.version")
+                + ", Java " + Runtime.version());
+        for (String test : testList) {
+            runTest(test, TESTS.get(test));
+        }
+    }
+}
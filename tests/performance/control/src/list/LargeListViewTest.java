@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package list;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.skin.VirtualFlow;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+
+/**
+ * {@link LargeListViewTest} measures scrolling in a ListView with a very large
+ * number of items (10,000,000 by default), and the heap that the ListView keeps
+ * for them. It does not need a display: it runs on the headless Glass platform
+ * with the software (SW) Prism pipeline.
+ *
+ * <p>
+ * The items are not stored: the list computes them from their index, so the
+ * retained heap that is reported is the memory used by the ListView and its
+ * skin, mostly for the sizes of the cells that were measured. Each scroll
+ * operation is followed by CSS and layout of the ListView, as in a pulse.
+ *
+ * <p>
+ * The tests are:
+ * <ul>
+ *  <li>FixedJump, VariableJump: scroll to random items, with a fixed cell size
+ *      or with cells whose height depends on their item.</li>
+ *  <li>FixedScroll, VariableScroll: scroll down by 100 pixels at a time from a
+ *      random item, with a fixed cell size or with cells whose height depends on
+ *      their item.</li>
+ * </ul>
+ *
+ * <p>
+ * Steps to run the application:
+ * <ol>
+ *  <li>cd control/src</li>
+ *  <li>Command to compile the program: javac {@literal @}{@literal <}path_to{@literal >}/compile.args list/{@link LargeListViewTest}.java</li>
+ *  <li>Command to execute the program: java {@literal @}{@literal <}path_to{@literal >}/run.args list/{@link LargeListViewTest} [-t {@literal <}test_name{@literal >}...] [-n {@literal <}items{@literal >}] [-s {@literal <}scrolls{@literal >}] [-h]</li>
+ *  Where:
+ *  <ul>
+ *      <li>test_name: Name of the test to be executed. If not specified, all tests are executed.</li>
+ *      <li>items: Number of items in the ListView. Default is 10,000,000.</li>
+ *      <li>scrolls: Number of measured scroll operations. Default is 2,000.</li>
+ *      <li>-h: help: prints application usage.</li>
+ *  </ul>
+ * </ol>
+ * <p>
+ * The application sets {@code glass.platform=headless} and {@code prism.order=sw}
+ * unless they are already set on the command line.
+ */
+public class LargeListViewTest {
+    private static final double WIDTH = 400;
+    private static final double HEIGHT = 800;
+    private static final long SEED = 42;
+    private static final int DEFAULT_ITEMS = 10_000_000;
+    private static final int DEFAULT_SCROLLS = 2_000;
+    private static final int WARMUP_SCROLLS = 500;
+
+    private static Stage stage;
+    private static int items = DEFAULT_ITEMS;
+    private static int scrolls = DEFAULT_SCROLLS;
+
+    /**
+     * A scroll operation, which is run on the JavaFX Application Thread.
+     */
+    interface Scroll {
+        void run(ListView<Integer> listView, VirtualFlow<?> flow, Random random);
+    }
+
+    record Test(boolean fixedSize, Scroll scroll) {}
+
+    private static final Map<String, Test> TESTS = new LinkedHashMap<>();
+    static {
+        TESTS.put("FixedJump", new Test(true, LargeListViewTest::jump));
+        TESTS.put("VariableJump", new Test(false, LargeListViewTest::jump));
+        TESTS.put("FixedScroll", new Test(true, LargeListViewTest::scroll));
+        TESTS.put("VariableScroll", new Test(false, LargeListViewTest::scroll));
+    }
+
+    static void jump(ListView<Integer> listView, VirtualFlow<?> flow, Random random) {
+        listView.scrollTo(random.nextInt(items));
+    }
+
+    static void scroll(ListView<Integer> listView, VirtualFlow<?> flow, Random random) {
+        if (random.nextInt(50) == 0) {
+            listView.scrollTo(random.nextInt(items));
+        } else {
+            flow.scrollPixels(100);
+        }
+    }
+
+    /**
+     * A cell whose height depends on its item, between 20 and 48 pixels.
+     */
+    static class VariableCell extends ListCell<Integer> {
+        @Override
+        protected void updateItem(Integer item, boolean empty) {
+            super.updateItem(item, empty);
+            if (empty || item == null) {
+                setText(null);
+                setPrefHeight(USE_COMPUTED_SIZE);
+            } else {
+                setText("Item " + item);
+                setPrefHeight(20 + (item % 8) * 4);
+            }
+        }
+    }
+
+    static ListView<Integer> createListView(boolean fixedSize) {
+        // the items are computed from their index, so that they use no memory
+        List<Integer> list = new AbstractList<>() {
+            @Override
+            public Integer get(int index) {
+                return index;
+            }
+
+            @Override
+            public int size() {
+                return items;
+            }
+        };
+        ListView<Integer> listView = new ListView<>(FXCollections.observableList(list));
+        if (fixedSize) {
+            listView.setFixedCellSize(24);
+        } else {
+            listView.setCellFactory(lv -> new VariableCell());
+        }
+        return listView;
+    }
+
+    static long usedHeap(MemoryMXBean memoryBean) {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memoryBean.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * Runs one test: builds the ListView, runs the warm-up scrolls and the
+     * measured scrolls, and prints the time per scroll and the retained heap.
+     */
+    static void runTest(String name, Test test) throws Exception {
+        final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        final long heapBefore = usedHeap(memoryBean);
+        final long[] time = new long[1];
+        final Object[] retained = new Object[1];
+
+        final CountDownLatch done = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            try {
+                ListView<Integer> listView = createListView(test.fixedSize());
+                Parent root = new StackPane(listView);
+                stage.setScene(new Scene(root, WIDTH, HEIGHT));
+                stage.show();
+                root.applyCss();
+                root.layout();
+                VirtualFlow<?> flow = (VirtualFlow<?>) listView.lookup(".virtual-flow");
+
+                Random random = new Random(SEED);
+                for (int i = 0; i < WARMUP_SCROLLS; i++) {
+                    test.scroll().run(listView, flow, random);
+                    root.applyCss();
+                    root.layout();
+                }
+                long start = System.nanoTime();
+                for (int i = 0; i < scrolls; i++) {
+                    test.scroll().run(listView, flow, random);
+                    root.applyCss();
+                    root.layout();
+                }
+                time[0] = System.nanoTime() - start;
+                retained[0] = listView;
+            } finally {
+                done.countDown();
+            }
+        });
+        if (!done.await(10, TimeUnit.MINUTES)) {
+            throw new IllegalStateException("Test " + name + " did not finish");
+        }
+
+        final long heapAfter = usedHeap(memoryBean);
+        System.out.println(String.format("  %-16s %12.1f %14.1f", name,
+                time[0] / 1_000.0 / scrolls, (heapAfter - heapBefore) / (1024.0 * 1024.0)));
+
+        final CountDownLatch cleared = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            stage.setScene(null);
+            retained[0] = null;
+            cleared.countDown();
+        });
+        cleared.await();
+    }
+
+    public static boolean parseCmdOptions(String[] args, List<String> testList) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+            case "-t":
+                while ((i + 1) < args.length && args[i + 1].charAt(0) != '-') {
+                    testList.add(args[++i]);
+                }
+                if (testList.isEmpty()) return false;
+                break;
+            case "-n":
+            case "-s":
+                if (i + 1 >= args.length) {
+                    System.out.println("\nNumber of " + (arg.equals("-n") ? "items" : "scrolls") + " not provided.");
+                    return false;
+                }
+                int value = Integer.parseInt(args[++i]);
+                if (value < 1) {
+                    System.out.println("\nNumber of " + (arg.equals("-n") ? "items" : "scrolls") + " must be positive.");
+                    return false;
+                }
+                if (arg.equals("-n")) {
+                    items = value;
+                } else {
+                    scrolls = value;
+                }
+                break;
+            case "-h":
+            case "--help":
+            default:
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static void printUsage() {
+        System.out.println("Usage: java @<path_to>/run.args LargeListViewTest [-t <test_name>...] [-n <items>] [-s <scrolls>] [-h]");
+        System.out.println("       Where test_name: Name of the test (or tests) to be executed.");
+        System.out.println("             items: Number of items in the ListView (default " + DEFAULT_ITEMS + ")");
+        System.out.println("             scrolls: Number of measured scroll operations (default " + DEFAULT_SCROLLS + ")");
+        System.out.println("             -h: help: print application usage");
+        System.out.println("\nSupported tests:");
+        TESTS.keySet().forEach(System.out::println);
+    }
+
+    private static void setDefaultProperty(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> testList = new ArrayList<>();
+        if (!parseCmdOptions(args, testList)) {
+            printUsage();
+            return;
+        }
+        for (String test : testList) {
+            if (!TESTS.containsKey(test)) {
+                System.out.println("\nIncorrect Test Name: " + test);
+                printUsage();
+                return;
+            }
+        }
+        if (testList.isEmpty()) {
+            testList.addAll(TESTS.keySet());
+        }
+
+        setDefaultProperty("glass.platform", "headless");
+        setDefaultProperty("prism.order", "sw");
+
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(() -> {
+            stage = new Stage();
+            Platform.setImplicitExit(false);
+            started.countDown();
+        });
+        started.await();
+
+        System.out.println("JavaFX " + System.getProperty("javafx.runtime.version")
+                + ", Java " + Runtime.version()
+                + ", glass.platform=" + System.getProperty("glass.platform")
+                + ", prism.order=" + System.getProperty("prism.order")
+                + ", items=" + items + ", measured scrolls=" + scrolls);
+        System.out.println(String.format("  %-16s %12s %14s", "Test", "us/scroll", "retained MB"));
+        try {
+            for (String test : testList) {
+                runTest(test, TESTS.get(test));
+            }
+        } finally {
+            Platform.runLater(stage::hide);
+            Platform.exit();
+        }
+    }
+}
@@ -0,0 +1,559 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package pulseperf;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.geometry.Insets;
+import javafx.scene.Group;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.stage.Stage;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * {@link PulsePerfTest} measures the time spent in each phase of the JavaFX
+ * pulse (CSS, layout, synchronization of the render graph and rendering) for a
+ * set of standard scenes, together with the allocations made while the pulses
+ * run. Unlike {@code RenderPerfTest}, it does not need a display or a GPU: it
+ * runs on the headless Glass platform with the software (SW) Prism pipeline,
+ * so it can be run on build machines.
+ *
+ * <p>
+ * Every scene is updated by an {@link AnimationTimer} on each pulse. After a
+ * number of warm-up pulses a JFR recording of the {@code javafx.PulsePhase}
+ * and {@code jdk.ObjectAllocationSample} events is made for a fixed number of
+ * pulses. The scenes are built from a fixed random seed, so that the numbers of
+ * two runs can be compared.
+ *
+ * <p>
+ * Steps to run the application:
+ * <ol>
+ *  <li>cd pulse/src</li>
+ *  <li>Command to compile the program: javac {@literal @}{@literal <}path_to{@literal >}/compile.args pulseperf/{@link PulsePerfTest}.java</li>
+ *  <li>Command to execute the program: java {@literal @}{@literal <}path_to{@literal >}/run.args pulseperf/{@link PulsePerfTest} [-t {@literal <}test_name{@literal >}...] [-w {@literal <}warmup_pulses{@literal >}] [-p {@literal <}pulses{@literal >}] [-h]</li>
+ *  Where:
+ *  <ul>
+ *      <li>test_name: Name of the test to be executed. If not specified, all tests are executed.</li>
+ *      <li>warmup_pulses: Number of pulses before the measurement starts. Default is 300.</li>
+ *      <li>pulses: Number of measured pulses. Default is 600.</li>
+ *      <li>-h: help: prints application usage.</li>
+ *  </ul>
+ * </ol>
+ * <p>
+ * The application sets {@code glass.platform=headless}, {@code prism.order=sw}
+ * and {@code javafx.animation.fullspeed=true} unless they are already set on
+ * the command line.
+ */
+public class PulsePerfTest {
+    private static final double WIDTH = 1000;
+    private static final double HEIGHT = 800;
+    private static final long SEED = 42;
+    private static final int DEFAULT_WARMUP_PULSES = 300;
+    private static final int DEFAULT_PULSES = 600;
+    private static final int TOP_ALLOCATIONS = 8;
+
+    private static final String PHASE_EVENT = "javafx.PulsePhase";
+    private static final String ALLOCATION_EVENT = "jdk.ObjectAllocationSample";
+
+    private static Stage stage;
+    private static Thread fxThread;
+    private static int warmupPulses = DEFAULT_WARMUP_PULSES;
+    private static int pulses = DEFAULT_PULSES;
+
+    /**
+     * A scene that is measured. The root is created and updated on the
+     * JavaFX Application Thread.
+     */
+    interface BenchmarkScene {
+        Parent createRoot(Random random);
+        void update(int pulse);
+    }
+
+    private static final Map<String, Supplier<BenchmarkScene>> TESTS = new LinkedHashMap<>();
+    static {
+        TESTS.put("TableView", TableViewScene::new);
+        TESTS.put("Group", GroupScene::new);
+        TESTS.put("DeepRegions", DeepRegionScene::new);
+        TESTS.put("Canvas", CanvasScene::new);
+        TESTS.put("Text", TextScene::new);
+    }
+
+    /**
+     * A TableView with 10,000 rows and 20 columns that is scrolled on every pulse.
+     */
+    static class TableViewScene implements BenchmarkScene {
+        private static final int ROWS = 10_000;
+        private static final int COLUMNS = 20;
+        private TableView<String[]> table;
+
+        @Override
+        public Parent createRoot(Random random) {
+            table = new TableView<>();
+            for (int c = 0; c < COLUMNS; c++) {
+                final int column = c;
+                TableColumn<String[], String> tc = new TableColumn<>("Column " + c);
+                tc.setCellValueFactory(f -> new ReadOnlyStringWrapper(f.getValue()[column]));
+                table.getColumns().add(tc);
+            }
+            for (int r = 0; r < ROWS; r++) {
+                String[] row = new String[COLUMNS];
+                for (int c = 0; c < COLUMNS; c++) {
+                    row[c] = Integer.toString(random.nextInt(1_000_000));
+                }
+                table.getItems().add(row);
+            }
+            return new StackPane(table);
+        }
+
+        @Override
+        public void update(int pulse) {
+            table.scrollTo((pulse * 7) % ROWS);
+        }
+    }
+
+    /**
+     * A Group with 10,000 rectangles that all move on every pulse.
+     */
+    static class GroupScene implements BenchmarkScene {
+        private static final int NODES = 10_000;
+        private final Rectangle[] nodes = new Rectangle[NODES];
+        private final double[] x = new double[NODES];
+        private final double[] y = new double[NODES];
+
+        @Override
+        public Parent createRoot(Random random) {
+            Group group = new Group();
+            for (int i = 0; i < NODES; i++) {
+                x[i] = random.nextDouble() * (WIDTH - 10);
+                y[i] = random.nextDouble() * (HEIGHT - 10);
+                nodes[i] = new Rectangle(x[i], y[i], 10, 10);
+                nodes[i].setFill(Color.rgb(random.nextInt(256), random.nextInt(256), random.nextInt(256)));
+                group.getChildren().add(nodes[i]);
+            }
+            return group;
+        }
+
+        @Override
+        public void update(int pulse) {
+            double dx = (pulse % 20) - 10;
+            for (int i = 0; i < NODES; i++) {
+                nodes[i].setTranslateX(dx);
+            }
+        }
+    }
+
+    /**
+     * 200 levels of nested StackPanes with backgrounds and borders defined in
+     * CSS. The style class of the root changes on every pulse, so that CSS is
+     * applied to every level again, and its padding changes so that every level
+     * is laid out again.
+     */
+    static class DeepRegionScene implements BenchmarkScene {
+        private static final int DEPTH = 200;
+        private static final String CSS =
+                ".level { -fx-background-color: #f0f0f0, white; -fx-background-insets: 0, 1;"
+                + " -fx-background-radius: 3; -fx-border-color: #808080; -fx-border-radius: 3; }"
+                + ".odd .level { -fx-border-color: #4060a0; }";
+        private StackPane root;
+
+        @Override
+        public Parent createRoot(Random random) {
+            root = new StackPane();
+            root.getStylesheets().add("data:text/css;base64,"
+                    + Base64.getEncoder().encodeToString(CSS.getBytes(StandardCharsets.UTF_8)));
+            StackPane parent = root;
+            for (int i = 0; i < DEPTH; i++) {
+                StackPane child = new StackPane();
+                child.getStyleClass().add("level");
+                child.setPadding(new Insets(1));
+                parent.getChildren().add(child);
+                parent = child;
+            }
+            return root;
+        }
+
+        @Override
+        public void update(int pulse) {
+            if ((pulse & 1) == 0) {
+                root.getStyleClass().remove("odd");
+            } else {
+                root.getStyleClass().add("odd");
+            }
+            root.setPadding(new Insets(pulse % 10));
+        }
+    }
+
+    /**
+     * A Canvas that is redrawn with 20,000 primitives on every pulse.
+     */
+    static class CanvasScene implements BenchmarkScene {
+        private static final int PRIMITIVES = 20_000;
+        private final double[] coords = new double[PRIMITIVES * 2];
+        private final Color[] colors = new Color[16];
+        private Canvas canvas;
+
+        @Override
+        public Parent createRoot(Random random) {
+            for (int i = 0; i < coords.length; i += 2) {
+                coords[i] = random.nextDouble() * WIDTH;
+                coords[i + 1] = random.nextDouble() * HEIGHT;
+            }
+            for (int i = 0; i < colors.length; i++) {
+                colors[i] = Color.rgb(random.nextInt(256), random.nextInt(256), random.nextInt(256));
+            }
+            canvas = new Canvas(WIDTH, HEIGHT);
+            return new Group(canvas);
+        }
+
+        @Override
+        public void update(int pulse) {
+            GraphicsContext gc = canvas.getGraphicsContext2D();
+            gc.clearRect(0, 0, WIDTH, HEIGHT);
+            double d = pulse % 10;
+            for (int i = 0; i < PRIMITIVES; i++) {
+                double x = coords[i * 2] + d;
+                double y = coords[i * 2 + 1];
+                switch (i % 3) {
+                    case 0 -> {
+                        gc.setFill(colors[i % colors.length]);
+                        gc.fillRect(x, y, 6, 6);
+                    }
+                    case 1 -> {
+                        gc.setStroke(colors[i % colors.length]);
+                        gc.strokeLine(x, y, x + 8, y + 8);
+                    }
+                    default -> {
+                        gc.setFill(colors[i % colors.length]);
+                        gc.fillOval(x, y, 6, 6);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A FlowPane with 2,000 labels, 200 of which change their text on every pulse.
+     */
+    static class TextScene implements BenchmarkScene {
+        private static final int LABELS = 2_000;
+        private static final int CHANGED = 200;
+        private static final String[] WORDS = {
+            "alpha", "beta", "gamma", "delta", "epsilon", "zeta", "eta", "theta",
+            "iota", "kappa", "lambda", "mu", "nu", "xi", "omicron", "pi",
+        };
+        private final Label[] labels = new Label[LABELS];
+
+        @Override
+        public Parent createRoot(Random random) {
+            FlowPane pane = new FlowPane(4, 2);
+            for (int i = 0; i < LABELS; i++) {
+                labels[i] = new Label(WORDS[random.nextInt(WORDS.length)] + " " + i);
+                pane.getChildren().add(labels[i]);
+            }
+            return pane;
+        }
+
+        @Override
+        public void update(int pulse) {
+            int start = (pulse * CHANGED) % LABELS;
+            for (int i = start; i < start + CHANGED; i++) {
+                labels[i].setText(WORDS[(i + pulse) % WORDS.length] + " " + pulse);
+            }
+        }
+    }
+
+    /**
+     * Runs one test: builds the scene, runs the warm-up pulses, records
+     * the measured pulses and prints the results.
+     */
+    static void runTest(String name, BenchmarkScene benchmark) throws Exception {
+        final com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final Recording recording = new Recording();
+        recording.enable(PHASE_EVENT);
+        recording.enable(ALLOCATION_EVENT).with("throttle", "1000/s");
+        recording.setToDisk(true);
+
+        final CountDownLatch done = new CountDownLatch(1);
+        final long[] allocated = new long[2];
+        final AnimationTimer[] timer = new AnimationTimer[1];
+        Platform.runLater(() -> {
+            Parent root = benchmark.createRoot(new Random(SEED));
+            stage.setScene(new Scene(root, WIDTH, HEIGHT));
+            stage.show();
+            timer[0] = new AnimationTimer() {
+                int pulse;
+
+                @Override
+                public void handle(long now) {
+                    pulse++;
+                    if (pulse == warmupPulses) {
+                        recording.start();
+                        allocated[0] = threadBean.getThreadAllocatedBytes(fxThread.threadId());
+                    } else if (pulse == warmupPulses + pulses) {
+                        allocated[1] = threadBean.getThreadAllocatedBytes(fxThread.threadId());
+                        recording.stop();
+                        stop();
+                        done.countDown();
+                        return;
+                    }
+                    benchmark.update(pulse);
+                }
+            };
+            timer[0].start();
+        });
+
+        if (!done.await(10, TimeUnit.MINUTES)) {
+            throw new IllegalStateException("Test " + name + " did not finish");
+        }
+        final CountDownLatch cleared = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            stage.setScene(null);
+            cleared.countDown();
+        });
+        cleared.await();
+
+        Path file = Files.createTempFile("pulseperf-", ".jfr");
+        try {
+            recording.dump(file);
+            recording.close();
+            report(name, RecordingFile.readAllEvents(file), allocated[1] - allocated[0]);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Prints the duration of each pulse phase and the allocation profile.
+     */
+    static void report(String name, List<RecordedEvent> events, long fxAllocatedBytes) {
+        // Per pulse, the total duration in nanos of each phase
+        Map<Integer, Map<String, Long>> pulsePhases = new TreeMap<>();
+        Map<String, Long> allocations = new HashMap<>();
+        long sampledBytes = 0;
+        for (RecordedEvent e : events) {
+            switch (e.getEventType().getName()) {
+                case PHASE_EVENT -> {
+                    int id = e.getInt("pulseId");
+                    String phase = e.getString("phaseName");
+                    if (id > 0 && phase != null) {
+                        pulsePhases.computeIfAbsent(id, _ -> new LinkedHashMap<>())
+                                   .merge(phase, e.getDuration().toNanos(), Long::sum);
+                    }
+                }
+                case ALLOCATION_EVENT -> {
+                    String type = e.getClass("objectClass").getName();
+                    String thread = e.getThread("eventThread") == null ? "?" :
+                                    e.getThread("eventThread").getJavaName();
+                    long weight = e.getLong("weight");
+                    allocations.merge(type + " [" + thread + "]", weight, Long::sum);
+                    sampledBytes += weight;
+                }
+            }
+        }
+
+        // The recording starts and stops in the middle of a pulse, and the
+        // rendering of the pulse before the last one may still be running
+        // when it stops, so those pulses are only recorded in part
+        List<Integer> ids = new ArrayList<>(pulsePhases.keySet());
+        if (ids.size() > 3) {
+            pulsePhases.remove(ids.get(0));
+            pulsePhases.remove(ids.get(ids.size() - 1));
+            pulsePhases.remove(ids.get(ids.size() - 2));
+        }
+        int count = pulsePhases.size();
+
+        Map<String, long[]> durations = new LinkedHashMap<>();
+        int index = 0;
+        for (Map<String, Long> phases : pulsePhases.values()) {
+            for (Map.Entry<String, Long> entry : phases.entrySet()) {
+                long[] d = durations.computeIfAbsent(entry.getKey(), _ -> new long[count]);
+                d[index] = entry.getValue();
+            }
+            index++;
+        }
+
+        System.out.println();
+        System.out.println(name + ": " + count + " pulses");
+        System.out.println(String.format("  %-32s %10s %10s %10s %10s", "Phase (ms)", "mean", "p50", "p90", "max"));
+        for (Map.Entry<String, long[]> entry : durations.entrySet()) {
+            long[] d = entry.getValue();
+            Arrays.sort(d);
+            double mean = Arrays.stream(d).average().orElse(0) / 1e6;
+            System.out.println(String.format("  %-32s %10.3f %10.3f %10.3f %10.3f", entry.getKey(),
+                    mean, percentile(d, 50) / 1e6, percentile(d, 90) / 1e6, d[d.length - 1] / 1e6));
+        }
+
+        int measured = Math.max(1, pulses);
+        System.out.println(String.format("  FX thread allocation: %.1f KB/pulse", fxAllocatedBytes / 1024.0 / measured));
+        System.out.println(String.format("  Sampled allocation (all threads): %.1f KB/pulse, top types:",
+                sampledBytes / 1024.0 / measured));
+        allocations.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(TOP_ALLOCATIONS)
+                .forEach(entry -> System.out.println(String.format("    %10.1f KB/pulse  %s",
+                        entry.getValue() / 1024.0 / measured, entry.getKey())));
+    }
+
+    private static long percentile(long[] sorted, int p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int i = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(i, sorted.length - 1))];
+    }
+
+    public static boolean parseCmdOptions(String[] args, List<String> testList) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+            case "-t":
+                while ((i + 1) < args.length && args[i + 1].charAt(0) != '-') {
+                    testList.add(args[++i]);
+                }
+                if (testList.isEmpty()) return false;
+                break;
+            case "-w":
+            case "-p":
+                if (i + 1 >= args.length) {
+                    System.out.println("\nNumber of pulses not provided.");
+                    return false;
+                }
+                int value = Integer.parseInt(args[++i]);
+                if (value < 1) {
+                    System.out.println("\nNumber of pulses must be positive.");
+                    return false;
+                }
+                if (arg.equals("-w")) {
+                    warmupPulses = value;
+                } else {
+                    pulses = value;
+                }
+                break;
+            case "-h":
+            case "--help":
+            default:
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static void printUsage() {
+        System.out.println("Usage: java @<path_to>/run.args PulsePerfTest [-t <test_name>...] [-w <warmup_pulses>] [-p <pulses>] [-h]");
+        System.out.println("       Where test_name: Name of the test (or tests) to be executed.");
+        System.out.println("             warmup_pulses: Number of pulses before the measurement starts (default " + DEFAULT_WARMUP_PULSES + ")");
+        System.out.println("             pulses: Number of measured pulses (default " + DEFAULT_PULSES + ")");
+        System.out.println("             -h: help: print application usage");
+        System.out.println("\nSupported tests:");
+        TESTS.keySet().forEach(System.out::println);
+    }
+
+    private static void setDefaultProperty(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> testList = new ArrayList<>();
+        if (!parseCmdOptions(args, testList)) {
+            printUsage();
+            return;
+        }
+        for (String test : testList) {
+            if (!TESTS.containsKey(test)) {
+                System.out.println("\nIncorrect Test Name: " + test);
+                printUsage();
+                return;
+            }
+        }
+        if (testList.isEmpty()) {
+            testList.addAll(TESTS.keySet());
+        }
+
+        setDefaultProperty("glass.platform", "headless");
+        setDefaultProperty("prism.order", "sw");
+        setDefaultProperty("javafx.animation.fullspeed", "true");
+
+        // The pulse phase events are only emitted if the Flight Recorder
+        // is initialized before JavaFX starts
+        FlightRecorder.getFlightRecorder();
+
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(() -> {
+            fxThread = Thread.currentThread();
+            stage = new Stage();
+            Platform.setImplicitExit(false);
+            started.countDown();
+        });
+        started.await();
+
+        System.out.println("JavaFX " + System.getProperty("javafx.runtime.version")
+                + ", Java " + Runtime.version()
+                + ", glass.platform=" + System.getProperty("glass.platform")
+                + ", prism.order=" + System.getProperty("prism.order")
+                + ", warmup pulses=" + warmupPulses + ", measured pulses=" + pulses);
+        try {
+            for (String test : testList) {
+                runTest(test, TESTS.get(test).get());
+            }
+        } finally {
+            Platform.runLater(stage::hide);
+            Platform.exit();
+        }
+    }
+}